@@ -19,6 +19,10 @@ module.exports = {
         target: 'http://127.0.0.1:8081',
         pathRewrite: {'/resources/\\d*' : ''}
       },
+      '/js/(main|vendors)-[0-9a-f]{32}.js': {
+        target: 'http://127.0.0.1:8081',
+        pathRewrite: {'-[0-9a-f]{32}\\.js$' : '.js'}
+      },
       '**': 'http://127.0.0.1:8080'
     },
     inline: true,
@@ -1,9 +1,43 @@
 const path = require('path')
+const zlib = require('zlib')
 const OptimizeCssAssetsPlugin = require('optimize-css-assets-webpack-plugin')
 const TerserPlugin = require('terser-webpack-plugin')
 
 const outputPath = path.resolve(__dirname, '../src/main/resources/static')
 
+// 서버의 EncodedResourceResolver 가 Accept-Encoding 에 맞춰 그대로 보낼 수 있도록 번들 옆에 .br/.gz 파일을 만든다.
+// 작은 파일이나 줄지 않는 파일은 원본을 보내는 편이 낫다.
+class PrecompressPlugin {
+  apply(compiler) {
+    compiler.hooks.emit.tap('PrecompressPlugin', compilation => {
+      Object.keys(compilation.assets)
+        .filter(name => /\.(js|css|html|svg)$/.test(name))
+        .forEach(name => {
+          const source = compilation.assets[name].source()
+          const original = Buffer.isBuffer(source) ? source : Buffer.from(source)
+          if (original.length < 1024) {
+            return
+          }
+          addSmaller(compilation, `${name}.gz`, original, zlib.gzipSync(original, { level: 9 }))
+          addSmaller(
+            compilation,
+            `${name}.br`,
+            original,
+            zlib.brotliCompressSync(original, {
+              params: { [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY }
+            })
+          )
+        })
+    })
+  }
+}
+
+const addSmaller = (compilation, name, original, compressed) => {
+  if (compressed.length < original.length * 0.8) {
+    compilation.assets[name] = { source: () => compressed, size: () => compressed.length }
+  }
+}
+
 module.exports = {
   mode: 'production',
   output: {
@@ -38,5 +72,6 @@ module.exports = {
       }),
       new OptimizeCssAssetsPlugin()
     ]
-  }
+  },
+  plugins: [new PrecompressPlugin()]
 }
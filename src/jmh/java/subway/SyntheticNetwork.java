@@ -0,0 +1,75 @@
+package subway;
+
+import subway.line.Line;
+import subway.line.LineSchedule;
+import subway.line.Section;
+import subway.line.Sections;
+import subway.path.SubwayGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 서울 수도권 전철 규모(역 약 700개, 노선 50여 개)의 격자형 가상 노선도입니다.
+ * 격자의 각 행과 열이 하나의 노선이 되므로 모든 역이 환승역입니다.
+ */
+public class SyntheticNetwork {
+    public static final int SIDE = 26;
+    public static final int STATION_COUNT = SIDE * SIDE;
+
+    private SyntheticNetwork() {
+    }
+
+    public static SubwayGraph buildGraph(long seed) {
+        Random random = new Random(seed);
+        SubwayGraph graph = new SubwayGraph();
+        for (int row = 0; row < SIDE; row++) {
+            for (int col = 0; col + 1 < SIDE; col++) {
+                graph.addSection(row + 1, stationId(row, col), stationId(row, col + 1), 1 + random.nextInt(5));
+            }
+        }
+        for (int col = 0; col < SIDE; col++) {
+            for (int row = 0; row + 1 < SIDE; row++) {
+                graph.addSection(SIDE + col + 1, stationId(row, col), stationId(row + 1, col), 1 + random.nextInt(5));
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * 같은 격자를 노선 목록으로 만듭니다. 구간 소요 시간은 1~4분이고, 모든 노선이 같은 시간표로 다닙니다.
+     */
+    public static List<Line> buildLines(long seed, LineSchedule schedule) {
+        Random random = new Random(seed);
+        List<Line> lines = new ArrayList<>(2 * SIDE);
+        for (int row = 0; row < SIDE; row++) {
+            List<Section> sections = new ArrayList<>(SIDE - 1);
+            for (int col = 0; col + 1 < SIDE; col++) {
+                sections.add(new Section(stationId(row, col), stationId(row, col + 1), 1 + random.nextInt(5), 1 + random.nextInt(4)));
+            }
+            lines.add(new Line((long) row + 1, "가로" + row, "bg-gray-600", 0, schedule, Sections.of(sections)));
+        }
+        for (int col = 0; col < SIDE; col++) {
+            List<Section> sections = new ArrayList<>(SIDE - 1);
+            for (int row = 0; row + 1 < SIDE; row++) {
+                sections.add(new Section(stationId(row, col), stationId(row + 1, col), 1 + random.nextInt(5), 1 + random.nextInt(4)));
+            }
+            lines.add(new Line((long) SIDE + col + 1, "세로" + col, "bg-gray-600", 0, schedule, Sections.of(sections)));
+        }
+        return lines;
+    }
+
+    public static long[][] randomPairs(long seed, int count) {
+        Random random = new Random(seed);
+        long[][] pairs = new long[count][];
+        for (int i = 0; i < count; i++) {
+            pairs[i] = new long[]{1 + random.nextInt(STATION_COUNT), 1 + random.nextInt(STATION_COUNT)};
+        }
+        return pairs;
+    }
+
+    public static long stationId(int row, int col) {
+        return row * SIDE + col + 1;
+    }
+}
@@ -0,0 +1,55 @@
+package subway.journal;
+
+import org.openjdk.jmh.annotations.*;
+import subway.path.SubwayGraph;
+import subway.station.Station;
+import subway.station.StationDao;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 저널 모드에서 지하철역 저장 한 건의 지연 시간을 측정합니다.
+ * awaitFlush=false 는 큐에 넣고 바로 돌아오는 경우, true 는 그룹 커밋의 fsync 까지 기다리는 경우입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class JournalBenchmark {
+    @Param({"false", "true"})
+    private boolean awaitFlush;
+
+    private final AtomicLong names = new AtomicLong();
+    private Path directory;
+    private Journal journal;
+    private StationDao stationDao;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-benchmark");
+        journal = new Journal(directory.resolve("subway.journal").toString(), 5, 256, awaitFlush);
+        NetworkRecovery recovery = new NetworkRecovery(journal, new SubwayGraph(), directory.resolve("subway.snapshot").toString());
+        stationDao = new StationDao(new JournalStationStore(journal, recovery));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Station save() {
+        return stationDao.save(new Station(names.incrementAndGet() + "역"));
+    }
+}
@@ -0,0 +1,97 @@
+package subway.journal;
+
+import org.openjdk.jmh.annotations.*;
+import subway.line.Line;
+import subway.line.LineDao;
+import subway.line.Section;
+import subway.line.Sections;
+import subway.path.SubwayGraph;
+import subway.station.Station;
+import subway.station.StationDao;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 역 약 10만 개(317 x 317 격자, 노선 634개)의 저널로 기동할 때 상태 복원에 걸리는 시간을 잽니다.
+ * replay 는 저널 전체를 재생하고 그래프를 새로 만드는 경우, snapshot 은 스냅샷을 매핑해 읽고 뒤의 저널만 재생하는 경우입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class StartupBenchmark {
+    private static final int SIDE = 317;
+
+    @Param({"replay", "snapshot"})
+    private String mode;
+
+    private Path directory;
+    private String journalPath;
+    private String snapshotPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("startup-benchmark");
+        journalPath = directory.resolve("subway.journal").toString();
+        snapshotPath = directory.resolve("subway.snapshot").toString();
+        Journal journal = new Journal(journalPath, 5, 256, false);
+        NetworkRecovery recovery = new NetworkRecovery(journal, new SubwayGraph(), snapshotPath);
+        StationDao stationDao = new StationDao(new JournalStationStore(journal, recovery));
+        LineDao lineDao = new LineDao(new JournalLineStore(journal, recovery));
+        List<Station> stations = new ArrayList<>(SIDE * SIDE);
+        for (int i = 0; i < SIDE * SIDE; i++) {
+            stations.add(new Station(i + "역"));
+        }
+        List<Station> saved = stationDao.saveAll(stations);
+        Random random = new Random(42);
+        for (int line = 0; line < SIDE; line++) {
+            saveLine(lineDao, random, "가로" + line, saved, line * SIDE, 1);
+            saveLine(lineDao, random, "세로" + line, saved, line, SIDE);
+        }
+        if ("snapshot".equals(mode)) {
+            new SnapshotScheduler(journal, snapshotPath).writeSnapshot();
+        }
+        journal.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public LineDao restore() throws IOException {
+        Journal journal = new Journal(journalPath, 5, 256, false);
+        try {
+            NetworkRecovery recovery = new NetworkRecovery(journal, new SubwayGraph(), snapshotPath);
+            new StationDao(new JournalStationStore(journal, recovery));
+            return new LineDao(new JournalLineStore(journal, recovery));
+        } finally {
+            journal.close();
+        }
+    }
+
+    private static void saveLine(LineDao lineDao, Random random, String name, List<Station> stations, int first, int step) {
+        Line line = lineDao.save(new Line(name, "bg-gray-600",
+                new Sections(new Section(stations.get(first).getId(), stations.get(first + step).getId(), 1 + random.nextInt(5)))));
+        List<Section> sections = new ArrayList<>(SIDE);
+        for (int i = 1; i + 1 < SIDE; i++) {
+            int up = first + i * step;
+            sections.add(new Section(stations.get(up).getId(), stations.get(up + step).getId(), 1 + random.nextInt(5)));
+        }
+        lineDao.updateSections(line, line.getSections().addAll(sections));
+    }
+}
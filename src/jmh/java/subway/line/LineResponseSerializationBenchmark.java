@@ -0,0 +1,36 @@
+package subway.line;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineResponseSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int stationCount;
+
+    private ObjectMapper objectMapper;
+    private LineResponse lineResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        List<StationResponse> stations = new ArrayList<>(stationCount);
+        for (long id = 1; id <= stationCount; id++) {
+            stations.add(new StationResponse(id, id + "역"));
+        }
+        lineResponse = new LineResponse(1L, "신분당선", "bg-red-600", stations);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(lineResponse);
+    }
+}
@@ -0,0 +1,58 @@
+package subway.line;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노선의 역 정렬 비용을 구간 수별로 측정합니다.
+ * reorderAfterInsert 는 가운데에 역을 끼워 넣었다 빼면서 매번 캐시를 무효화합니다.
+ * copyAndInsert 는 노선을 고칠 때처럼 사본을 만든 뒤 역을 끼워 넣습니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SectionsBenchmark {
+    private static final int DISTANCE = 10;
+
+    @Param({"10", "1000", "100000"})
+    private int sectionCount;
+
+    private Sections sections;
+    private Long middleStationId;
+    private Long extraStationId;
+
+    @Setup
+    public void setUp() {
+        sections = new Sections(new Section(1L, 2L, DISTANCE));
+        for (long stationId = 2; stationId <= sectionCount; stationId++) {
+            sections.add(new Section(stationId, stationId + 1, DISTANCE));
+        }
+        middleStationId = (long) sectionCount / 2 + 1;
+        extraStationId = (long) sectionCount + 2;
+    }
+
+    @Benchmark
+    public List<Long> cachedOrder() {
+        return sections.getStationIds();
+    }
+
+    @Benchmark
+    public SectionChanges insertAndRemove() {
+        sections.add(new Section(middleStationId, extraStationId, 1));
+        return sections.remove(extraStationId);
+    }
+
+    @Benchmark
+    public List<Long> reorderAfterInsert() {
+        sections.add(new Section(middleStationId, extraStationId, 1));
+        sections.remove(extraStationId);
+        return sections.getStationIds();
+    }
+
+    @Benchmark
+    public SectionChanges copyAndInsert() {
+        return sections.copy().add(new Section(middleStationId, extraStationId, 1));
+    }
+}
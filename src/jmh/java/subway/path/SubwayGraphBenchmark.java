@@ -0,0 +1,49 @@
+package subway.path;
+
+import org.openjdk.jmh.annotations.*;
+import subway.SyntheticNetwork;
+import subway.common.LongIntMap;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SubwayGraphBenchmark {
+    private static final int PAIRS = 1024;
+    private static final int MATRIX_SIZE = 100;
+
+    private SubwayGraph graph;
+    private long[][] pairs;
+    private long[] matrixSources;
+    private long[] matrixTargets;
+
+    @Setup
+    public void setUp() {
+        graph = SyntheticNetwork.buildGraph(1L);
+        pairs = SyntheticNetwork.randomPairs(2L, PAIRS);
+        matrixSources = new long[MATRIX_SIZE];
+        matrixTargets = new long[MATRIX_SIZE];
+        for (int i = 0; i < MATRIX_SIZE; i++) {
+            matrixSources[i] = pairs[i][0];
+            matrixTargets[i] = pairs[i][1];
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Benchmark
+    public Optional<PathResult> shortestPath(Cursor cursor) {
+        long[] pair = pairs[cursor.next++ & (PAIRS - 1)];
+        return graph.findShortestPath(pair[0], pair[1]);
+    }
+
+    @Benchmark
+    public DistanceMatrix distanceMatrix() {
+        return graph.distanceMatrix(matrixSources, matrixTargets, new LongIntMap(1));
+    }
+}
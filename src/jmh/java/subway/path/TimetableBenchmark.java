@@ -0,0 +1,57 @@
+package subway.path;
+
+import org.openjdk.jmh.annotations.*;
+import subway.SyntheticNetwork;
+import subway.line.Line;
+import subway.line.LineSchedule;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 격자 노선도 52개 노선이 05:30~24:00 에 5분 간격으로 다니는 하루 시간표(연결 약 58만 개)에서 가장 일찍 도착하는 경로를 찾습니다.
+ * 출발 시각은 06:00~21:00 사이에서 고릅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimetableBenchmark {
+    private static final int PAIRS = 1024;
+    private static final int TRANSFER_MINUTES = 4;
+
+    private List<Line> lines;
+    private Timetable timetable;
+    private long[][] pairs;
+    private int[] departures;
+
+    @Setup
+    public void setUp() {
+        lines = SyntheticNetwork.buildLines(1L, new LineSchedule(5 * 60 + 30, 24 * 60, 5));
+        timetable = Timetable.build(lines, 1L, TRANSFER_MINUTES);
+        pairs = SyntheticNetwork.randomPairs(2L, PAIRS);
+        Random random = new Random(3L);
+        departures = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            departures[i] = 6 * 60 + random.nextInt(15 * 60);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    @Benchmark
+    public Optional<ArrivalResult> earliestArrival(Cursor cursor) {
+        int i = cursor.next++ & (PAIRS - 1);
+        return timetable.findEarliestArrival(pairs[i][0], pairs[i][1], departures[i]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Timetable build() {
+        return Timetable.build(lines, 1L, TRANSFER_MINUTES);
+    }
+}
@@ -0,0 +1,91 @@
+package subway.station;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지하철역 저장소의 저장/삭제/전체 조회 성능을 측정합니다.
+ * assignIdByReflection 은 id 필드를 리플렉션으로 채우던 이전 방식, assignIdByCopy 는 현재 방식입니다.
+ * findById 는 경로 응답을 만들 때처럼 역을 차례로 찾습니다. -prof gc 로 조회당 할당량을 함께 봅니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StationDaoBenchmark {
+    private static final int NAMES = 1 << 16;
+
+    private String[] names;
+    private StationDao stationDao;
+    private long seq;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUpNames() {
+        names = new String[NAMES];
+        for (int i = 0; i < NAMES; i++) {
+            names[i] = i + "역";
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stationDao = new StationDao(new MemoryStationStore());
+        seq = 0L;
+        cursor = 0;
+    }
+
+    @Benchmark
+    public Station assignIdByReflection() {
+        Station station = new Station(nextName());
+        Field field = ReflectionUtils.findField(Station.class, "id");
+        field.setAccessible(true);
+        ReflectionUtils.setField(field, station, ++seq);
+        return station;
+    }
+
+    @Benchmark
+    public Station assignIdByCopy() {
+        return new Station(nextName()).withId(++seq);
+    }
+
+    @Benchmark
+    public Station save() {
+        Station station = stationDao.save(new Station(nextName()));
+        stationDao.deleteById(station.getId());
+        return station;
+    }
+
+    @Benchmark
+    public List<Station> findAll(PopulatedStations populated) {
+        return populated.stationDao.findAll();
+    }
+
+    @Benchmark
+    public Station findById(PopulatedStations populated) {
+        return populated.stationDao.findById(1 + (cursor++ % populated.stationCount)).get();
+    }
+
+    @State(Scope.Benchmark)
+    public static class PopulatedStations {
+        @Param({"100", "10000"})
+        private int stationCount;
+
+        private StationDao stationDao;
+
+        @Setup
+        public void setUp() {
+            stationDao = new StationDao(new MemoryStationStore());
+            for (int i = 0; i < stationCount; i++) {
+                stationDao.save(new Station(i + "역"));
+            }
+        }
+    }
+
+    private String nextName() {
+        return names[cursor++ & (NAMES - 1)];
+    }
+}
@@ -0,0 +1,328 @@
+package subway;
+
+import subway.common.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 중인 서버에 경로 조회와 역/노선 조회, 역 등록/삭제를 섞어 보내고 처리량과 지연 시간 백분위를 출력합니다.
+ * 클라이언트마다 응답을 받아야 다음 요청을 보내는 닫힌 부하이므로, 서버 스레드가 바닥나면 처리량이 떨어지고 지연 시간이 늘어납니다.
+ * <pre>
+ * ./gradlew loadTest -PloadTest.url=http://localhost:8080 -PloadTest.clients=400 -PloadTest.seconds=30
+ * </pre>
+ * 같은 데이터로 subway.server.threads=platform 과 virtual 을 번갈아 띄우고 결과를 비교합니다.
+ * <p>
+ * loadTest.hotPairs 를 주면 경로 조회를 그 수만큼의 (출발역, 도착역) 쌍에서만 고르고, loadTest.pathType=ARRIVAL 이면
+ * 캐시하지 않는 도착 시각 기준 경로를 같은 출발 시각으로 조회합니다. 같은 조회가 몰리는 이 부하로
+ * subway.single-flight.enabled=false 와 true 를 번갈아 띄우면, 기록 구간의 서버 CPU 사용률과 요청당 CPU 시간,
+ * 직접 계산한(leader) 요청과 합쳐진(coalesced) 요청 수를 비교할 수 있습니다.
+ * <pre>
+ * ./gradlew loadTest -PloadTest.clients=200 -PloadTest.hotPairs=20 -PloadTest.pathType=ARRIVAL
+ * </pre>
+ */
+public class LoadTest {
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+    private static final Pattern VALUE = Pattern.compile("\"value\":([-0-9.Ee]+)");
+    private static final String ARRIVAL_TIME = "08:00";
+    private static final String[] SINGLE_FLIGHTS = {"path", "arrival", "json"};
+
+    private final String baseUrl;
+    private final double writeRatio;
+    private final long[] stationIds;
+    private final long[][] hotPairs;
+    private final String pathType;
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final AtomicLong names = new AtomicLong(System.currentTimeMillis());
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    private enum Operation {
+        PATH, STATIONS, LINES, STATION_WRITE
+    }
+
+    LoadTest(String baseUrl, double writeRatio, long[] stationIds, int hotPairs, String pathType) {
+        this.baseUrl = baseUrl;
+        this.writeRatio = writeRatio;
+        this.stationIds = stationIds;
+        this.hotPairs = pickPairs(stationIds, hotPairs);
+        this.pathType = pathType;
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadTest.url", "http://localhost:8080");
+        int clients = Integer.getInteger("loadTest.clients", 200);
+        int seconds = Integer.getInteger("loadTest.seconds", 30);
+        int warmupSeconds = Integer.getInteger("loadTest.warmupSeconds", 5);
+        double writeRatio = Double.parseDouble(System.getProperty("loadTest.writeRatio", "0.05"));
+        int hotPairs = Integer.getInteger("loadTest.hotPairs", 0);
+        String pathType = System.getProperty("loadTest.pathType", "DISTANCE");
+        System.setProperty("http.maxConnections", String.valueOf(clients));
+
+        long[] stationIds = findStationIds(baseUrl);
+        if (stationIds.length < 2) {
+            throw new IllegalStateException("경로를 조회하려면 역이 두 개 이상 등록되어 있어야 합니다: " + baseUrl);
+        }
+        LoadTest loadTest = new LoadTest(baseUrl, writeRatio, stationIds, hotPairs, pathType);
+        loadTest.run(clients, warmupSeconds, seconds);
+    }
+
+    void run(int clients, int warmupSeconds, int seconds) throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            Thread client = new Thread(() -> {
+                try {
+                    while (running) {
+                        request();
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            }, "load-client-" + i);
+            client.setDaemon(true);
+            client.start();
+        }
+        Thread.sleep(warmupSeconds * 1000L);
+        double[] leadersBefore = singleFlightCalls("leader");
+        double[] coalescedBefore = singleFlightCalls("coalesced");
+        recording = true;
+        long start = System.nanoTime();
+        double cpuSum = 0;
+        int cpuSamples = 0;
+        for (int i = 0; i < seconds; i++) {
+            Thread.sleep(1000L);
+            double cpu = metric("process.cpu.usage");
+            if (!Double.isNaN(cpu)) {
+                cpuSum += cpu;
+                cpuSamples++;
+            }
+        }
+        recording = false;
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        double[] leadersAfter = singleFlightCalls("leader");
+        double[] coalescedAfter = singleFlightCalls("coalesced");
+        running = false;
+        finished.await();
+        long total = report(clients, elapsedSeconds);
+        reportCpu(cpuSamples == 0 ? Double.NaN : cpuSum / cpuSamples, elapsedSeconds, total);
+        reportSingleFlight(leadersBefore, leadersAfter, coalescedBefore, coalescedAfter);
+    }
+
+    private void request() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double dice = random.nextDouble();
+        Operation operation;
+        if (dice < writeRatio) {
+            operation = Operation.STATION_WRITE;
+        } else if (dice < writeRatio + (1 - writeRatio) * 0.7) {
+            operation = Operation.PATH;
+        } else if (random.nextBoolean()) {
+            operation = Operation.STATIONS;
+        } else {
+            operation = Operation.LINES;
+        }
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            ok = send(operation, random);
+        } catch (IOException e) {
+            ok = false;
+        }
+        if (recording) {
+            latencies.get(operation).record(System.nanoTime() - start);
+            if (!ok) {
+                errors.get(operation).increment();
+            }
+        }
+    }
+
+    private boolean send(Operation operation, ThreadLocalRandom random) throws IOException {
+        switch (operation) {
+            case PATH:
+                long source;
+                long target;
+                if (hotPairs.length > 0) {
+                    long[] pair = hotPairs[random.nextInt(hotPairs.length)];
+                    source = pair[0];
+                    target = pair[1];
+                } else {
+                    source = stationIds[random.nextInt(stationIds.length)];
+                    target = stationIds[random.nextInt(stationIds.length)];
+                }
+                String query = "/paths?source=" + source + "&target=" + target + "&type=" + pathType;
+                if ("ARRIVAL".equals(pathType)) {
+                    query += "&time=" + ARRIVAL_TIME;
+                }
+                return call("GET", query, null) < 500;
+            case STATIONS:
+                return call("GET", "/stations", null) == 200;
+            case LINES:
+                return call("GET", "/lines", null) == 200;
+            default:
+                String body = "{\"name\":\"부하역" + names.incrementAndGet() + "\"}";
+                HttpURLConnection created = open("POST", "/stations", body);
+                String response = readBody(created);
+                Matcher matcher = ID.matcher(response);
+                if (created.getResponseCode() != 201 || !matcher.find()) {
+                    return false;
+                }
+                return call("DELETE", "/stations/" + matcher.group(1), null) == 204;
+        }
+    }
+
+    private int call(String method, String path, String body) throws IOException {
+        HttpURLConnection connection = open(method, path, body);
+        readBody(connection);
+        return connection.getResponseCode();
+    }
+
+    private HttpURLConnection open(String method, String path, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty("Accept", "application/json");
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return connection;
+    }
+
+    /**
+     * 연결을 재사용할 수 있도록 오류 응답까지 끝까지 읽습니다.
+     */
+    private static String readBody(HttpURLConnection connection) throws IOException {
+        InputStream in = connection.getResponseCode() < 400 ? connection.getInputStream() : connection.getErrorStream();
+        if (in == null) {
+            return "";
+        }
+        try (InputStream body = in) {
+            StringBuilder text = new StringBuilder();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                text.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * 실행할 때마다 같은 쌍을 고르도록 시드를 고정합니다.
+     */
+    private static long[][] pickPairs(long[] stationIds, int count) {
+        Random random = new Random(42);
+        long[][] pairs = new long[count][];
+        for (int i = 0; i < count; i++) {
+            long source = stationIds[random.nextInt(stationIds.length)];
+            long target;
+            do {
+                target = stationIds[random.nextInt(stationIds.length)];
+            } while (target == source);
+            pairs[i] = new long[]{source, target};
+        }
+        return pairs;
+    }
+
+    /**
+     * 액추에이터 지표의 첫 측정값을 읽습니다. 지표가 없거나 읽지 못하면 NaN 입니다.
+     */
+    private double metric(String name) {
+        try {
+            HttpURLConnection connection = open("GET", "/actuator/metrics/" + name, null);
+            String body = readBody(connection);
+            Matcher matcher = VALUE.matcher(body);
+            if (connection.getResponseCode() != 200 || !matcher.find()) {
+                return Double.NaN;
+            }
+            return Double.parseDouble(matcher.group(1));
+        } catch (IOException e) {
+            return Double.NaN;
+        }
+    }
+
+    private double[] singleFlightCalls(String result) {
+        double[] counts = new double[SINGLE_FLIGHTS.length];
+        for (int i = 0; i < SINGLE_FLIGHTS.length; i++) {
+            counts[i] = metric("subway.singleflight.calls?tag=name:" + SINGLE_FLIGHTS[i] + "&tag=result:" + result);
+        }
+        return counts;
+    }
+
+    private static long[] findStationIds(String baseUrl) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + "/stations").openConnection();
+        connection.setRequestProperty("Accept", "application/json");
+        Matcher matcher = ID.matcher(readBody(connection));
+        List<Long> ids = new ArrayList<>();
+        while (matcher.find()) {
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private long report(int clients, double elapsedSeconds) {
+        System.out.printf("clients=%d, duration=%.1fs, stations=%d, hotPairs=%d, pathType=%s%n",
+                clients, elapsedSeconds, stationIds.length, hotPairs.length, pathType);
+        System.out.printf("%-14s %10s %10s %10s %10s %10s %8s%n", "operation", "requests", "req/s", "p50(ms)", "p99(ms)", "p99.9(ms)", "errors");
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = latencies.get(operation);
+            long count = histogram.getCount();
+            total += count;
+            System.out.printf("%-14s %10d %10.1f %10.2f %10.2f %10.2f %8d%n", operation, count, count / elapsedSeconds,
+                    histogram.getPercentileMicros(50) / 1000, histogram.getPercentileMicros(99) / 1000,
+                    histogram.getPercentileMicros(99.9) / 1000, errors.get(operation).sum());
+        }
+        System.out.printf("total: %d requests, %.1f req/s%n", total, total / elapsedSeconds);
+        return total;
+    }
+
+    /**
+     * process.cpu.usage 는 서버 프로세스가 쓴 CPU 를 코어 수로 나눈 값이므로, 코어 수를 곱해 요청당 CPU 시간으로 바꿉니다.
+     */
+    private void reportCpu(double usage, double elapsedSeconds, long requests) {
+        double cores = metric("system.cpu.count");
+        if (Double.isNaN(usage) || Double.isNaN(cores) || requests == 0) {
+            System.out.println("cpu: 서버 지표를 읽지 못했습니다.");
+            return;
+        }
+        double cpuMillis = usage * cores * elapsedSeconds * 1000;
+        System.out.printf("cpu: %.1f%% of %d cores, %.3f ms/request%n", usage * 100, (int) cores, cpuMillis / requests);
+    }
+
+    private static void reportSingleFlight(double[] leadersBefore, double[] leadersAfter,
+                                           double[] coalescedBefore, double[] coalescedAfter) {
+        for (int i = 0; i < SINGLE_FLIGHTS.length; i++) {
+            double leaders = leadersAfter[i] - leadersBefore[i];
+            double coalesced = coalescedAfter[i] - coalescedBefore[i];
+            if (Double.isNaN(leaders) || Double.isNaN(coalesced)) {
+                continue;
+            }
+            double calls = leaders + coalesced;
+            System.out.printf("single-flight %-8s leader=%.0f coalesced=%.0f ratio=%.3f%n", SINGLE_FLIGHTS[i], leaders, coalesced,
+                    calls == 0 ? 0 : coalesced / calls);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package subway;
+
+import subway.common.LatencyHistogram;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 실행 중인 서버에서 첫 화면(index 페이지와 그 페이지가 부르는 번들)을 받는 데 드는 전송 바이트와 첫 바이트까지의 시간(TTFB)을 잽니다.
+ * <p>
+ * 첫 방문은 빈 캐시로 모두 받습니다. 재방문은 브라우저처럼 immutable 이거나 max-age 가 남은 번들은 요청하지 않고,
+ * 나머지는 ETag/Last-Modified 로 재검증합니다. 바이트는 압축된 본문 그대로 셉니다.
+ * <pre>
+ * ./gradlew pageLoadTest -PpageLoad.url=http://localhost:8080 -PpageLoad.rounds=50 "-PpageLoad.encoding=br, gzip"
+ * </pre>
+ * 같은 프론트엔드 빌드로 이전 서버와 새 서버를 띄워 결과를 비교합니다.
+ */
+public class PageLoadTest {
+    private static final Pattern LOCAL_URL = Pattern.compile("(?:src|href)=\"(/[^/\"][^\"]*)\"");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final String baseUrl;
+    private final String encoding;
+    private final Map<String, Visit> visits = new HashMap<>();
+
+    PageLoadTest(String baseUrl, String encoding) {
+        this.baseUrl = baseUrl;
+        this.encoding = encoding;
+        visits.put("first", new Visit());
+        visits.put("repeat", new Visit());
+    }
+
+    public static void main(String[] args) throws IOException {
+        String baseUrl = System.getProperty("pageLoad.url", "http://localhost:8080");
+        String page = System.getProperty("pageLoad.page", "/stations");
+        int rounds = Integer.getInteger("pageLoad.rounds", 50);
+        String encoding = System.getProperty("pageLoad.encoding", "br, gzip");
+
+        PageLoadTest test = new PageLoadTest(baseUrl, encoding);
+        for (int i = 0; i < rounds; i++) {
+            test.round(page);
+        }
+        test.report(page, rounds);
+    }
+
+    /**
+     * 빈 캐시로 한 번, 그 응답을 캐시한 상태로 한 번 페이지를 엽니다.
+     */
+    void round(String page) throws IOException {
+        Map<String, Response> cache = new HashMap<>();
+        Response index = fetch(page, null, visits.get("first"), true);
+        cache.put(page, index);
+        for (String asset : findAssets(index.body)) {
+            cache.put(asset, fetch(asset, null, visits.get("first"), false));
+        }
+
+        Visit repeat = visits.get("repeat");
+        Response revalidated = fetch(page, cache.get(page), repeat, true);
+        String html = revalidated.status == HttpURLConnection.HTTP_NOT_MODIFIED ? index.body : revalidated.body;
+        for (String asset : findAssets(html)) {
+            Response cached = cache.get(asset);
+            if (cached != null && cached.isFresh()) {
+                repeat.cached++;
+                continue;
+            }
+            fetch(asset, cached, repeat, false);
+        }
+    }
+
+    private Response fetch(String path, Response cached, Visit visit, boolean page) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestProperty("Accept", page ? "text/html" : "*/*");
+        connection.setRequestProperty("Accept-Encoding", encoding);
+        if (cached != null && cached.etag != null) {
+            connection.setRequestProperty("If-None-Match", cached.etag);
+        }
+        if (cached != null && cached.lastModified != null) {
+            connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+        }
+        long start = System.nanoTime();
+        int status = connection.getResponseCode();
+        (page ? visit.pageTtfb : visit.assetTtfb).record(System.nanoTime() - start);
+        byte[] body = readBody(connection);
+        visit.requests++;
+        visit.bytes += body.length;
+        String text = page ? decode(connection, body) : "";
+        return new Response(status, text, connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"),
+                connection.getHeaderField("Cache-Control"));
+    }
+
+    private static List<String> findAssets(String html) {
+        List<String> assets = new ArrayList<>();
+        Matcher matcher = LOCAL_URL.matcher(html);
+        while (matcher.find()) {
+            assets.add(matcher.group(1));
+        }
+        return assets;
+    }
+
+    private static byte[] readBody(HttpURLConnection connection) throws IOException {
+        InputStream in = connection.getResponseCode() < 400 ? connection.getInputStream() : connection.getErrorStream();
+        if (in == null) {
+            return new byte[0];
+        }
+        try (InputStream body = in) {
+            return readAll(body);
+        }
+    }
+
+    /**
+     * index 의 번들 주소를 찾기 위해서만 풉니다. JDK 에는 brotli 해제기가 없어 br 로 온 index 는 주소를 찾지 못합니다.
+     */
+    private static String decode(HttpURLConnection connection, byte[] body) throws IOException {
+        String contentEncoding = connection.getHeaderField("Content-Encoding");
+        if (contentEncoding == null) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        if ("gzip".equalsIgnoreCase(contentEncoding)) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+                return new String(readAll(in), StandardCharsets.UTF_8);
+            }
+        }
+        throw new IllegalStateException("index 를 " + contentEncoding + " 로 받아 번들 주소를 찾을 수 없습니다.");
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private void report(String page, int rounds) {
+        System.out.printf("page=%s, rounds=%d, Accept-Encoding=%s%n", page, rounds, encoding);
+        System.out.printf("%-8s %12s %12s %12s %14s %14s%n", "visit", "requests", "cached", "bytes", "page p50(ms)", "asset p50(ms)");
+        for (String name : new String[]{"first", "repeat"}) {
+            Visit visit = visits.get(name);
+            System.out.printf("%-8s %12.1f %12.1f %12.0f %14.3f %14.3f%n", name, (double) visit.requests / rounds,
+                    (double) visit.cached / rounds, (double) visit.bytes / rounds,
+                    visit.pageTtfb.getPercentileMicros(50) / 1000, visit.assetTtfb.getPercentileMicros(50) / 1000);
+        }
+    }
+
+    private static class Visit {
+        private final LatencyHistogram pageTtfb = new LatencyHistogram();
+        private final LatencyHistogram assetTtfb = new LatencyHistogram();
+        private long requests;
+        private long cached;
+        private long bytes;
+    }
+
+    private static class Response {
+        private final int status;
+        private final String body;
+        private final String etag;
+        private final String lastModified;
+        private final String cacheControl;
+
+        Response(int status, String body, String etag, String lastModified, String cacheControl) {
+            this.status = status;
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.cacheControl = cacheControl;
+        }
+
+        /**
+         * 한 라운드는 금방 끝나므로 max-age 가 0 보다 크면 재방문 때까지 유효하다고 봅니다.
+         */
+        boolean isFresh() {
+            if (cacheControl == null || cacheControl.contains("no-cache") || cacheControl.contains("no-store")) {
+                return false;
+            }
+            if (cacheControl.contains("immutable")) {
+                return true;
+            }
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            return matcher.find() && Long.parseLong(matcher.group(1)) > 0;
+        }
+    }
+}
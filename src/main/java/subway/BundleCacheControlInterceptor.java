@@ -0,0 +1,48 @@
+package subway;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 번들 요청의 Cache-Control 을 정합니다.
+ * <p>
+ * 주소에 붙은 해시가 지금 파일 내용의 해시와 같으면 내용이 바뀔 때 주소도 바뀌므로, 1년 동안 재검증하지 않도록 immutable 로 내보냅니다.
+ * 해시가 없거나 예전 해시인 주소는 배포가 바뀌면 내용이 달라지므로 매번 재검증하게 합니다.
+ * Spring 5.3 의 CacheControl 에는 immutable 이 없어 지시어를 직접 붙입니다.
+ */
+class BundleCacheControlInterceptor implements HandlerInterceptor {
+    private static final String IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().getHeaderValue()
+            + ", immutable";
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    private final ContentVersionStrategy versionStrategy = new ContentVersionStrategy();
+    private final Supplier<ResourceUrlProvider> resourceUrlProvider;
+
+    BundleCacheControlInterceptor(Supplier<ResourceUrlProvider> resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, isCurrentVersion(path) ? IMMUTABLE : REVALIDATE);
+        return true;
+    }
+
+    private boolean isCurrentVersion(String path) {
+        String version = versionStrategy.extractVersion(path);
+        if (version == null) {
+            return false;
+        }
+        String current = resourceUrlProvider.get().getForLookupPath(versionStrategy.removeVersion(path, version));
+        return path.equals(current);
+    }
+}
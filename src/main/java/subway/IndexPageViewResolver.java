@@ -0,0 +1,153 @@
+package subway;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.View;
+import org.springframework.web.servlet.ViewResolver;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * PageController 가 돌려주는 index 뷰를 기동할 때 한 번 만들어 둔 바이트로 응답합니다.
+ * <p>
+ * index 템플릿에는 Handlebars 표현식이 없으므로 렌더링 결과는 템플릿 파일 그대로입니다. 그래서 파일을 읽어 번들 주소만
+ * 내용 해시가 붙은 주소로 바꾸고, 원본과 gzip 본을 함께 보관합니다. 페이지 주소는 바뀌지 않으므로 ETag 로 매번 재검증하게 해,
+ * 배포 뒤 첫 방문에서 새 번들 주소를 받게 합니다.
+ */
+@Component
+public class IndexPageViewResolver implements ViewResolver, Ordered {
+    private static final String VIEW_NAME = "index";
+    private static final Pattern LOCAL_URL = Pattern.compile("(src|href)=\"(/[^/\"][^\"]*)\"");
+
+    private final ResourceLoader resourceLoader;
+    private final ResourceUrlProvider resourceUrlProvider;
+    private final String templateLocation;
+    private volatile IndexPage page;
+
+    public IndexPageViewResolver(ResourceLoader resourceLoader, ResourceUrlProvider resourceUrlProvider,
+                                 @Value("${handlebars.prefix:classpath:templates/}") String prefix,
+                                 @Value("${handlebars.suffix:.hbs}") String suffix) {
+        this.resourceLoader = resourceLoader;
+        this.resourceUrlProvider = resourceUrlProvider;
+        this.templateLocation = prefix + VIEW_NAME + suffix;
+    }
+
+    /**
+     * 번들 주소는 리소스 핸들러를 모두 찾은 뒤에야 알 수 있으므로 기동이 끝난 뒤 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prerender() {
+        page = render();
+    }
+
+    @Override
+    public View resolveViewName(String viewName, Locale locale) {
+        if (!VIEW_NAME.equals(viewName)) {
+            return null;
+        }
+        IndexPage current = page;
+        if (current == null) {
+            current = render();
+            page = current;
+        }
+        return current;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+
+    private IndexPage render() {
+        String template;
+        try (InputStream in = resourceLoader.getResource(templateLocation).getInputStream()) {
+            template = StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("index 템플릿을 읽을 수 없습니다: " + templateLocation, e);
+        }
+        Matcher matcher = LOCAL_URL.matcher(template);
+        StringBuffer html = new StringBuffer(template.length() + 128);
+        while (matcher.find()) {
+            String url = resourceUrlProvider.getForLookupPath(matcher.group(2));
+            String replacement = matcher.group(1) + "=\"" + (url != null ? url : matcher.group(2)) + "\"";
+            matcher.appendReplacement(html, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(html);
+        byte[] body = html.toString().getBytes(StandardCharsets.UTF_8);
+        return new IndexPage(body, gzip(body), DigestUtils.md5DigestAsHex(body));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static class IndexPage implements View {
+        private static final String CONTENT_TYPE = MediaType.TEXT_HTML_VALUE + ";charset=UTF-8";
+        private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+        private final byte[] body;
+        private final byte[] gzipped;
+        private final String etag;
+        private final String gzipEtag;
+
+        IndexPage(byte[] body, byte[] gzipped, String hash) {
+            this.body = body;
+            this.gzipped = gzipped;
+            this.etag = "\"" + hash + "\"";
+            this.gzipEtag = "\"" + hash + "-gzip\"";
+        }
+
+        @Override
+        public String getContentType() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response)
+                throws IOException {
+            String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+            boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")
+                    && gzipped.length < body.length;
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (new ServletWebRequest(request, response).checkNotModified(gzip ? gzipEtag : etag)) {
+                return;
+            }
+            byte[] content = gzip ? gzipped : body;
+            response.setContentType(CONTENT_TYPE);
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            response.setContentLength(content.length);
+            response.getOutputStream().write(content);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package subway;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+/**
+ * 프론트엔드 번들(static/js, static/images)을 내용 해시가 붙은 주소로 내보냅니다.
+ * <p>
+ * 해시는 압축하지 않은 원본으로 계산하고, 빌드가 옆에 만들어 둔 .br/.gz 파일이 있으면 Accept-Encoding 에 맞춰 그 파일을 그대로 보냅니다.
+ * 해석한 결과는 리졸버 체인이 캐시하므로 같은 파일의 해시를 요청마다 다시 계산하지 않습니다.
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+    private static final String[] BUNDLE_DIRECTORIES = {"js", "images"};
+
+    private final ObjectProvider<ResourceUrlProvider> resourceUrlProvider;
+
+    public StaticResourceConfig(ObjectProvider<ResourceUrlProvider> resourceUrlProvider) {
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : BUNDLE_DIRECTORIES) {
+            registry.addResourceHandler(pattern(directory))
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    /**
+     * ResourceUrlProvider 는 이 설정을 모으는 MVC 설정이 만드는 빈이라, 생성자에서 바로 받지 않고 첫 요청 때 꺼냅니다.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        String[] patterns = new String[BUNDLE_DIRECTORIES.length];
+        for (int i = 0; i < patterns.length; i++) {
+            patterns[i] = pattern(BUNDLE_DIRECTORIES[i]);
+        }
+        registry.addInterceptor(new BundleCacheControlInterceptor(resourceUrlProvider::getObject))
+                .addPathPatterns(patterns);
+    }
+
+    private static String pattern(String directory) {
+        return "/" + directory + "/**";
+    }
+}
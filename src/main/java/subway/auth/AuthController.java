@@ -0,0 +1,20 @@
+package subway.auth;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class AuthController {
+    private final AuthService authService;
+
+    public AuthController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    @PostMapping("/login/token")
+    public ResponseEntity<TokenResponse> login(@RequestBody TokenRequest tokenRequest) {
+        return ResponseEntity.ok().body(authService.login(tokenRequest));
+    }
+}
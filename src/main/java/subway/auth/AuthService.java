@@ -0,0 +1,38 @@
+package subway.auth;
+
+import org.springframework.stereotype.Service;
+import subway.member.Member;
+import subway.member.MemberDao;
+
+@Service
+public class AuthService {
+    private static final String BEARER = "Bearer ";
+
+    private final MemberDao memberDao;
+    private final JwtTokenProvider tokenProvider;
+
+    public AuthService(MemberDao memberDao, JwtTokenProvider tokenProvider) {
+        this.memberDao = memberDao;
+        this.tokenProvider = tokenProvider;
+    }
+
+    public TokenResponse login(TokenRequest tokenRequest) {
+        Member member = memberDao.findByEmail(tokenRequest.getEmail())
+                .filter(it -> it.checkPassword(tokenRequest.getPassword()))
+                .orElseThrow(() -> new AuthorizationException("이메일 또는 비밀번호가 올바르지 않습니다."));
+        return new TokenResponse(tokenProvider.createToken(member.getId()));
+    }
+
+    /**
+     * Authorization 헤더 값에서 Bearer 토큰을 꺼내 회원을 찾습니다. 토큰이 유효해도 탈퇴한 회원이면 거부합니다.
+     */
+    public LoginMember findMember(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            throw new AuthorizationException("로그인이 필요합니다.");
+        }
+        long memberId = tokenProvider.getMemberId(authorization.substring(BEARER.length()).trim());
+        return memberDao.findById(memberId)
+                .map(it -> new LoginMember(it.getId(), it.getEmail(), it.getAge()))
+                .orElseThrow(() -> new AuthorizationException("존재하지 않는 회원입니다: " + memberId));
+    }
+}
@@ -0,0 +1,14 @@
+package subway.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 붙이면 Authorization 헤더의 토큰으로 찾은 {@link LoginMember} 를 넣어 줍니다. 토큰이 없거나 틀리면 401 입니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AuthenticationPrincipal {
+}
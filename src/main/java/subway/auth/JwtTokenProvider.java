@@ -0,0 +1,103 @@
+package subway.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 회원 id 를 subject 로 담은 HS256 JWT 를 만들고 검증합니다. 이메일은 바뀔 수 있으므로 토큰에는 id 만 넣습니다.
+ * 비밀 키를 설정하지 않으면 기동할 때마다 새로 만들므로, 재시작하면 발급했던 토큰은 모두 무효가 됩니다.
+ */
+@Component
+public class JwtTokenProvider {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String HEADER = encode("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final long validityMillis;
+
+    public JwtTokenProvider(ObjectMapper objectMapper,
+                            @Value("${subway.auth.secret:}") String secret,
+                            @Value("${subway.auth.validity-millis:3600000}") long validityMillis) {
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(secret.isEmpty() ? randomSecret() : secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.validityMillis = validityMillis;
+    }
+
+    public String createToken(long memberId) {
+        long now = System.currentTimeMillis() / 1000;
+        String payload = "{\"sub\":\"" + memberId + "\",\"iat\":" + now + ",\"exp\":" + (now + validityMillis / 1000) + "}";
+        String content = HEADER + "." + encode(payload.getBytes(StandardCharsets.UTF_8));
+        return content + "." + encode(sign(content));
+    }
+
+    /**
+     * 서명과 만료 시각을 확인하고 토큰의 회원 id 를 돌려줍니다.
+     */
+    public long getMemberId(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3 || !HEADER.equals(parts[0])) {
+            throw new AuthorizationException("올바른 형식의 토큰이 아닙니다.");
+        }
+        byte[] signature = decode(parts[2]);
+        if (!MessageDigest.isEqual(signature, sign(parts[0] + "." + parts[1]))) {
+            throw new AuthorizationException("서명이 올바르지 않은 토큰입니다.");
+        }
+        JsonNode payload = readPayload(parts[1]);
+        if (payload.path("exp").asLong() <= System.currentTimeMillis() / 1000) {
+            throw new AuthorizationException("만료된 토큰입니다.");
+        }
+        try {
+            return Long.parseLong(payload.path("sub").asText());
+        } catch (NumberFormatException e) {
+            throw new AuthorizationException("회원 정보가 없는 토큰입니다.");
+        }
+    }
+
+    private JsonNode readPayload(String encoded) {
+        try {
+            return objectMapper.readTree(decode(encoded));
+        } catch (IOException e) {
+            throw new AuthorizationException("올바른 형식의 토큰이 아닙니다.");
+        }
+    }
+
+    private byte[] sign(String content) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(content.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static byte[] decode(String encoded) {
+        try {
+            return Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new AuthorizationException("올바른 형식의 토큰이 아닙니다.");
+        }
+    }
+
+    private static byte[] randomSecret() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,25 @@
+package subway.auth;
+
+public class LoginMember {
+    private final Long id;
+    private final String email;
+    private final int age;
+
+    public LoginMember(Long id, String email, int age) {
+        this.id = id;
+        this.email = email;
+        this.age = age;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public int getAge() {
+        return age;
+    }
+}
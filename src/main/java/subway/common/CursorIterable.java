@@ -0,0 +1,64 @@
+package subway.common;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ToLongFunction;
+
+/**
+ * 저장소를 id 커서로 한 페이지씩 읽으며 도는 목록입니다.
+ * <p>
+ * 응답 본문으로 돌려주면 Jackson 이 JsonGenerator 로 원소를 하나씩 응답 스트림에 바로 쓰므로,
+ * 목록 전체를 리스트나 바이트 배열로 만들지 않고 한 페이지만큼의 메모리로 끝까지 내려보냅니다.
+ * 페이지 사이에 바뀐 항목은 id 순서상 아직 읽지 않은 자리에 있을 때만 보입니다.
+ */
+public class CursorIterable<T> implements Iterable<T> {
+    private final Pager<T> pager;
+    private final ToLongFunction<T> idOf;
+    private final int pageSize;
+
+    public CursorIterable(Pager<T> pager, ToLongFunction<T> idOf, int pageSize) {
+        this.pager = pager;
+        this.idOf = idOf;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private List<T> page = Collections.emptyList();
+            private int index;
+            private long after = Long.MIN_VALUE;
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                while (index == page.size()) {
+                    if (lastPage) {
+                        return false;
+                    }
+                    page = pager.find(after, pageSize);
+                    index = 0;
+                    lastPage = page.size() < pageSize;
+                    if (!page.isEmpty()) {
+                        after = idOf.applyAsLong(page.get(page.size() - 1));
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(index++);
+            }
+        };
+    }
+
+    public interface Pager<T> {
+        List<T> find(long after, int limit);
+    }
+}
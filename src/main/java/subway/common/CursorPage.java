@@ -0,0 +1,54 @@
+package subway.common;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * id 커서로 자른 목록 한 페이지입니다. 다음 페이지가 있으면 이 페이지의 마지막 id 를 다음 커서로 가집니다.
+ */
+public class CursorPage<T> {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private final List<T> items;
+    private final int limit;
+    private final Long nextCursor;
+
+    private CursorPage(List<T> items, int limit, Long nextCursor) {
+        this.items = items;
+        this.limit = limit;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * limit 보다 하나 더 읽어 온 목록으로 페이지를 만듭니다. 하나가 더 있었다면 다음 페이지가 있는 것입니다.
+     */
+    public static <T> CursorPage<T> of(List<T> itemsWithOneMore, int limit, ToLongFunction<T> idOf) {
+        if (itemsWithOneMore.size() <= limit) {
+            return new CursorPage<>(Collections.unmodifiableList(itemsWithOneMore), limit, null);
+        }
+        List<T> items = itemsWithOneMore.subList(0, limit);
+        return new CursorPage<>(Collections.unmodifiableList(items), limit, idOf.applyAsLong(items.get(limit - 1)));
+    }
+
+    public static boolean isValidLimit(int limit) {
+        return limit >= 1 && limit <= MAX_LIMIT;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public String nextLink(String path) {
+        return "<" + path + "?after=" + nextCursor + "&limit=" + limit + ">; rel=\"next\"";
+    }
+}
@@ -0,0 +1,140 @@
+package subway.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 저장소가 1부터 차례로 매기는 id 를 배열 칸 번호로 그대로 쓰는 인덱스입니다.
+ * 조회는 배열 한 칸을 읽는 것으로 끝나 id 를 박싱하거나 해시를 계산하지 않고, 목록은 정렬하지 않아도 id 순서입니다.
+ * 배열에 담기 어려운 id(음수나 너무 큰 값)는 해시맵에 따로 둡니다. 쓰기는 서로 잠그고, 읽기는 잠그지 않습니다.
+ */
+public class DenseIndex<V> {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_DENSE_ID = 1 << 24;
+
+    private final Map<Long, V> sparse = new ConcurrentHashMap<>();
+    private volatile AtomicReferenceArray<V> dense = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private volatile int denseEnd;
+    private volatile int size;
+
+    public V get(long id) {
+        if (!isDense(id)) {
+            return sparse.get(id);
+        }
+        AtomicReferenceArray<V> values = dense;
+        return id < values.length() ? values.get((int) id) : null;
+    }
+
+    public synchronized V put(long id, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("값이 없는 항목은 넣을 수 없습니다: " + id);
+        }
+        V old;
+        if (isDense(id)) {
+            ensureCapacity((int) id);
+            old = dense.getAndSet((int) id, value);
+            denseEnd = Math.max(denseEnd, (int) id + 1);
+        } else {
+            old = sparse.put(id, value);
+        }
+        if (old == null) {
+            size++;
+        }
+        return old;
+    }
+
+    public synchronized V remove(long id) {
+        V old = isDense(id) ? getAndClear((int) id) : sparse.remove(id);
+        if (old != null) {
+            size--;
+        }
+        return old;
+    }
+
+    /**
+     * 지금 값이 expected 일 때만 지웁니다.
+     */
+    public synchronized boolean remove(long id, V expected) {
+        if (expected == null || get(id) != expected) {
+            return false;
+        }
+        remove(id);
+        return true;
+    }
+
+    public boolean containsKey(long id) {
+        return get(id) != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<V> values() {
+        return valuesAfter(Long.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * id 가 after 보다 큰 값을 id 순서로 limit 개까지 돌려줍니다. 목록을 커서로 나누어 읽을 때 씁니다.
+     */
+    public List<V> valuesAfter(long after, int limit) {
+        List<V> values = new ArrayList<>(Math.min(limit, size));
+        NavigableMap<Long, V> sparseAfter = sparse.isEmpty()
+                ? Collections.emptyNavigableMap()
+                : new TreeMap<>(sparse).tailMap(after, false);
+        addUpTo(values, sparseAfter.headMap(0L, false).values(), limit);
+        AtomicReferenceArray<V> snapshot = dense;
+        int end = Math.min(denseEnd, snapshot.length());
+        if (after < end) {
+            for (long id = Math.max(0L, after + 1); id < end && values.size() < limit; id++) {
+                V value = snapshot.get((int) id);
+                if (value != null) {
+                    values.add(value);
+                }
+            }
+        }
+        addUpTo(values, sparseAfter.tailMap(0L, true).values(), limit);
+        return values;
+    }
+
+    private static <V> void addUpTo(List<V> values, Collection<V> candidates, int limit) {
+        for (V value : candidates) {
+            if (values.size() >= limit) {
+                return;
+            }
+            values.add(value);
+        }
+    }
+
+    private V getAndClear(int id) {
+        AtomicReferenceArray<V> values = dense;
+        return id < values.length() ? values.getAndSet(id, null) : null;
+    }
+
+    private void ensureCapacity(int id) {
+        AtomicReferenceArray<V> values = dense;
+        if (id < values.length()) {
+            return;
+        }
+        int capacity = values.length();
+        while (capacity <= id) {
+            capacity *= 2;
+        }
+        AtomicReferenceArray<V> grown = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < values.length(); i++) {
+            grown.set(i, values.get(i));
+        }
+        dense = grown;
+    }
+
+    private static boolean isDense(long id) {
+        return id >= 0 && id < MAX_DENSE_ID;
+    }
+}
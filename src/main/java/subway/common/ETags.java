@@ -0,0 +1,20 @@
+package subway.common;
+
+/**
+ * 저장소 버전으로 강한 ETag 를 만듭니다.
+ * 버전은 재시작하면 0 부터 다시 시작하므로, 이전 프로세스가 발급한 ETag 와 겹치지 않도록 기동 시각을 앞에 붙입니다.
+ */
+public final class ETags {
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    private ETags() {
+    }
+
+    public static String of(long... versions) {
+        StringBuilder etag = new StringBuilder(32).append('"').append(EPOCH);
+        for (long version : versions) {
+            etag.append('-').append(Long.toString(version, Character.MAX_RADIX));
+        }
+        return etag.append('"').toString();
+    }
+}
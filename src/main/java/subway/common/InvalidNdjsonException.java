@@ -0,0 +1,7 @@
+package subway.common;
+
+public class InvalidNdjsonException extends IllegalArgumentException {
+    public InvalidNdjsonException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
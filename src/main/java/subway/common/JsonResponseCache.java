@@ -0,0 +1,121 @@
+package subway.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 자주 읽히는 응답을 UTF-8 JSON 바이트 배열로 보관합니다.
+ * <p>
+ * 항목은 만들 때의 리소스 버전과 함께 저장되고, 요청한 버전보다 오래된 항목은 다시 만듭니다.
+ * 호출하는 쪽은 데이터를 읽기 전에 버전을 먼저 읽어야 합니다. 그래야 저장된 바이트가 그 버전보다 낡지 않습니다.
+ * 직렬화 시간은 키의 첫 경로 조각(stations, lines)별로 subway.json.serialize 타이머에 기록합니다.
+ * <p>
+ * 버전이 바뀐 직후 같은 키로 몰린 요청은 {@link SingleFlight} 로 합쳐, 목록을 만들고 직렬화하는 일을 한 번만 합니다.
+ */
+@Component
+public class JsonResponseCache implements MeterBinder {
+    private final ObjectMapper objectMapper;
+    private final SingleFlight<String, byte[]> builds;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Map<String, Timer> serializeTimers = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry = Timers.UNBOUND;
+
+    public JsonResponseCache(ObjectMapper objectMapper, @Value("${subway.single-flight.enabled:true}") boolean singleFlight) {
+        this.objectMapper = objectMapper;
+        this.builds = new SingleFlight<>("json", singleFlight);
+    }
+
+    public byte[] get(String key, long version, Supplier<?> body) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version >= version) {
+            hits.increment();
+            return entry.json;
+        }
+        misses.increment();
+        return builds.execute(key, version, () -> build(key, version, body));
+    }
+
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.json.cache.size", entries, Map::size)
+                .description("캐시한 JSON 응답 수")
+                .register(registry);
+        FunctionCounter.builder("subway.json.cache.gets", hits, LongAdder::sum)
+                .description("JSON 응답 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("subway.json.cache.gets", misses, LongAdder::sum)
+                .description("JSON 응답 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        builds.bindTo(registry);
+        this.registry = registry;
+        serializeTimers.clear();
+    }
+
+    private byte[] build(String key, long version, Supplier<?> body) {
+        Object value = body.get();
+        long start = System.nanoTime();
+        byte[] json = serialize(value);
+        serializeTimer(key).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        Entry built = new Entry(version, json);
+        entries.merge(key, built, (old, it) -> old.version >= it.version ? old : it);
+        return built.json;
+    }
+
+    private Timer serializeTimer(String key) {
+        int slash = key.indexOf('/');
+        String resource = slash < 0 ? key : key.substring(0, slash);
+        return serializeTimers.computeIfAbsent(resource, it -> Timers.histogram(registry, "subway.json.serialize",
+                "응답을 JSON 바이트로 직렬화한 시간", "resource", it));
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 JSON 으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private static class Entry {
+        private final long version;
+        private final byte[] json;
+
+        Entry(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
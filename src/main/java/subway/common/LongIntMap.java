@@ -0,0 +1,114 @@
+package subway.common;
+
+import java.util.Arrays;
+
+/**
+ * 역/노선 id(long) 를 조밀한 번호(int) 로 바꾸기 위한 open addressing 해시맵입니다. 키와 값을 박싱하지 않습니다.
+ * 값은 0 이상만 저장합니다. 삭제한 자리는 뒤의 항목을 당겨 메우므로 삭제 표시가 쌓이지 않습니다.
+ */
+public class LongIntMap {
+    public static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    public LongIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+    }
+
+    public int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (values[slot] == MISSING) {
+                return MISSING;
+            }
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+    }
+
+    public void put(long key, int value) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        if (insert(keys, values, key, value)) {
+            size++;
+        }
+    }
+
+    /**
+     * 키를 지우고 지운 값을 돌려줍니다. 없으면 MISSING 입니다.
+     */
+    public int remove(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != MISSING && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        int removed = values[slot];
+        if (removed == MISSING) {
+            return MISSING;
+        }
+        size--;
+        for (int next = (slot + 1) & mask; values[next] != MISSING; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+        }
+        values[slot] = MISSING;
+        return removed;
+    }
+
+    public LongIntMap copy() {
+        LongIntMap copy = new LongIntMap(1);
+        copy.keys = keys.clone();
+        copy.values = values.clone();
+        copy.size = size;
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] newKeys = new long[keys.length << 1];
+        int[] newValues = new int[values.length << 1];
+        Arrays.fill(newValues, MISSING);
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (values[slot] != MISSING) {
+                insert(newKeys, newValues, keys[slot], values[slot]);
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    private static boolean insert(long[] keys, int[] values, long key, int value) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (values[slot] == MISSING) {
+                keys[slot] = key;
+                values[slot] = value;
+                return true;
+            }
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,40 @@
+package subway.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 줄마다 JSON 객체 하나가 오는 NDJSON 본문을 한 객체씩 읽습니다. 본문 전체를 문자열이나 트리로 올리지 않습니다.
+ * 읽을 수 없는 줄이 있으면 몇 번째 줄인지 담아 {@link InvalidNdjsonException} 을 던집니다.
+ */
+@Component
+public class NdjsonReader {
+    private final ObjectMapper objectMapper;
+
+    public NdjsonReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> List<T> readAll(InputStream inputStream, Class<T> type) {
+        List<T> values = new ArrayList<>();
+        try (MappingIterator<T> iterator = objectMapper.readerFor(type).readValues(inputStream)) {
+            while (iterator.hasNextValue()) {
+                values.add(iterator.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            int line = e.getLocation() == null ? values.size() + 1 : e.getLocation().getLineNr();
+            throw new InvalidNdjsonException("NDJSON 본문의 " + line + "번째 줄을 읽을 수 없습니다.", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return values;
+    }
+}
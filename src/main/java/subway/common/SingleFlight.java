@@ -0,0 +1,139 @@
+package subway.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 (키, 버전)의 계산이 이미 진행 중이면 새로 계산하지 않고 그 결과를 함께 기다립니다.
+ * <p>
+ * 먼저 온 요청(leader)이 자기 스레드에서 계산하고, 그동안 들어온 같은 요청은 leader 의 future 를 기다렸다가 같은 값이나 같은 예외를 받습니다.
+ * 계산이 끝나면 항목을 지우므로 결과를 보관하지는 않습니다. 보관은 캐시의 몫이고, 이 클래스는 캐시가 비어 있는 순간에 몰린 요청만 합칩니다.
+ * 버전을 키에 넣으므로 데이터가 바뀐 뒤 들어온 요청이 바뀌기 전의 계산에 합쳐지지 않습니다.
+ */
+public class SingleFlight<K, V> implements MeterBinder {
+    private final String name;
+    private final boolean enabled;
+    private final Map<Flight<K>, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(String name, boolean enabled) {
+        this.name = name;
+        this.enabled = enabled;
+    }
+
+    public V execute(K key, long version, Supplier<V> computation) {
+        if (!enabled) {
+            leaders.increment();
+            return computation.get();
+        }
+        Flight<K> flight = new Flight<>(key, version);
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(flight, future);
+        if (running != null) {
+            coalesced.increment();
+            return await(running);
+        }
+        leaders.increment();
+        try {
+            V value = computation.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, future);
+        }
+    }
+
+    public long getLeaderCount() {
+        return leaders.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 지금까지의 요청 중 다른 요청의 계산에 합쳐진 비율입니다.
+     */
+    public double getCoalescingRatio() {
+        long coalescedCount = coalesced.sum();
+        long total = coalescedCount + leaders.sum();
+        return total == 0 ? 0 : (double) coalescedCount / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("subway.singleflight.calls", leaders, LongAdder::sum)
+                .description("합쳐지는 계산 요청 수. leader 는 직접 계산한 요청, coalesced 는 진행 중인 계산의 결과를 받은 요청")
+                .tags("name", name, "result", "leader")
+                .register(registry);
+        FunctionCounter.builder("subway.singleflight.calls", coalesced, LongAdder::sum)
+                .description("합쳐지는 계산 요청 수. leader 는 직접 계산한 요청, coalesced 는 진행 중인 계산의 결과를 받은 요청")
+                .tags("name", name, "result", "coalesced")
+                .register(registry);
+        Gauge.builder("subway.singleflight.coalescing.ratio", this, SingleFlight::getCoalescingRatio)
+                .description("진행 중인 계산에 합쳐진 요청의 비율")
+                .tag("name", name)
+                .register(registry);
+        Gauge.builder("subway.singleflight.in.flight", inFlight, Map::size)
+                .description("진행 중인 계산 수")
+                .tag("name", name)
+                .register(registry);
+    }
+
+    // leader 의 예외를 그대로 다시 던져 기다린 요청도 같은 응답을 받게 합니다.
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("합쳐진 계산을 기다리다 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static final class Flight<K> {
+        private final K key;
+        private final long version;
+
+        Flight(K key, long version) {
+            this.key = key;
+            this.version = version;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Flight<?> flight = (Flight<?>) o;
+            return version == flight.version && key.equals(flight.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, version);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package subway.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * 도메인 연산의 실행 시간을 재는 타이머를 만듭니다. Prometheus 에서 구간별 백분위를 계산할 수 있도록 히스토그램 버킷을 함께 내보냅니다.
+ * <p>
+ * 계측하는 빈은 MeterBinder 로 등록되어 기동할 때 레지스트리를 받습니다. 그 전이나 스프링 밖에서 만든 객체는
+ * 하위 레지스트리가 없는 {@link #UNBOUND} 의 타이머를 쓰므로 기록해도 아무 일도 일어나지 않습니다.
+ */
+public final class Timers {
+    public static final MeterRegistry UNBOUND = new CompositeMeterRegistry();
+
+    private Timers() {
+    }
+
+    public static Timer histogram(MeterRegistry registry, String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
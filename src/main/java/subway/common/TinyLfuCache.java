@@ -0,0 +1,237 @@
+package subway.common;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 크기가 정해진 W-TinyLFU 캐시입니다.
+ * <p>
+ * 새 항목은 작은 window LRU 에 먼저 들어가고, window 에서 밀려난 항목은 main LRU 에서 밀려날 항목보다
+ * 최근 조회 빈도가 높을 때만 main 에 들어갑니다. 빈도는 4비트 count-min sketch 로 세고, 조회가 용량의 10배만큼 쌓이면 반으로 줄입니다.
+ * 한 번 스치고 지나가는 키가 자주 쓰이는 항목을 밀어내지 않으므로 조회가 일부 키에 몰릴 때 LRU 보다 적중률이 높습니다.
+ * 잠금 경합을 줄이려고 키 해시로 나눈 구간마다 따로 잠급니다.
+ */
+public class TinyLfuCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+    private static final int WINDOW_PERCENT = 1;
+
+    private final Segment<K, V>[] segments;
+    private final FrequencySketch sketch;
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public TinyLfuCache(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("캐시 용량은 2 이상이어야 합니다.");
+        }
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && capacity / (segmentCount * 2) >= MIN_SEGMENT_CAPACITY) {
+            segmentCount *= 2;
+        }
+        this.capacity = capacity;
+        this.sketch = new FrequencySketch(capacity);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int segmentCapacity = capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(segmentCapacity);
+        }
+    }
+
+    /**
+     * 항목이 없거나 valid 를 통과하지 못하면 null 을 돌려줍니다. 통과하지 못한 항목은 지웁니다.
+     */
+    public V get(K key, Predicate<V> valid) {
+        int hash = spread(key.hashCode());
+        sketch.increment(hash);
+        Segment<K, V> segment = segmentFor(hash);
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value != null && !valid.test(value)) {
+            synchronized (segment) {
+                segment.remove(key, value);
+            }
+            value = null;
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        int hash = spread(key.hashCode());
+        Segment<K, V> segment = segmentFor(hash);
+        int evicted;
+        synchronized (segment) {
+            evicted = segment.put(key, value, sketch);
+        }
+        if (evicted > 0) {
+            evictions.add(evicted);
+        }
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.window.clear();
+                segment.main.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.window.size() + segment.main.size();
+            }
+        }
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return segments[(hash >>> 16) & (segments.length - 1)];
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+
+    private static class Segment<K, V> {
+        private final LinkedHashMap<K, V> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<K, V> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final int windowCapacity;
+        private final int mainCapacity;
+
+        Segment(int capacity) {
+            this.windowCapacity = Math.max(1, capacity * WINDOW_PERCENT / 100);
+            this.mainCapacity = Math.max(1, capacity - windowCapacity);
+        }
+
+        V get(K key) {
+            V value = window.get(key);
+            return value != null ? value : main.get(key);
+        }
+
+        void remove(K key, V value) {
+            if (!window.remove(key, value)) {
+                main.remove(key, value);
+            }
+        }
+
+        /**
+         * 항목을 넣고 밀려난 항목 수를 돌려줍니다.
+         */
+        int put(K key, V value, FrequencySketch sketch) {
+            if (main.containsKey(key)) {
+                main.put(key, value);
+                return 0;
+            }
+            window.put(key, value);
+            if (window.size() <= windowCapacity) {
+                return 0;
+            }
+            Iterator<Map.Entry<K, V>> eldest = window.entrySet().iterator();
+            Map.Entry<K, V> candidate = eldest.next();
+            eldest.remove();
+            if (main.size() < mainCapacity) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return 0;
+            }
+            Iterator<Map.Entry<K, V>> victims = main.entrySet().iterator();
+            Map.Entry<K, V> victim = victims.next();
+            int candidateFrequency = sketch.frequency(spread(candidate.getKey().hashCode()));
+            int victimFrequency = sketch.frequency(spread(victim.getKey().hashCode()));
+            if (candidateFrequency > victimFrequency) {
+                victims.remove();
+                main.put(candidate.getKey(), candidate.getValue());
+            }
+            return 1;
+        }
+    }
+
+    // 4비트 카운터 16개를 long 하나에 담는 count-min sketch 입니다. 갱신을 몇 번 놓쳐도 괜찮아 잠그지 않습니다.
+    private static class FrequencySketch {
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final int[] SEEDS = {0x97CB3127, 0xB19A3D77, 0x7F4A7C15, 0x2545F491};
+
+        private final long[] table;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int capacity) {
+            int length = Integer.highestOneBit(Math.max(4, capacity) - 1) << 1;
+            this.table = new long[length];
+            this.sampleSize = capacity * 10;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                int offset = counterOffset(hash, i);
+                long counter = (table[index] >>> offset) & 0xFL;
+                if (counter < 15) {
+                    table[index] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = 15;
+            for (int i = 0; i < SEEDS.length; i++) {
+                long counter = (table[indexOf(hash, i)] >>> counterOffset(hash, i)) & 0xFL;
+                frequency = (int) Math.min(frequency, counter);
+            }
+            return frequency;
+        }
+
+        private void reset() {
+            additions = 0;
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+        }
+
+        private int indexOf(int hash, int i) {
+            int h = (hash + SEEDS[i]) * SEEDS[i];
+            return (h ^ (h >>> 17)) & (table.length - 1);
+        }
+
+        private int counterOffset(int hash, int i) {
+            return ((hash >>> (i * 4)) & 0xF) << 2;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package subway.common;
+
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * subway.server.threads=virtual 이면 Tomcat 이 요청마다 가상 스레드를 하나씩 만들어 처리합니다.
+ * <p>
+ * 저장소나 로그 I/O 를 기다리는 요청이 몰려도 고정된 작업 스레드(기본 200개)가 바닥나지 않습니다.
+ * 소스는 Java 8 로 빌드하므로 실행기는 리플렉션으로 만들고, JDK 21 미만에서 이 모드를 켜면 기동할 때 실패합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "subway.server.threads", havingValue = "virtual")
+public class VirtualThreadServerConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadExecutorCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("가상 스레드 모드는 JDK 21 이상에서 실행해야 합니다. 현재 JDK: "
+                    + System.getProperty("java.version"), e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package subway.event;
+
+/**
+ * 변경 피드의 이벤트 하나입니다. data 는 보낼 때마다 다시 직렬화하지 않도록 받은 즉시 만든 JSON 입니다.
+ */
+public class ChangeEvent {
+    private final long sequence;
+    private final ChangeType type;
+    private final String data;
+
+    public ChangeEvent(long sequence, ChangeType type, String data) {
+        this.sequence = sequence;
+        this.type = type;
+        this.data = data;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public ChangeType getType() {
+        return type;
+    }
+
+    public String getData() {
+        return data;
+    }
+}
@@ -0,0 +1,236 @@
+package subway.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import subway.line.Section;
+import subway.line.SectionsChangedEvent;
+import subway.station.Station;
+import subway.station.StationCreatedEvent;
+import subway.station.StationDeletedEvent;
+
+import javax.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 역과 구간의 변경을 번호를 붙여 기록하고 구독자에게 나누어 보냅니다.
+ * <p>
+ * 이벤트는 받은 스레드에서 번호를 매겨 {@link ChangeLog} 에 넣기만 하고, 구독자에게 보내는 일은 별도 스레드가 맡습니다.
+ * 구독자마다 마지막으로 보낸 번호를 기억해 그 뒤를 로그에서 읽어 보내므로, 느린 구독자가 쓰기 요청이나 다른 구독자를 막지 않습니다.
+ * 로그에서 이미 밀려난 위치를 달라고 하거나 그만큼 뒤처진 구독자에게는 sync 를 보내 목록을 다시 받게 합니다.
+ * <p>
+ * 번호는 기동할 때마다 1부터 다시 매기므로, 이벤트 id 에는 기동마다 새로 정하는 epoch 를 붙입니다({@code <epoch>-<번호>}).
+ * 이전 프로세스가 준 id 로 이어 받으려 하면 epoch 가 달라 sync 를 받습니다.
+ */
+@Component
+public class ChangeFeed implements MeterBinder {
+    private static final int DISPATCH_THREADS = 4;
+    private static final int SEND_BATCH = 256;
+
+    private final String epoch = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, Character.MAX_RADIX);
+    private final ObjectMapper objectMapper;
+    private final ChangeLog log;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher;
+
+    public ChangeFeed(ObjectMapper objectMapper, @Value("${subway.events.retained:10000}") int retained) {
+        this.objectMapper = objectMapper;
+        this.log = new ChangeLog(retained);
+        AtomicInteger threads = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(DISPATCH_THREADS, task -> {
+            Thread thread = new Thread(task, "change-feed-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener
+    public void onStationCreated(StationCreatedEvent event) {
+        Station station = event.getStation();
+        append(ChangeType.STATION_CREATED, objectMapper.createObjectNode()
+                .put("id", station.getId())
+                .put("name", station.getName()));
+        dispatch();
+    }
+
+    @EventListener
+    public void onStationDeleted(StationDeletedEvent event) {
+        append(ChangeType.STATION_DELETED, objectMapper.createObjectNode()
+                .put("id", event.getStation().getId()));
+        dispatch();
+    }
+
+    /**
+     * 한 번의 변경에서 사라진 구간을 먼저, 새로 생긴 구간을 나중에 기록합니다. 구간 하나가 이벤트 하나입니다.
+     */
+    @EventListener
+    public void onSectionsChanged(SectionsChangedEvent event) {
+        for (Section section : event.getChanges().getRemoved()) {
+            append(ChangeType.SECTION_REMOVED, toData(event.getLineId(), section));
+        }
+        for (Section section : event.getChanges().getAdded()) {
+            append(ChangeType.SECTION_ADDED, toData(event.getLineId(), section));
+        }
+        dispatch();
+    }
+
+    /**
+     * lastEventId 를 이어 받을 수 없으면 구독한 시점의 마지막 번호로 sync 를 먼저 보냅니다.
+     */
+    public Subscription subscribe(String lastEventId, ChangeSink sink) {
+        long after = sequenceOf(lastEventId);
+        Subscription subscription = after < 0
+                ? new Subscription(log.getLastSequence(), true, sink)
+                : new Subscription(after, false, sink);
+        subscriptions.add(subscription);
+        try {
+            dispatcher.execute(subscription::drain);
+        } catch (RejectedExecutionException e) {
+            subscription.close();
+        }
+        return subscription;
+    }
+
+    public long getLastSequence() {
+        return log.getLastSequence();
+    }
+
+    public String idOf(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private long sequenceOf(String eventId) {
+        String prefix = epoch + "-";
+        if (eventId == null || !eventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.events.subscribers", subscriptions, Set::size)
+                .description("변경 피드를 구독 중인 연결 수")
+                .register(registry);
+        Gauge.builder("subway.events.sequence", log, ChangeLog::getLastSequence)
+                .description("변경 피드의 마지막 이벤트 번호")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        subscriptions.forEach(Subscription::close);
+    }
+
+    private void append(ChangeType type, ObjectNode data) {
+        try {
+            log.append(type, objectMapper.writeValueAsString(data));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectNode toData(Long lineId, Section section) {
+        return objectMapper.createObjectNode()
+                .put("lineId", lineId)
+                .put("upStationId", section.getUpStationId())
+                .put("downStationId", section.getDownStationId())
+                .put("distance", section.getDistance())
+                .put("duration", section.getDuration());
+    }
+
+    private void dispatch() {
+        for (Subscription subscription : subscriptions) {
+            subscription.schedule();
+        }
+    }
+
+    public class Subscription {
+        private final ChangeSink sink;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long position;
+        private volatile boolean syncFirst;
+        private volatile boolean cancelled;
+
+        private Subscription(long position, boolean syncFirst, ChangeSink sink) {
+            this.position = position;
+            this.syncFirst = syncFirst;
+            this.sink = sink;
+            draining.set(true);
+        }
+
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        private void schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        private void close() {
+            cancel();
+            sink.close();
+        }
+
+        // draining 을 내린 뒤 다시 확인해, 그 사이 무시된 schedule 의 이벤트도 놓치지 않습니다.
+        private void drain() {
+            try {
+                if (syncFirst) {
+                    syncFirst = false;
+                    sink.sync(position);
+                }
+                while (!cancelled) {
+                    List<ChangeEvent> events = log.readAfter(position, SEND_BATCH);
+                    if (events == null) {
+                        long last = log.getLastSequence();
+                        sink.sync(last);
+                        position = last;
+                        continue;
+                    }
+                    if (!events.isEmpty()) {
+                        for (ChangeEvent event : events) {
+                            sink.send(event);
+                            position = event.getSequence();
+                        }
+                        dispatcher.execute(this::drain);
+                        return;
+                    }
+                    draining.set(false);
+                    if (log.getLastSequence() == position || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+            } catch (Exception e) {
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package subway.event;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+@RestController
+public class ChangeFeedController {
+    private static final String SYNC_EVENT = "sync";
+
+    private final ChangeFeed changeFeed;
+    private final long timeoutMillis;
+
+    public ChangeFeedController(ChangeFeed changeFeed, @Value("${subway.events.timeout-millis:1800000}") long timeoutMillis) {
+        this.changeFeed = changeFeed;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Last-Event-ID 나 after 로 이어 받을 수 없으면 sync 이벤트를 먼저 보냅니다.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) String after,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        ChangeFeed.Subscription subscription = changeFeed.subscribe(after != null ? after : lastEventId,
+                new SseChangeSink(emitter, changeFeed));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private static class SseChangeSink implements ChangeSink {
+        private final SseEmitter emitter;
+        private final ChangeFeed changeFeed;
+
+        SseChangeSink(SseEmitter emitter, ChangeFeed changeFeed) {
+            this.emitter = emitter;
+            this.changeFeed = changeFeed;
+        }
+
+        @Override
+        public void send(ChangeEvent event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(changeFeed.idOf(event.getSequence()))
+                    .name(event.getType().getEventName())
+                    .data(event.getData()));
+        }
+
+        @Override
+        public void sync(long sequence) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(changeFeed.idOf(sequence))
+                    .name(SYNC_EVENT)
+                    .data("{\"sequence\":" + sequence + "}"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package subway.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 최근 변경 이벤트를 고정 크기 원형 버퍼에 보관합니다. 이벤트 번호는 1부터 빈틈없이 하나씩 늘어나고,
+ * 버퍼가 차면 가장 오래된 이벤트부터 덮어씁니다.
+ */
+public class ChangeLog {
+    private final ChangeEvent[] events;
+    private long lastSequence;
+
+    public ChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("보관할 이벤트 수는 1 이상이어야 합니다: " + capacity);
+        }
+        this.events = new ChangeEvent[capacity];
+    }
+
+    public synchronized ChangeEvent append(ChangeType type, String data) {
+        ChangeEvent event = new ChangeEvent(++lastSequence, type, data);
+        events[slot(event.getSequence())] = event;
+        return event;
+    }
+
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * after 뒤를 빠짐없이 돌려줄 수 없으면 null 입니다.
+     */
+    public synchronized List<ChangeEvent> readAfter(long after, int limit) {
+        if (after < 0 || after > lastSequence || after < lastSequence - events.length) {
+            return null;
+        }
+        if (after == lastSequence) {
+            return Collections.emptyList();
+        }
+        long end = Math.min(lastSequence, after + limit);
+        List<ChangeEvent> read = new ArrayList<>((int) (end - after));
+        for (long sequence = after + 1; sequence <= end; sequence++) {
+            read.add(events[slot(sequence)]);
+        }
+        return read;
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % events.length);
+    }
+}
@@ -0,0 +1,17 @@
+package subway.event;
+
+import java.io.IOException;
+
+/**
+ * 구독자에게 변경 이벤트를 내보내는 통로입니다. 한 구독자에게는 한 번에 한 스레드만 보냅니다.
+ */
+public interface ChangeSink {
+    void send(ChangeEvent event) throws IOException;
+
+    /**
+     * 이어 받을 수 없는 위치에서 구독했거나 너무 뒤처졌을 때 보냅니다. 구독자는 목록을 새로 받은 뒤 sequence 다음 이벤트부터 적용합니다.
+     */
+    void sync(long sequence) throws IOException;
+
+    void close();
+}
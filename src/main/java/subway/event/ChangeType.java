@@ -0,0 +1,18 @@
+package subway.event;
+
+public enum ChangeType {
+    STATION_CREATED("station-created"),
+    STATION_DELETED("station-deleted"),
+    SECTION_ADDED("section-added"),
+    SECTION_REMOVED("section-removed");
+
+    private final String eventName;
+
+    ChangeType(String eventName) {
+        this.eventName = eventName;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+}
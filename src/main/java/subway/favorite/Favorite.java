@@ -0,0 +1,43 @@
+package subway.favorite;
+
+public class Favorite {
+    private final long id;
+    private final long memberId;
+    private final long sourceStationId;
+    private final long targetStationId;
+
+    public Favorite(long id, long memberId, long sourceStationId, long targetStationId) {
+        this.id = id;
+        this.memberId = memberId;
+        this.sourceStationId = sourceStationId;
+        this.targetStationId = targetStationId;
+    }
+
+    public Favorite(long memberId, long sourceStationId, long targetStationId) {
+        this(0L, memberId, sourceStationId, targetStationId);
+    }
+
+    public Favorite withId(long id) {
+        return new Favorite(id, memberId, sourceStationId, targetStationId);
+    }
+
+    public boolean hasStation(long stationId) {
+        return sourceStationId == stationId || targetStationId == stationId;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getMemberId() {
+        return memberId;
+    }
+
+    public long getSourceStationId() {
+        return sourceStationId;
+    }
+
+    public long getTargetStationId() {
+        return targetStationId;
+    }
+}
@@ -0,0 +1,42 @@
+package subway.favorite;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import subway.auth.AuthenticationPrincipal;
+import subway.auth.LoginMember;
+
+import java.net.URI;
+import java.util.List;
+
+@RestController
+public class FavoriteController {
+    private final FavoriteService favoriteService;
+
+    public FavoriteController(FavoriteService favoriteService) {
+        this.favoriteService = favoriteService;
+    }
+
+    @PostMapping("/favorites")
+    public ResponseEntity<FavoriteResponse> createFavorite(@AuthenticationPrincipal LoginMember loginMember,
+                                                           @RequestBody FavoriteRequest request) {
+        FavoriteResponse favorite = favoriteService.createFavorite(loginMember.getId(), request);
+        return ResponseEntity.created(URI.create("/favorites/" + favorite.getId())).body(favorite);
+    }
+
+    @GetMapping(value = "/favorites", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<FavoriteResponse>> showFavorites(@AuthenticationPrincipal LoginMember loginMember) {
+        return ResponseEntity.ok().body(favoriteService.findFavorites(loginMember.getId()));
+    }
+
+    @DeleteMapping("/favorites/{id}")
+    public ResponseEntity deleteFavorite(@AuthenticationPrincipal LoginMember loginMember, @PathVariable Long id) {
+        favoriteService.deleteFavorite(loginMember.getId(), id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity handleInvalidFavorite() {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -0,0 +1,132 @@
+package subway.favorite;
+
+import org.springframework.stereotype.Repository;
+import subway.common.DenseIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원별 즐겨찾기를 회원 id 를 칸 번호로 쓰는 인덱스에 배열로 둡니다. 배열은 바꾸지 않고 쓰기마다 새 배열로 갈아 끼우므로,
+ * 읽는 쪽은 잠그지 않고 한 회원의 즐겨찾기를 온전히 보며, 배열이 같으면 즐겨찾기도 그대로라고 판단할 수 있습니다.
+ * 쓰기는 잠근 채로 저장소를 호출하므로, 가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 Lock 으로 잠급니다.
+ */
+@Repository
+public class FavoriteDao {
+    static final Favorite[] EMPTY = new Favorite[0];
+
+    private final FavoriteStore favoriteStore;
+    private final DenseIndex<Favorite[]> favoritesByMember = new DenseIndex<>();
+    private final Lock writeLock = new ReentrantLock();
+
+    public FavoriteDao(FavoriteStore favoriteStore) {
+        this.favoriteStore = favoriteStore;
+        Map<Long, List<Favorite>> grouped = new HashMap<>();
+        for (Favorite favorite : favoriteStore.findAll()) {
+            grouped.computeIfAbsent(favorite.getMemberId(), it -> new ArrayList<>()).add(favorite);
+        }
+        grouped.forEach((memberId, favorites) -> favoritesByMember.put(memberId, favorites.toArray(EMPTY)));
+    }
+
+    public Favorite insert(Favorite favorite) {
+        writeLock.lock();
+        try {
+            Favorite persistFavorite = favorite.withId(favoriteStore.insert(favorite));
+            Favorite[] favorites = findByMemberId(favorite.getMemberId());
+            Favorite[] grown = Arrays.copyOf(favorites, favorites.length + 1);
+            grown[favorites.length] = persistFavorite;
+            favoritesByMember.put(favorite.getMemberId(), grown);
+            return persistFavorite;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 회원의 즐겨찾기를 등록 순서대로 돌려줍니다. 다른 읽기와 함께 쓰는 배열이므로 고치면 안 됩니다.
+     */
+    public Favorite[] findByMemberId(long memberId) {
+        Favorite[] favorites = favoritesByMember.get(memberId);
+        return favorites == null ? EMPTY : favorites;
+    }
+
+    /**
+     * 즐겨찾기가 있는 회원마다 배열 하나씩, 회원 id 순서로 돌려줍니다.
+     */
+    public List<Favorite[]> findAllByMember() {
+        return favoritesByMember.values();
+    }
+
+    public boolean delete(long memberId, long favoriteId) {
+        writeLock.lock();
+        try {
+            Favorite[] favorites = findByMemberId(memberId);
+            for (int i = 0; i < favorites.length; i++) {
+                if (favorites[i].getId() == favoriteId) {
+                    favoriteStore.deleteById(favoriteId);
+                    replace(memberId, without(favorites, i));
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void deleteByMemberId(long memberId) {
+        writeLock.lock();
+        try {
+            favoriteStore.deleteByMemberId(memberId);
+            favoritesByMember.remove(memberId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 출발역이나 도착역이 stationId 인 즐겨찾기를 모든 회원에게서 지웁니다.
+     */
+    public int deleteByStationId(long stationId) {
+        writeLock.lock();
+        try {
+            int deleted = 0;
+            for (Favorite[] favorites : favoritesByMember.values()) {
+                Favorite[] kept = favorites;
+                for (int i = kept.length - 1; i >= 0; i--) {
+                    if (kept[i].hasStation(stationId)) {
+                        favoriteStore.deleteById(kept[i].getId());
+                        kept = without(kept, i);
+                        deleted++;
+                    }
+                }
+                if (kept != favorites) {
+                    replace(favorites[0].getMemberId(), kept);
+                }
+            }
+            return deleted;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void replace(long memberId, Favorite[] favorites) {
+        if (favorites.length == 0) {
+            favoritesByMember.remove(memberId);
+        } else {
+            favoritesByMember.put(memberId, favorites);
+        }
+    }
+
+    private static Favorite[] without(Favorite[] favorites, int index) {
+        Favorite[] shrunk = new Favorite[favorites.length - 1];
+        System.arraycopy(favorites, 0, shrunk, 0, index);
+        System.arraycopy(favorites, index + 1, shrunk, index, shrunk.length - index);
+        return shrunk;
+    }
+}
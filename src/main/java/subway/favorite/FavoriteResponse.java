@@ -0,0 +1,40 @@
+package subway.favorite;
+
+import subway.path.PathResponse;
+import subway.station.StationResponse;
+
+public class FavoriteResponse {
+    private Long id;
+    private StationResponse source;
+    private StationResponse target;
+    private PathResponse path;
+
+    public FavoriteResponse() {
+    }
+
+    /**
+     * path 는 미리 계산해 둔 최단 거리 경로이고, 두 역이 이어져 있지 않으면 null 입니다.
+     */
+    public FavoriteResponse(Long id, StationResponse source, StationResponse target, PathResponse path) {
+        this.id = id;
+        this.source = source;
+        this.target = target;
+        this.path = path;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public StationResponse getSource() {
+        return source;
+    }
+
+    public StationResponse getTarget() {
+        return target;
+    }
+
+    public PathResponse getPath() {
+        return path;
+    }
+}
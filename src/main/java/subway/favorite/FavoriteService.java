@@ -0,0 +1,239 @@
+package subway.favorite;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import subway.common.DenseIndex;
+import subway.common.Timers;
+import subway.line.LineDao;
+import subway.line.SectionsChangedEvent;
+import subway.member.MemberDeletedEvent;
+import subway.path.PathNotFoundException;
+import subway.path.PathResponse;
+import subway.path.PathService;
+import subway.path.PathType;
+import subway.path.SubwayGraph;
+import subway.station.Station;
+import subway.station.StationDao;
+import subway.station.StationDeletedEvent;
+import subway.station.StationResponse;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 즐겨찾기 목록은 회원마다 경로까지 계산해 둔 응답으로 보관하므로, 조회는 인덱스 한 칸을 읽는 것으로 끝납니다.
+ * <p>
+ * 계산해 둔 응답에는 그때의 그래프/노선 버전을 함께 적어 둡니다. 구간이 바뀌면 별도 스레드가 모든 회원의 응답을 다시 만드는데,
+ * 경로는 PathService 의 캐시를 거치므로 바뀐 노선을 지나지 않는 즐겨찾기는 다시 탐색하지 않습니다.
+ * 갱신이 끝나기 전의 조회는 직전 응답을 그대로 돌려줍니다.
+ */
+@Service
+public class FavoriteService implements MeterBinder {
+    private final FavoriteDao favoriteDao;
+    private final StationDao stationDao;
+    private final LineDao lineDao;
+    private final SubwayGraph subwayGraph;
+    private final PathService pathService;
+    private final DenseIndex<FavoriteRoutes> routesByMember = new DenseIndex<>();
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "favorite-routes");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Timer refreshTimer = refreshTimer(Timers.UNBOUND);
+
+    public FavoriteService(FavoriteDao favoriteDao, StationDao stationDao, LineDao lineDao, SubwayGraph subwayGraph,
+                           PathService pathService) {
+        this.favoriteDao = favoriteDao;
+        this.stationDao = stationDao;
+        this.lineDao = lineDao;
+        this.subwayGraph = subwayGraph;
+        this.pathService = pathService;
+    }
+
+    public FavoriteResponse createFavorite(Long memberId, FavoriteRequest request) {
+        validateStationExists(request.getSource());
+        validateStationExists(request.getTarget());
+        if (request.getSource().equals(request.getTarget())) {
+            throw new IllegalArgumentException("출발역과 도착역이 같은 즐겨찾기는 등록할 수 없습니다.");
+        }
+        Favorite favorite = favoriteDao.insert(new Favorite(memberId, request.getSource(), request.getTarget()));
+        FavoriteRoutes routes = refreshRoutes(memberId);
+        return routes.find(favorite.getId()).orElseGet(() -> toResponse(favorite));
+    }
+
+    /**
+     * 그래프가 바뀐 뒤 아직 갱신하지 않았으면 갱신을 걸어 두고 직전 응답을 돌려줍니다.
+     */
+    public List<FavoriteResponse> findFavorites(Long memberId) {
+        FavoriteRoutes routes = routesByMember.get(memberId);
+        if (routes == null || routes.favorites != favoriteDao.findByMemberId(memberId)) {
+            return refreshRoutes(memberId).responses;
+        }
+        if (routes.version < currentVersion()) {
+            scheduleRefresh();
+        }
+        return routes.responses;
+    }
+
+    public void deleteFavorite(Long memberId, Long favoriteId) {
+        if (!favoriteDao.delete(memberId, favoriteId)) {
+            throw new IllegalArgumentException("존재하지 않는 즐겨찾기입니다: " + favoriteId);
+        }
+        refreshRoutes(memberId);
+    }
+
+    @EventListener
+    public void onSectionsChanged(SectionsChangedEvent event) {
+        scheduleRefresh();
+    }
+
+    @EventListener
+    public void onStationDeleted(StationDeletedEvent event) {
+        if (favoriteDao.deleteByStationId(event.getStation().getId()) > 0) {
+            scheduleRefresh();
+        }
+    }
+
+    @EventListener
+    public void onMemberDeleted(MemberDeletedEvent event) {
+        favoriteDao.deleteByMemberId(event.getMember().getId());
+        routesByMember.remove(event.getMember().getId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        refreshTimer = refreshTimer(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        refresher.shutdownNow();
+    }
+
+    // 이벤트가 그래프보다 먼저 올 수 있으므로, 끝난 뒤 버전이 올라가 있으면 한 번 더 갱신합니다.
+    private void scheduleRefresh() {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                refreshPending.set(false);
+                long version = currentVersion();
+                long start = System.nanoTime();
+                for (Favorite[] favorites : favoriteDao.findAllByMember()) {
+                    refreshRoutes(favorites[0].getMemberId());
+                }
+                refreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (currentVersion() > version) {
+                    scheduleRefresh();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshPending.set(false);
+        }
+    }
+
+    // 그 사이 즐겨찾기가 또 바뀌었으면 저장하지 않습니다.
+    private FavoriteRoutes refreshRoutes(long memberId) {
+        Favorite[] favorites = favoriteDao.findByMemberId(memberId);
+        long version = currentVersion();
+        FavoriteRoutes previous = routesByMember.get(memberId);
+        Map<Long, FavoriteResponse> reusable = previous != null && previous.version == version
+                ? previous.byId()
+                : Collections.emptyMap();
+        List<FavoriteResponse> responses = new ArrayList<>(favorites.length);
+        for (Favorite favorite : favorites) {
+            FavoriteResponse response = reusable.get(favorite.getId());
+            responses.add(response != null ? response : toResponse(favorite));
+        }
+        FavoriteRoutes routes = new FavoriteRoutes(favorites, version, Collections.unmodifiableList(responses));
+        publish(memberId, routes);
+        return routes;
+    }
+
+    private synchronized void publish(long memberId, FavoriteRoutes routes) {
+        if (favoriteDao.findByMemberId(memberId) != routes.favorites) {
+            return;
+        }
+        if (routes.favorites.length == 0) {
+            routesByMember.remove(memberId);
+            return;
+        }
+        FavoriteRoutes current = routesByMember.get(memberId);
+        if (current == null || current.favorites != routes.favorites || current.version <= routes.version) {
+            routesByMember.put(memberId, routes);
+        }
+    }
+
+    private FavoriteResponse toResponse(Favorite favorite) {
+        StationResponse source = toStationResponse(favorite.getSourceStationId());
+        StationResponse target = toStationResponse(favorite.getTargetStationId());
+        PathResponse path;
+        try {
+            path = pathService.findPath(source.getId(), target.getId(), PathType.DISTANCE);
+        } catch (PathNotFoundException | IllegalArgumentException e) {
+            path = null;
+        }
+        return new FavoriteResponse(favorite.getId(), source, target, path);
+    }
+
+    private StationResponse toStationResponse(long stationId) {
+        return stationDao.findById(stationId)
+                .map(it -> new StationResponse(it.getId(), it.getName()))
+                .orElseGet(() -> new StationResponse(stationId, null));
+    }
+
+    private long currentVersion() {
+        return subwayGraph.getVersion() + lineDao.getVersion();
+    }
+
+    private void validateStationExists(Long stationId) {
+        Optional<Station> station = stationId == null ? Optional.empty() : stationDao.findById(stationId);
+        if (!station.isPresent()) {
+            throw new IllegalArgumentException("존재하지 않는 지하철역입니다: " + stationId);
+        }
+    }
+
+    private static Timer refreshTimer(MeterRegistry registry) {
+        return Timers.histogram(registry, "subway.favorites.refresh", "그래프 변경 뒤 모든 회원의 즐겨찾기 경로를 다시 만드는 시간");
+    }
+
+    private static class FavoriteRoutes {
+        private final Favorite[] favorites;
+        private final long version;
+        private final List<FavoriteResponse> responses;
+
+        FavoriteRoutes(Favorite[] favorites, long version, List<FavoriteResponse> responses) {
+            this.favorites = favorites;
+            this.version = version;
+            this.responses = responses;
+        }
+
+        Optional<FavoriteResponse> find(long favoriteId) {
+            return responses.stream()
+                    .filter(it -> it.getId() == favoriteId)
+                    .findFirst();
+        }
+
+        Map<Long, FavoriteResponse> byId() {
+            Map<Long, FavoriteResponse> byId = new HashMap<>();
+            responses.forEach(it -> byId.put(it.getId(), it));
+            return byId;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package subway.favorite;
+
+import java.util.List;
+
+/**
+ * 즐겨찾기를 영속화하는 저장소입니다. 조회는 FavoriteDao 의 회원별 배열이 담당하고, 여기서는 기동할 때 한 번만 읽습니다.
+ */
+public interface FavoriteStore {
+    List<Favorite> findAll();
+
+    long insert(Favorite favorite);
+
+    void deleteById(long id);
+
+    void deleteByMemberId(long memberId);
+}
@@ -0,0 +1,53 @@
+package subway.favorite;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+@Repository
+@ConditionalOnExpression("'${subway.persistence:jdbc}' != 'memory'")
+public class JdbcFavoriteStore implements FavoriteStore {
+    private static final String INSERT_SQL = "insert into FAVORITE (member_id, source_station_id, target_station_id) values (?, ?, ?)";
+    private static final RowMapper<Favorite> FAVORITE_ROW_MAPPER = (rs, rowNum) -> new Favorite(
+            rs.getLong("id"), rs.getLong("member_id"), rs.getLong("source_station_id"), rs.getLong("target_station_id"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcFavoriteStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Favorite> findAll() {
+        return jdbcTemplate.query("select id, member_id, source_station_id, target_station_id from FAVORITE order by id", FAVORITE_ROW_MAPPER);
+    }
+
+    @Override
+    public long insert(Favorite favorite) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            statement.setLong(1, favorite.getMemberId());
+            statement.setLong(2, favorite.getSourceStationId());
+            statement.setLong(3, favorite.getTargetStationId());
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    @Override
+    public void deleteById(long id) {
+        jdbcTemplate.update("delete from FAVORITE where id = ?", id);
+    }
+
+    @Override
+    public void deleteByMemberId(long memberId) {
+        jdbcTemplate.update("delete from FAVORITE where member_id = ?", memberId);
+    }
+}
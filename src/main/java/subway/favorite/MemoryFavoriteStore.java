@@ -0,0 +1,32 @@
+package subway.favorite;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "memory")
+public class MemoryFavoriteStore implements FavoriteStore {
+    private final AtomicLong seq = new AtomicLong();
+
+    @Override
+    public List<Favorite> findAll() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public long insert(Favorite favorite) {
+        return seq.incrementAndGet();
+    }
+
+    @Override
+    public void deleteById(long id) {
+    }
+
+    @Override
+    public void deleteByMemberId(long memberId) {
+    }
+}
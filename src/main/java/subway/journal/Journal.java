@@ -0,0 +1,450 @@
+package subway.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 상태의 변경을 순서대로 덧붙이는 추가 전용 저널입니다.
+ * <p>
+ * 쓰기 스레드는 레코드를 직렬화해 큐에 넣기만 하고, 별도 스레드가 flush 간격이나 레코드 수가 찰 때마다 모아서 쓰고 fsync 합니다.
+ * await-flush 를 켜면 쓰기 스레드는 자기 레코드가 fsync 될 때까지 기다리고, 끄면 마지막 flush 간격만큼의 쓰기를 잃을 수 있습니다.
+ * 레코드마다 길이와 CRC 를 붙여, 기동할 때 중간에 잘린 마지막 레코드는 버리고 그 앞까지만 복원합니다.
+ * 위치는 첫 레코드부터 센 바이트 오프셋이며, 스냅샷은 자신이 반영한 저널 위치를 함께 저장해 그 뒤부터만 재생하게 합니다.
+ * 저널은 시작 위치를 이름 뒤에 붙인 세그먼트 파일로 나뉘고, 스냅샷을 쓴 뒤 새 세그먼트로 넘어가 스냅샷이 반영한 세그먼트를 지웁니다.
+ * 큐에 넣는 일과 닫는 일은 같은 잠금으로 묶어, 닫을 때 넣는 마지막 표시 레코드 뒤에는 어떤 레코드도 들어오지 않게 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "journal")
+public class Journal {
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+    private static final Pattern SEGMENT_SUFFIX = Pattern.compile("\\.\\d{20}");
+
+    private final Path path;
+    private final Path directory;
+    private final long flushIntervalNanos;
+    private final int flushEntries;
+    private final boolean awaitFlush;
+    private final BlockingQueue<PendingRecord> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+    private final ReentrantReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private volatile FileChannel channel;
+    private volatile long segmentBase;
+    private volatile boolean running = true;
+    private volatile IOException failure;
+    private volatile long durableLength;
+
+    public Journal(@Value("${subway.journal.path:./data/subway.journal}") String path,
+                   @Value("${subway.journal.flush-interval-millis:5}") long flushIntervalMillis,
+                   @Value("${subway.journal.flush-entries:256}") int flushEntries,
+                   @Value("${subway.journal.await-flush:true}") boolean awaitFlush) throws IOException {
+        this.path = Paths.get(path).toAbsolutePath();
+        this.directory = this.path.getParent();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flushEntries = flushEntries;
+        this.awaitFlush = awaitFlush;
+        Files.createDirectories(directory);
+        NavigableMap<Long, Path> segments = listSegments();
+        if (segments.isEmpty() && Files.exists(this.path)) {
+            Files.move(this.path, segmentPath(0));
+            segments.put(0L, segmentPath(0));
+        }
+        this.segmentBase = segments.isEmpty() ? 0 : segments.lastKey();
+        this.channel = FileChannel.open(segmentPath(segmentBase), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.durableLength = segmentBase + channel.size();
+        channel.position(channel.size());
+        this.flusher = new Thread(this::flushLoop, "journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * 레코드를 직렬화해 저널 큐에 넣습니다. 이전 flush 가 실패했다면 메모리 상태가 저널보다 앞서지 않도록 예외를 던집니다.
+     */
+    public void append(byte type, RecordWriter writer) {
+        PendingRecord record = new PendingRecord(encode(type, writer), awaitFlush ? new CompletableFuture<>() : null);
+        enqueue(record);
+        if (record.flushed != null) {
+            await(record.flushed);
+        }
+    }
+
+    /**
+     * 깨진 꼬리는 잘라 냅니다. 기동할 때 덧붙이기 전에 한 번만 호출합니다.
+     */
+    public long recover(long from, RecordReader reader) {
+        try {
+            long size = segmentBase + channel.size();
+            if (from > size) {
+                throw new IllegalStateException("스냅샷이 저널보다 앞서 있습니다: " + path);
+            }
+            long end = read(from, size, reader);
+            channel.truncate(end - segmentBase);
+            channel.position(end - segmentBase);
+            durableLength = end;
+            return end;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이미 fsync 된 [from, to) 구간의 레코드를 읽습니다. 기록과 동시에 호출해도 됩니다.
+     */
+    public long replay(long from, long to, RecordReader reader) {
+        try {
+            return read(from, to, reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getDurableLength() {
+        return durableLength;
+    }
+
+    /**
+     * 지금까지 넣은 레코드가 모두 fsync 될 때까지 기다립니다.
+     */
+    public void flush() {
+        PendingRecord marker = new PendingRecord(null, new CompletableFuture<>(), Marker.FLUSH);
+        enqueue(marker);
+        await(marker.flushed);
+    }
+
+    /**
+     * 이후 레코드는 지금 위치에서 시작하는 새 세그먼트에 씁니다.
+     */
+    public void roll() {
+        PendingRecord marker = new PendingRecord(null, new CompletableFuture<>(), Marker.ROLL);
+        enqueue(marker);
+        await(marker.flushed);
+    }
+
+    /**
+     * offset 까지 안에서 끝나는 지난 세그먼트를 지웁니다. 스냅샷이 offset 까지 반영해 기록된 뒤에만 호출해야 합니다.
+     */
+    public void deleteSegmentsBefore(long offset) throws IOException {
+        NavigableMap<Long, Path> segments = listSegments();
+        for (Map.Entry<Long, Path> segment : segments.headMap(segmentBase, false).entrySet()) {
+            if (segments.higherKey(segment.getKey()) <= offset) {
+                Files.delete(segment.getValue());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        PendingRecord marker = new PendingRecord(null, new CompletableFuture<>(), Marker.CLOSE);
+        Lock lock = lifecycle.writeLock();
+        lock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            queue.add(marker);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            await(marker.flushed);
+        } finally {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            channel.close();
+        }
+    }
+
+    private void enqueue(PendingRecord record) {
+        Lock lock = lifecycle.readLock();
+        lock.lock();
+        try {
+            IOException lastFailure = failure;
+            if (lastFailure != null || !running) {
+                throw new IllegalStateException("저널에 기록할 수 없습니다: " + path, lastFailure);
+            }
+            queue.add(record);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 마지막이 아닌 세그먼트는 fsync 했으므로 끝까지 읽지 못하면 손상입니다.
+    private long read(long from, long to, RecordReader reader) throws IOException {
+        NavigableMap<Long, Path> segments = listSegments();
+        Long first = segments.floorKey(from);
+        if (first == null) {
+            throw new IllegalStateException("스냅샷 뒤의 저널 세그먼트가 없습니다: " + path);
+        }
+        long position = from;
+        for (Map.Entry<Long, Path> segment : segments.tailMap(first, true).entrySet()) {
+            Long next = segments.higherKey(segment.getKey());
+            long end = next == null ? to : Math.min(next, to);
+            if (position >= end) {
+                break;
+            }
+            position = readSegment(segment.getValue(), segment.getKey(), position, end, reader);
+            if (position < end) {
+                if (next != null) {
+                    throw new IllegalStateException("손상된 저널 세그먼트입니다: " + segment.getValue());
+                }
+                break;
+            }
+        }
+        return position;
+    }
+
+    private long readSegment(Path segment, long base, long from, long to, RecordReader reader) throws IOException {
+        try (FileChannel source = FileChannel.open(segment, StandardOpenOption.READ)) {
+            source.position(from - base);
+            DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(source), 64 * 1024));
+            CRC32 crc = new CRC32();
+            byte[] payload = new byte[256];
+            long position = from;
+            while (position + HEADER_SIZE <= to) {
+                int length = input.readInt();
+                int checksum = input.readInt();
+                if (length <= 0 || length > MAX_RECORD_SIZE || position + HEADER_SIZE + length > to) {
+                    break;
+                }
+                if (payload.length < length) {
+                    payload = new byte[Math.max(length, payload.length << 1)];
+                }
+                input.readFully(payload, 0, length);
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload, 0, length));
+                reader.read(record.readByte(), record);
+                position += HEADER_SIZE + length;
+            }
+            return position;
+        }
+    }
+
+    private NavigableMap<Long, Path> listSegments() throws IOException {
+        String prefix = path.getFileName().toString();
+        NavigableMap<Long, Path> segments = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + ".*")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                if (SEGMENT_SUFFIX.matcher(suffix).matches()) {
+                    segments.put(Long.parseLong(suffix.substring(1)), file);
+                }
+            }
+        }
+        return segments;
+    }
+
+    private Path segmentPath(long base) {
+        return path.resolveSibling(String.format("%s.%020d", path.getFileName(), base));
+    }
+
+    private byte[] encode(byte type, RecordWriter writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeByte(type);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] record = bytes.toByteArray();
+        int length = record.length - HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(record, HEADER_SIZE, length);
+        ByteBuffer.wrap(record).putInt(length).putInt((int) crc.getValue());
+        return record;
+    }
+
+    // close() 의 표시 레코드는 큐의 마지막 레코드이므로 그것까지 쓰고 멈춥니다.
+    private void flushLoop() {
+        List<PendingRecord> batch = new ArrayList<>(flushEntries);
+        try {
+            boolean closing = false;
+            while (!closing) {
+                PendingRecord last = queue.take();
+                batch.add(last);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (last.payload != null && batch.size() < flushEntries) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingRecord next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    last = next;
+                }
+                closing = last.marker == Marker.CLOSE;
+                write(batch, last.marker == Marker.ROLL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.drainTo(batch);
+        IllegalStateException closed = new IllegalStateException("저널이 닫혔습니다: " + path);
+        batch.forEach(it -> it.fail(closed));
+    }
+
+    private void write(List<PendingRecord> batch, boolean roll) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            if (failure != null) {
+                throw failure;
+            }
+            long written = 0;
+            for (PendingRecord record : batch) {
+                if (record.payload != null) {
+                    put(record.payload);
+                    written += record.payload.length;
+                }
+            }
+            drainBuffer();
+            channel.force(false);
+            durableLength += written;
+            if (roll && durableLength > segmentBase) {
+                startSegment();
+            }
+            batch.forEach(PendingRecord::complete);
+        } catch (IOException e) {
+            failure = e;
+            batch.forEach(it -> it.fail(e));
+        }
+        batch.clear();
+    }
+
+    private void startSegment() throws IOException {
+        long base = durableLength;
+        FileChannel next = FileChannel.open(segmentPath(base), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        forceDirectory();
+        channel.close();
+        channel = next;
+        segmentBase = base;
+    }
+
+    private void forceDirectory() {
+        try (FileChannel parent = FileChannel.open(directory, StandardOpenOption.READ)) {
+            parent.force(true);
+        } catch (IOException e) {
+            // Windows 에서는 디렉터리를 채널로 열 수 없습니다.
+        }
+    }
+
+    private void put(byte[] payload) throws IOException {
+        if (buffer.remaining() < payload.length) {
+            drainBuffer();
+            if (buffer.capacity() < payload.length) {
+                buffer = ByteBuffer.allocateDirect(payload.length);
+            }
+        }
+        buffer.put(payload);
+    }
+
+    private void drainBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void await(CompletableFuture<Void> flushed) {
+        try {
+            flushed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("저널 기록을 기다리다 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("저널에 기록할 수 없습니다.", e.getCause());
+        }
+    }
+
+    @FunctionalInterface
+    public interface RecordWriter {
+        void write(DataOutput out) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface RecordReader {
+        void read(byte type, DataInput in) throws IOException;
+    }
+
+    private enum Marker {
+        FLUSH, ROLL, CLOSE
+    }
+
+    private static class PendingRecord {
+        private final byte[] payload;
+        private final CompletableFuture<Void> flushed;
+        private final Marker marker;
+
+        PendingRecord(byte[] payload, CompletableFuture<Void> flushed) {
+            this(payload, flushed, null);
+        }
+
+        PendingRecord(byte[] payload, CompletableFuture<Void> flushed, Marker marker) {
+            this.payload = payload;
+            this.flushed = flushed;
+            this.marker = marker;
+        }
+
+        void complete() {
+            if (flushed != null) {
+                flushed.complete(null);
+            }
+        }
+
+        void fail(Exception e) {
+            if (flushed != null) {
+                flushed.completeExceptionally(e);
+            }
+        }
+    }
+}
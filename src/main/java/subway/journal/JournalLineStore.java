@@ -0,0 +1,86 @@
+package subway.journal;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import subway.line.Line;
+import subway.line.LineStore;
+import subway.line.Section;
+import subway.line.SectionChanges;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노선과 구간 변경을 저널에 덧붙이는 저장소입니다. 구간은 변경분만 기록합니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "journal")
+public class JournalLineStore implements LineStore {
+    private final Journal journal;
+    private final AtomicLong seq;
+    private List<Line> restored;
+
+    public JournalLineStore(Journal journal, NetworkRecovery recovery) {
+        this.journal = journal;
+        this.seq = new AtomicLong(recovery.getState().getLastLineId());
+        this.restored = recovery.getState().toLines();
+    }
+
+    @Override
+    public List<Line> findAll() {
+        List<Line> lines = restored;
+        restored = Collections.emptyList();
+        return lines;
+    }
+
+    @Override
+    public Long insert(Line line) {
+        long id = seq.incrementAndGet();
+        List<Section> sections = line.getSections().getSections();
+        journal.append(NetworkState.LINE_INSERTED, out -> {
+            out.writeLong(id);
+            out.writeUTF(line.getName());
+            out.writeUTF(line.getColor());
+            out.writeInt(line.getExtraFare());
+            NetworkState.writeSections(out, sections);
+        });
+        appendSchedule(id, line);
+        return id;
+    }
+
+    @Override
+    public void update(Line line) {
+        journal.append(NetworkState.LINE_UPDATED, out -> {
+            out.writeLong(line.getId());
+            out.writeUTF(line.getName());
+            out.writeUTF(line.getColor());
+            out.writeInt(line.getExtraFare());
+        });
+        appendSchedule(line.getId(), line);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        journal.append(NetworkState.LINE_DELETED, out -> out.writeLong(id));
+    }
+
+    @Override
+    public void saveSectionChanges(Long lineId, SectionChanges changes) {
+        journal.append(NetworkState.SECTIONS_CHANGED, out -> {
+            out.writeLong(lineId);
+            NetworkState.writeSections(out, changes.getRemoved());
+            NetworkState.writeSections(out, changes.getAdded());
+        });
+    }
+
+    // 시간표 레코드가 없는 예전 저널의 노선은 기본 시간표로 복원됩니다.
+    private void appendSchedule(long id, Line line) {
+        journal.append(NetworkState.LINE_SCHEDULE_CHANGED, out -> {
+            out.writeLong(id);
+            out.writeInt(line.getSchedule().getFirstDeparture());
+            out.writeInt(line.getSchedule().getLastDeparture());
+            out.writeInt(line.getSchedule().getHeadway());
+        });
+    }
+}
@@ -0,0 +1,65 @@
+package subway.journal;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import subway.station.Station;
+import subway.station.StationStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지하철역 변경을 저널에 덧붙이는 저장소입니다. 기동 시 상태와 id 순번은 NetworkRecovery 가 복원한 것을 씁니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "journal")
+public class JournalStationStore implements StationStore {
+    private final Journal journal;
+    private final AtomicLong seq;
+    private List<Station> restored;
+
+    public JournalStationStore(Journal journal, NetworkRecovery recovery) {
+        this.journal = journal;
+        this.seq = new AtomicLong(recovery.getState().getLastStationId());
+        this.restored = new ArrayList<>(recovery.getState().getStations());
+    }
+
+    @Override
+    public List<Station> findAll() {
+        List<Station> stations = restored;
+        restored = Collections.emptyList();
+        return stations;
+    }
+
+    @Override
+    public Long insert(Station station) {
+        return insertAll(Collections.singletonList(station)).get(0);
+    }
+
+    /**
+     * 여러 역을 레코드 하나로 기록하므로, 복원할 때 일부만 저장된 상태는 생기지 않습니다.
+     */
+    @Override
+    public List<Long> insertAll(List<Station> stations) {
+        long firstId = seq.getAndAdd(stations.size()) + 1;
+        List<Long> ids = new ArrayList<>(stations.size());
+        for (int i = 0; i < stations.size(); i++) {
+            ids.add(firstId + i);
+        }
+        journal.append(NetworkState.STATIONS_INSERTED, out -> {
+            out.writeInt(stations.size());
+            for (int i = 0; i < stations.size(); i++) {
+                out.writeLong(ids.get(i));
+                out.writeUTF(stations.get(i).getName());
+            }
+        });
+        return ids;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        journal.append(NetworkState.STATION_DELETED, out -> out.writeLong(id));
+    }
+}
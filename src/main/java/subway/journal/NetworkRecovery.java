@@ -0,0 +1,40 @@
+package subway.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import subway.path.SubwayGraph;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * 기동할 때 스냅샷을 읽고 그 뒤의 저널만 재생해 상태를 복원합니다.
+ * 경로 그래프는 스냅샷의 배열로 바로 복원하고, 재생하면서 바뀐 노선의 구간 차이만 더해 최단 경로 계산을 다시 하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "journal")
+public class NetworkRecovery {
+    private final NetworkState state;
+    private final long journalOffset;
+
+    public NetworkRecovery(Journal journal, SubwayGraph subwayGraph,
+                           @Value("${subway.snapshot.path:./data/subway.snapshot}") String snapshotPath) throws IOException {
+        Optional<NetworkSnapshot> snapshot = NetworkSnapshot.readIfExists(Paths.get(snapshotPath));
+        NetworkState restored = snapshot.map(NetworkSnapshot::getState).orElseGet(NetworkState::new);
+        snapshot.ifPresent(it -> subwayGraph.restore(it.getGraph()));
+        restored.startTracking();
+        this.journalOffset = journal.recover(snapshot.map(NetworkSnapshot::getJournalOffset).orElse(0L), restored::apply);
+        subwayGraph.applyChanges(restored.finishTracking());
+        this.state = restored;
+    }
+
+    public long getJournalOffset() {
+        return journalOffset;
+    }
+
+    NetworkState getState() {
+        return state;
+    }
+}
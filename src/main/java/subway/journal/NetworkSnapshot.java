@@ -0,0 +1,238 @@
+package subway.journal;
+
+import subway.line.LineSchedule;
+import subway.line.Section;
+import subway.path.GraphSnapshot;
+import subway.station.Station;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 저널의 특정 위치까지 반영한 지하철역/노선/경로 그래프 상태를 담는 바이너리 스냅샷입니다.
+ * <p>
+ * 배열은 길이와 함께 big-endian 으로 연달아 기록하므로, 읽을 때는 파일을 MappedByteBuffer 로 매핑해 배열 단위로 한 번에 복사합니다.
+ * 마지막 8바이트는 앞부분 전체의 CRC32 이고, 임시 파일에 쓴 뒤 fsync 하고 이름을 바꾸므로 반쯤 쓰인 스냅샷을 읽는 일은 없고,
+ * 이름을 바꾼 뒤 디렉터리까지 fsync 하고 나서야 돌아오므로 그 뒤에 저널 세그먼트를 지워도 됩니다.
+ */
+class NetworkSnapshot {
+    private static final int MAGIC = 0x53554257;
+    private static final int FORMAT_VERSION = 3;
+    private static final int FORMAT_VERSION_WITHOUT_SCHEDULES = 2;
+
+    private final long journalOffset;
+    private final NetworkState state;
+    private final GraphSnapshot graph;
+
+    NetworkSnapshot(long journalOffset, NetworkState state, GraphSnapshot graph) {
+        this.journalOffset = journalOffset;
+        this.state = state;
+        this.graph = graph;
+    }
+
+    static Optional<NetworkSnapshot> readIfExists(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            verifyChecksum(buffer, path);
+            int magic = buffer.getInt();
+            int formatVersion = buffer.getInt();
+            if (magic != MAGIC || (formatVersion != FORMAT_VERSION && formatVersion != FORMAT_VERSION_WITHOUT_SCHEDULES)) {
+                throw new IllegalStateException("지원하지 않는 스냅샷 형식입니다: " + path);
+            }
+            long journalOffset = buffer.getLong();
+            NetworkState state = new NetworkState();
+            state.setLastIds(buffer.getLong(), buffer.getLong());
+            long[] stationIds = readLongs(buffer);
+            for (long stationId : stationIds) {
+                state.putStation(new Station(stationId, readString(buffer)));
+            }
+            int lineCount = buffer.getInt();
+            for (int i = 0; i < lineCount; i++) {
+                long lineId = buffer.getLong();
+                String name = readString(buffer);
+                String color = readString(buffer);
+                int extraFare = buffer.getInt();
+                LineSchedule schedule = formatVersion == FORMAT_VERSION
+                        ? new LineSchedule(buffer.getInt(), buffer.getInt(), buffer.getInt())
+                        : LineSchedule.DEFAULT;
+                long[] upStationIds = readLongs(buffer);
+                long[] downStationIds = readLongs(buffer);
+                int[] distances = readInts(buffer);
+                int[] durations = readInts(buffer);
+                List<Section> sections = new ArrayList<>(distances.length);
+                for (int j = 0; j < distances.length; j++) {
+                    sections.add(new Section(upStationIds[j], downStationIds[j], distances[j], durations[j]));
+                }
+                state.putLine(lineId, name, color, extraFare, schedule, sections);
+            }
+            long[] vertexStationIds = readLongs(buffer);
+            int[] offsets = readInts(buffer);
+            int[] targets = readInts(buffer);
+            int[] distances = readInts(buffer);
+            int[] durations = readInts(buffer);
+            long[] lineIds = readLongs(buffer);
+            int[] landmarks = readInts(buffer);
+            int[][] landmarkDistances = new int[landmarks.length][];
+            for (int k = 0; k < landmarks.length; k++) {
+                landmarkDistances[k] = readInts(buffer);
+            }
+            GraphSnapshot graph = new GraphSnapshot(vertexStationIds, offsets, targets, distances, durations, lineIds,
+                    landmarks, landmarkDistances);
+            return Optional.of(new NetworkSnapshot(journalOffset, state, graph));
+        }
+    }
+
+    void write(Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32 crc = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc), 256 * 1024));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(journalOffset);
+            out.writeLong(state.getLastStationId());
+            out.writeLong(state.getLastLineId());
+            out.writeInt(state.getStations().size());
+            for (Station station : state.getStations()) {
+                out.writeLong(station.getId());
+            }
+            for (Station station : state.getStations()) {
+                writeString(out, station.getName());
+            }
+            out.writeInt(state.getLines().size());
+            for (NetworkState.LineRecord line : state.getLines()) {
+                out.writeLong(line.getId());
+                writeString(out, line.getName());
+                writeString(out, line.getColor());
+                out.writeInt(line.getExtraFare());
+                out.writeInt(line.getSchedule().getFirstDeparture());
+                out.writeInt(line.getSchedule().getLastDeparture());
+                out.writeInt(line.getSchedule().getHeadway());
+                out.writeInt(line.getSections().size());
+                for (Section section : line.getSections()) {
+                    out.writeLong(section.getUpStationId());
+                }
+                out.writeInt(line.getSections().size());
+                for (Section section : line.getSections()) {
+                    out.writeLong(section.getDownStationId());
+                }
+                out.writeInt(line.getSections().size());
+                for (Section section : line.getSections()) {
+                    out.writeInt(section.getDistance());
+                }
+                out.writeInt(line.getSections().size());
+                for (Section section : line.getSections()) {
+                    out.writeInt(section.getDuration());
+                }
+            }
+            writeLongs(out, graph.getStationIds());
+            writeInts(out, graph.getOffsets());
+            writeInts(out, graph.getTargets());
+            writeInts(out, graph.getDistances());
+            writeInts(out, graph.getDurations());
+            writeLongs(out, graph.getLineIds());
+            writeInts(out, graph.getLandmarks());
+            for (int[] table : graph.getLandmarkDistances()) {
+                writeInts(out, table);
+            }
+            out.flush();
+            new DataOutputStream(file).writeLong(crc.getValue());
+            file.getFD().sync();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(path.toAbsolutePath().getParent());
+    }
+
+    long getJournalOffset() {
+        return journalOffset;
+    }
+
+    NetworkState getState() {
+        return state;
+    }
+
+    GraphSnapshot getGraph() {
+        return graph;
+    }
+
+    /** 이름 바꾸기를 디스크에 남겨야 스냅샷이 가리키는 위치 앞의 저널 세그먼트를 지울 수 있습니다. */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel parent = FileChannel.open(directory, StandardOpenOption.READ)) {
+            parent.force(true);
+        } catch (IOException e) {
+            // Windows 에서는 디렉터리를 채널로 열 수 없습니다.
+        }
+    }
+
+    private static void verifyChecksum(MappedByteBuffer buffer, Path path) {
+        int contentLength = buffer.limit() - Long.BYTES;
+        if (contentLength < 0) {
+            throw new IllegalStateException("손상된 스냅샷입니다: " + path);
+        }
+        ByteBuffer content = buffer.duplicate();
+        content.limit(contentLength);
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        if (crc.getValue() != buffer.getLong(contentLength)) {
+            throw new IllegalStateException("손상된 스냅샷입니다: " + path);
+        }
+    }
+
+    private static long[] readLongs(ByteBuffer buffer) {
+        long[] values = new long[buffer.getInt()];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Long.BYTES);
+        return values;
+    }
+
+    private static int[] readInts(ByteBuffer buffer) {
+        int[] values = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLongs(DataOutputStream out, long[] values) throws IOException {
+        out.writeInt(values.length);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,218 @@
+package subway.journal;
+
+import subway.line.Line;
+import subway.line.LineSchedule;
+import subway.line.Section;
+import subway.line.SectionChanges;
+import subway.line.Sections;
+import subway.station.Station;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저널 레코드를 차례로 적용해 얻은 지하철역/노선 상태입니다. 스냅샷에서 시작해 저널의 나머지를 이어서 적용할 수 있습니다.
+ * 추적을 켜면 그동안 바뀐 노선의 구간 차이를 모아 경로 그래프에 한 번에 반영할 수 있습니다.
+ */
+class NetworkState {
+    static final byte STATIONS_INSERTED = 1;
+    static final byte STATION_DELETED = 2;
+    static final byte LINE_INSERTED = 11;
+    static final byte LINE_UPDATED = 12;
+    static final byte LINE_DELETED = 13;
+    static final byte SECTIONS_CHANGED = 14;
+    static final byte LINE_SCHEDULE_CHANGED = 15;
+
+    private final Map<Long, Station> stations = new LinkedHashMap<>();
+    private final Map<Long, LineRecord> lines = new LinkedHashMap<>();
+    private long lastStationId;
+    private long lastLineId;
+    private Map<Long, List<Section>> sectionsBeforeTracking;
+
+    void apply(byte type, DataInput in) throws IOException {
+        if (type == STATIONS_INSERTED) {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                putStation(new Station(in.readLong(), in.readUTF()));
+            }
+        } else if (type == STATION_DELETED) {
+            stations.remove(in.readLong());
+        } else if (type == LINE_INSERTED) {
+            LineRecord line = new LineRecord(in.readLong(), in.readUTF(), in.readUTF(), in.readInt());
+            touch(line.id);
+            line.sections.addAll(readSections(in));
+            putLine(line);
+        } else if (type == LINE_UPDATED) {
+            LineRecord line = lines.get(in.readLong());
+            String name = in.readUTF();
+            String color = in.readUTF();
+            int extraFare = in.readInt();
+            if (line != null) {
+                line.name = name;
+                line.color = color;
+                line.extraFare = extraFare;
+            }
+        } else if (type == LINE_DELETED) {
+            long lineId = in.readLong();
+            touch(lineId);
+            lines.remove(lineId);
+        } else if (type == SECTIONS_CHANGED) {
+            long lineId = in.readLong();
+            List<Section> removed = readSections(in);
+            List<Section> added = readSections(in);
+            LineRecord line = lines.get(lineId);
+            if (line != null) {
+                touch(lineId);
+                line.sections.removeAll(removed);
+                line.sections.addAll(added);
+            }
+        } else if (type == LINE_SCHEDULE_CHANGED) {
+            LineRecord line = lines.get(in.readLong());
+            LineSchedule schedule = new LineSchedule(in.readInt(), in.readInt(), in.readInt());
+            if (line != null) {
+                line.schedule = schedule;
+            }
+        }
+    }
+
+    void startTracking() {
+        sectionsBeforeTracking = new HashMap<>();
+    }
+
+    /**
+     * 추적을 시작한 뒤 바뀐 노선마다 추적 전 구간과 지금 구간의 차이를 돌려줍니다.
+     */
+    Map<Long, SectionChanges> finishTracking() {
+        Map<Long, SectionChanges> changes = new LinkedHashMap<>();
+        sectionsBeforeTracking.forEach((lineId, before) -> {
+            LineRecord line = lines.get(lineId);
+            List<Section> after = line == null ? Collections.emptyList() : new ArrayList<>(line.sections);
+            changes.put(lineId, SectionChanges.between(before, after));
+        });
+        sectionsBeforeTracking = null;
+        return changes;
+    }
+
+    void putStation(Station station) {
+        stations.put(station.getId(), station);
+        lastStationId = Math.max(lastStationId, station.getId());
+    }
+
+    void putLine(Long id, String name, String color, int extraFare, LineSchedule schedule, Collection<Section> sections) {
+        LineRecord line = new LineRecord(id, name, color, extraFare);
+        line.schedule = schedule;
+        line.sections.addAll(sections);
+        putLine(line);
+    }
+
+    void setLastIds(long lastStationId, long lastLineId) {
+        this.lastStationId = Math.max(this.lastStationId, lastStationId);
+        this.lastLineId = Math.max(this.lastLineId, lastLineId);
+    }
+
+    Collection<Station> getStations() {
+        return stations.values();
+    }
+
+    List<Line> toLines() {
+        List<Line> result = new ArrayList<>(lines.size());
+        for (LineRecord line : lines.values()) {
+            result.add(new Line(line.id, line.name, line.color, line.extraFare, line.schedule, Sections.of(new ArrayList<>(line.sections))));
+        }
+        return result;
+    }
+
+    Collection<LineRecord> getLines() {
+        return lines.values();
+    }
+
+    long getLastStationId() {
+        return lastStationId;
+    }
+
+    long getLastLineId() {
+        return lastLineId;
+    }
+
+    static void writeSections(DataOutput out, List<Section> sections) throws IOException {
+        out.writeInt(sections.size());
+        for (Section section : sections) {
+            out.writeLong(section.getUpStationId());
+            out.writeLong(section.getDownStationId());
+            out.writeInt(section.getDistance());
+            out.writeInt(section.getDuration());
+        }
+    }
+
+    private static List<Section> readSections(DataInput in) throws IOException {
+        int count = in.readInt();
+        List<Section> sections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sections.add(new Section(in.readLong(), in.readLong(), in.readInt(), in.readInt()));
+        }
+        return sections;
+    }
+
+    private void putLine(LineRecord line) {
+        lines.put(line.id, line);
+        lastLineId = Math.max(lastLineId, line.id);
+    }
+
+    private void touch(long lineId) {
+        if (sectionsBeforeTracking == null || sectionsBeforeTracking.containsKey(lineId)) {
+            return;
+        }
+        LineRecord line = lines.get(lineId);
+        sectionsBeforeTracking.put(lineId, line == null ? Collections.emptyList() : new ArrayList<>(line.sections));
+    }
+
+    static class LineRecord {
+        private final Long id;
+        private final Set<Section> sections = new LinkedHashSet<>();
+        private String name;
+        private String color;
+        private int extraFare;
+        private LineSchedule schedule = LineSchedule.DEFAULT;
+
+        LineRecord(Long id, String name, String color, int extraFare) {
+            this.id = id;
+            this.name = name;
+            this.color = color;
+            this.extraFare = extraFare;
+        }
+
+        Long getId() {
+            return id;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getColor() {
+            return color;
+        }
+
+        int getExtraFare() {
+            return extraFare;
+        }
+
+        LineSchedule getSchedule() {
+            return schedule;
+        }
+
+        Set<Section> getSections() {
+            return sections;
+        }
+    }
+}
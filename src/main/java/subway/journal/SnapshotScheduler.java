@@ -0,0 +1,49 @@
+package subway.journal;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import subway.path.SubwayGraph;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * 주기적으로 직전 스냅샷에 그 뒤의 저널을 적용해 새 스냅샷을 씁니다.
+ * 메모리의 DAO 나 경로 그래프를 멈추지 않도록, fsync 된 저널만 읽어 별도의 상태와 그래프를 만들어 씁니다.
+ * 스냅샷을 쓴 뒤에는 저널을 새 세그먼트로 넘기고, 스냅샷이 반영한 세그먼트를 지워 저널이 끝없이 커지지 않게 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "journal")
+public class SnapshotScheduler {
+    private final Journal journal;
+    private final Path path;
+
+    public SnapshotScheduler(Journal journal, @Value("${subway.snapshot.path:./data/subway.snapshot}") String path) {
+        this.journal = journal;
+        this.path = Paths.get(path);
+    }
+
+    @Scheduled(initialDelayString = "${subway.snapshot.interval-millis:300000}",
+            fixedDelayString = "${subway.snapshot.interval-millis:300000}")
+    public void writeSnapshot() throws IOException {
+        journal.flush();
+        long durableLength = journal.getDurableLength();
+        Optional<NetworkSnapshot> previous = NetworkSnapshot.readIfExists(path);
+        long covered = previous.map(NetworkSnapshot::getJournalOffset).orElse(0L);
+        if (covered < durableLength) {
+            NetworkState state = previous.map(NetworkSnapshot::getState).orElseGet(NetworkState::new);
+            SubwayGraph graph = new SubwayGraph();
+            previous.ifPresent(it -> graph.restore(it.getGraph()));
+            state.startTracking();
+            covered = journal.replay(covered, durableLength, state::apply);
+            graph.applyChanges(state.finishTracking());
+            new NetworkSnapshot(covered, state, graph.snapshot()).write(path);
+        }
+        journal.roll();
+        journal.deleteSegmentsBefore(covered);
+    }
+}
@@ -0,0 +1,7 @@
+package subway.line;
+
+public class DuplicateLineException extends RuntimeException {
+    public DuplicateLineException(String name) {
+        super("이미 등록된 지하철 노선 이름입니다: " + name);
+    }
+}
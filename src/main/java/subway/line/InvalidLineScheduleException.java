@@ -0,0 +1,7 @@
+package subway.line;
+
+public class InvalidLineScheduleException extends IllegalArgumentException {
+    public InvalidLineScheduleException(String message) {
+        super(message);
+    }
+}
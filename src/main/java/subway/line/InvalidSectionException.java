@@ -0,0 +1,7 @@
+package subway.line;
+
+public class InvalidSectionException extends IllegalArgumentException {
+    public InvalidSectionException(String message) {
+        super(message);
+    }
+}
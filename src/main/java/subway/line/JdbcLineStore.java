@@ -0,0 +1,136 @@
+package subway.line;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcLineStore implements LineStore {
+    private static final String INSERT_SECTION_SQL =
+            "insert into SECTION (line_id, up_station_id, down_station_id, distance, duration) values (?, ?, ?, ?, ?)";
+    private static final String DELETE_SECTION_SQL =
+            "delete from SECTION where line_id = ? and up_station_id = ? and down_station_id = ? and distance = ? and duration = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcLineStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 노선과 구간을 조인 한 번으로 읽습니다.
+     */
+    @Override
+    public List<Line> findAll() {
+        String sql = "select L.id, L.name, L.color, L.extra_fare, L.first_train_time, L.last_train_time, L.interval_time, " +
+                "S.up_station_id, S.down_station_id, S.distance, S.duration " +
+                "from LINE L left join SECTION S on S.line_id = L.id " +
+                "order by L.id";
+        Map<Long, LineRow> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            Long id = rs.getLong("id");
+            LineRow row = rows.get(id);
+            if (row == null) {
+                row = new LineRow(id, rs.getString("name"), rs.getString("color"), rs.getInt("extra_fare"),
+                        new LineSchedule(rs.getInt("first_train_time"), rs.getInt("last_train_time"), rs.getInt("interval_time")));
+                rows.put(id, row);
+            }
+            long upStationId = rs.getLong("up_station_id");
+            if (!rs.wasNull()) {
+                row.sections.add(new Section(upStationId, rs.getLong("down_station_id"), rs.getInt("distance"), rs.getInt("duration")));
+            }
+        });
+        return rows.values().stream()
+                .filter(it -> !it.sections.isEmpty())
+                .map(it -> new Line(it.id, it.name, it.color, it.extraFare, it.schedule, Sections.of(it.sections)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public Long insert(Line line) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "insert into LINE (name, color, extra_fare, first_train_time, last_train_time, interval_time) values (?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            statement.setString(1, line.getName());
+            statement.setString(2, line.getColor());
+            statement.setInt(3, line.getExtraFare());
+            statement.setInt(4, line.getSchedule().getFirstDeparture());
+            statement.setInt(5, line.getSchedule().getLastDeparture());
+            statement.setInt(6, line.getSchedule().getHeadway());
+            return statement;
+        }, keyHolder);
+        Long id = keyHolder.getKey().longValue();
+        insertSections(id, line.getSections().getSections());
+        return id;
+    }
+
+    @Override
+    public void update(Line line) {
+        jdbcTemplate.update("update LINE set name = ?, color = ?, extra_fare = ?, first_train_time = ?, last_train_time = ?, interval_time = ? " +
+                        "where id = ?",
+                line.getName(), line.getColor(), line.getExtraFare(), line.getSchedule().getFirstDeparture(),
+                line.getSchedule().getLastDeparture(), line.getSchedule().getHeadway(), line.getId());
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(Long id) {
+        jdbcTemplate.update("delete from SECTION where line_id = ?", id);
+        jdbcTemplate.update("delete from LINE where id = ?", id);
+    }
+
+    @Override
+    @Transactional
+    public void saveSectionChanges(Long lineId, SectionChanges changes) {
+        List<Object[]> removed = new ArrayList<>(changes.getRemoved().size());
+        for (Section section : changes.getRemoved()) {
+            removed.add(new Object[]{lineId, section.getUpStationId(), section.getDownStationId(), section.getDistance(), section.getDuration()});
+        }
+        if (!removed.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SECTION_SQL, removed);
+        }
+        insertSections(lineId, changes.getAdded());
+    }
+
+    private void insertSections(Long lineId, List<Section> sections) {
+        if (sections.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(sections.size());
+        for (Section section : sections) {
+            rows.add(new Object[]{lineId, section.getUpStationId(), section.getDownStationId(), section.getDistance(), section.getDuration()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SECTION_SQL, rows);
+    }
+
+    private static class LineRow {
+        private final Long id;
+        private final String name;
+        private final String color;
+        private final int extraFare;
+        private final LineSchedule schedule;
+        private final List<Section> sections = new ArrayList<>();
+
+        LineRow(Long id, String name, String color, int extraFare, LineSchedule schedule) {
+            this.id = id;
+            this.name = name;
+            this.color = color;
+            this.extraFare = extraFare;
+            this.schedule = schedule;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package subway.line;
+
+public class Line {
+    private final Long id;
+    private final String name;
+    private final String color;
+    private final int extraFare;
+    private final LineSchedule schedule;
+    private final Sections sections;
+
+    public Line(Long id, String name, String color, int extraFare, LineSchedule schedule, Sections sections) {
+        this.id = id;
+        this.name = name;
+        this.color = color;
+        this.extraFare = extraFare;
+        this.schedule = schedule;
+        this.sections = sections;
+    }
+
+    public Line(Long id, String name, String color, int extraFare, Sections sections) {
+        this(id, name, color, extraFare, LineSchedule.DEFAULT, sections);
+    }
+
+    public Line(Long id, String name, String color, Sections sections) {
+        this(id, name, color, 0, sections);
+    }
+
+    public Line(String name, String color, int extraFare, LineSchedule schedule, Sections sections) {
+        this(null, name, color, extraFare, schedule, sections);
+    }
+
+    public Line(String name, String color, int extraFare, Sections sections) {
+        this(null, name, color, extraFare, sections);
+    }
+
+    public Line(String name, String color, Sections sections) {
+        this(null, name, color, 0, sections);
+    }
+
+    public Line withId(Long id) {
+        return new Line(id, name, color, extraFare, schedule, sections);
+    }
+
+    public Line withSections(Sections sections) {
+        return new Line(id, name, color, extraFare, schedule, sections);
+    }
+
+    public Line update(String name, String color, int extraFare, LineSchedule schedule) {
+        return new Line(id, name, color, extraFare, schedule, sections);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public LineSchedule getSchedule() {
+        return schedule;
+    }
+
+    public Sections getSections() {
+        return sections;
+    }
+}
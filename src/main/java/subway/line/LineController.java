@@ -0,0 +1,113 @@
+package subway.line;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import subway.common.CursorPage;
+import subway.common.ETags;
+import subway.common.InvalidNdjsonException;
+import subway.common.NdjsonReader;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+
+@RestController
+public class LineController {
+    private final LineService lineService;
+    private final NdjsonReader ndjsonReader;
+    private final int streamingThreshold;
+
+    public LineController(LineService lineService, NdjsonReader ndjsonReader,
+                          @Value("${subway.listing.streaming-threshold:10000}") int streamingThreshold) {
+        this.lineService = lineService;
+        this.ndjsonReader = ndjsonReader;
+        this.streamingThreshold = streamingThreshold;
+    }
+
+    @PostMapping("/lines")
+    public ResponseEntity<LineResponse> createLine(@RequestBody LineRequest lineRequest) {
+        LineResponse lineResponse = lineService.saveLine(lineRequest);
+        return ResponseEntity.created(URI.create("/lines/" + lineResponse.getId())).body(lineResponse);
+    }
+
+    /**
+     * 역 목록({@link subway.station.StationController#showStations})과 같은 방식으로 페이지를 나누거나 전체 목록을 내려보냅니다.
+     */
+    @GetMapping(value = "/lines", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> showLines(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit,
+                                       WebRequest webRequest) {
+        if (limit != null && !CursorPage.isValidLimit(limit)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (webRequest.checkNotModified(ETags.of(lineService.getVersion()))) {
+            return null;
+        }
+        if (after != null || limit != null) {
+            CursorPage<LineResponse> page = lineService.findLines(after == null ? 0L : after,
+                    limit == null ? CursorPage.DEFAULT_LIMIT : limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.hasNext()) {
+                response.header(HttpHeaders.LINK, page.nextLink("/lines"));
+            }
+            return response.body(page.getItems());
+        }
+        if (lineService.countLines() > streamingThreshold) {
+            return ResponseEntity.ok().body(lineService.streamLines());
+        }
+        return ResponseEntity.ok().body(lineService.findLinesJson());
+    }
+
+    @GetMapping(value = "/lines/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> showLine(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(ETags.of(lineService.getVersion(id)))) {
+            return null;
+        }
+        return ResponseEntity.ok().body(lineService.findLineJson(id));
+    }
+
+    @PutMapping("/lines/{id}")
+    public ResponseEntity updateLine(@PathVariable Long id, @RequestBody LineRequest lineRequest) {
+        lineService.updateLine(id, lineRequest);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/lines/{id}")
+    public ResponseEntity deleteLine(@PathVariable Long id) {
+        lineService.deleteLine(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/lines/{lineId}/sections")
+    public ResponseEntity addSection(@PathVariable Long lineId, @RequestBody SectionRequest sectionRequest) {
+        lineService.addSection(lineId, sectionRequest);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping(value = "/lines/{lineId}/sections/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity addSections(@PathVariable Long lineId, @RequestBody List<SectionRequest> sectionRequests) {
+        lineService.addSections(lineId, sectionRequests);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping(value = "/lines/{lineId}/sections/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity importSections(@PathVariable Long lineId, InputStream body) {
+        lineService.addSections(lineId, ndjsonReader.readAll(body, SectionRequest.class));
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/lines/{lineId}/sections")
+    public ResponseEntity removeSection(@PathVariable Long lineId, @RequestParam Long stationId) {
+        lineService.removeSection(lineId, stationId);
+        return ResponseEntity.ok().build();
+    }
+
+    @ExceptionHandler({DuplicateLineException.class, InvalidLineScheduleException.class, InvalidSectionException.class,
+            InvalidNdjsonException.class})
+    public ResponseEntity handleDuplicateLine() {
+        return ResponseEntity.badRequest().build();
+    }
+}
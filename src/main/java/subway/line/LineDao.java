@@ -0,0 +1,163 @@
+package subway.line;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Repository;
+import subway.common.DenseIndex;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지하철 노선의 메모리 인덱스입니다. 조회는 인덱스에서만 하고, 변경은 LineStore 에 함께 반영합니다.
+ * 경로를 조회할 때마다 지나는 노선의 추가 요금을 읽으므로, id 로 찾는 인덱스는 박싱 없이 배열에서 바로 꺼냅니다.
+ */
+@Repository
+public class LineDao implements MeterBinder {
+    private final LineStore lineStore;
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Long, Long> lineVersions = new ConcurrentHashMap<>();
+    private final DenseIndex<Line> linesById = new DenseIndex<>();
+    private final Map<String, Line> linesByName = new ConcurrentHashMap<>();
+
+    public LineDao(LineStore lineStore) {
+        this.lineStore = lineStore;
+        for (Line line : lineStore.findAll()) {
+            linesById.put(line.getId(), line);
+            linesByName.put(line.getName(), line);
+            markChanged(line.getId());
+        }
+    }
+
+    public Line save(Line line) {
+        Line persistLine = insert(line);
+        index(persistLine);
+        return persistLine;
+    }
+
+    /**
+     * id 로 조회되는 것은 {@link #index(Line)} 를 호출한 뒤부터입니다.
+     */
+    public Line insert(Line line) {
+        if (linesByName.putIfAbsent(line.getName(), line) != null) {
+            throw new DuplicateLineException(line.getName());
+        }
+        try {
+            return line.withId(lineStore.insert(line));
+        } catch (RuntimeException e) {
+            linesByName.remove(line.getName(), line);
+            throw e;
+        }
+    }
+
+    public void index(Line line) {
+        linesByName.put(line.getName(), line);
+        linesById.put(line.getId(), line);
+        markChanged(line.getId());
+    }
+
+    public List<Line> findAll() {
+        return linesById.values();
+    }
+
+    public List<Line> findAfter(long after, int limit) {
+        return linesById.valuesAfter(after, limit);
+    }
+
+    public int count() {
+        return linesById.size();
+    }
+
+    public Optional<Line> findById(long id) {
+        return Optional.ofNullable(linesById.get(id));
+    }
+
+    public void update(Line line) {
+        Line old = linesById.get(line.getId());
+        if (old == null) {
+            return;
+        }
+        if (!old.getName().equals(line.getName())
+                && linesByName.putIfAbsent(line.getName(), line) != null) {
+            throw new DuplicateLineException(line.getName());
+        }
+        try {
+            lineStore.update(line);
+        } catch (RuntimeException e) {
+            if (!old.getName().equals(line.getName())) {
+                linesByName.remove(line.getName(), line);
+            }
+            throw e;
+        }
+        linesById.put(line.getId(), line);
+        if (!old.getName().equals(line.getName())) {
+            linesByName.remove(old.getName(), old);
+        } else {
+            linesByName.put(line.getName(), line);
+        }
+        markChanged(line.getId());
+    }
+
+    public void deleteById(Long id) {
+        if (!linesById.containsKey(id)) {
+            return;
+        }
+        lineStore.deleteById(id);
+        Line removed = linesById.remove(id);
+        if (removed != null) {
+            linesByName.remove(removed.getName());
+            // 버전을 지우지 않고 올려야, 지우기 전에 읽은 버전으로 늦게 저장된 캐시 항목이 다시 쓰이지 않습니다.
+            markChanged(id);
+        }
+    }
+
+    /**
+     * 버전은 노선을 교체한 다음에 올립니다.
+     */
+    public void updateSections(Line line, SectionChanges changes) {
+        lineStore.saveSectionChanges(line.getId(), changes);
+        linesById.put(line.getId(), line);
+        linesByName.put(line.getName(), line);
+        markChanged(line.getId());
+    }
+
+    /**
+     * 노선 하나가 바뀌었음을 기록합니다. 노선별 버전은 전체 버전을 올린 값으로 맞추므로 항상 증가합니다.
+     */
+    public void markChanged(Long id) {
+        lineVersions.merge(id, version.incrementAndGet(), Math::max);
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public long getVersion(Long id) {
+        return lineVersions.getOrDefault(id, 0L);
+    }
+
+    /**
+     * 노선 수와, 모든 노선의 구간 수를 더한 값을 내보냅니다. 구간 수는 수집할 때마다 노선을 한 번 훑어 셉니다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.lines", this, LineDao::count)
+                .description("등록된 지하철 노선 수")
+                .register(registry);
+        Gauge.builder("subway.sections", this, LineDao::countSections)
+                .description("모든 노선의 구간 수")
+                .register(registry);
+    }
+
+    private int countSections() {
+        int count = 0;
+        for (Line line : linesById.values()) {
+            count += line.getSections().getSectionCount();
+        }
+        return count;
+    }
+}
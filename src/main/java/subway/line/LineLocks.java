@@ -0,0 +1,28 @@
+package subway.line;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 노선 id 로 고르는 줄무늬(striped) 잠금입니다. 같은 노선을 고치는 요청만 서로 기다리고, 다른 노선은 대부분 다른 잠금을 씁니다.
+ * 잠금 수가 정해져 있어 노선이 늘어나도 잠금 객체가 늘지 않습니다.
+ */
+@Component
+public class LineLocks {
+    private static final int STRIPES = 64;
+
+    private final Lock[] locks = new Lock[STRIPES];
+
+    public LineLocks() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock forLine(Long lineId) {
+        long h = lineId * 0x9E3779B97F4A7C15L;
+        return locks[(int) (h >>> 58)];
+    }
+}
@@ -6,16 +6,35 @@ public class LineRequest {
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    private int duration;
+    private int extraFare;
+    private String firstTrainTime;
+    private String lastTrainTime;
+    private Integer intervalTime;
 
     public LineRequest() {
     }
 
     public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance) {
+        this(name, color, upStationId, downStationId, distance, 0, 0);
+    }
+
+    public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance, int duration, int extraFare) {
         this.name = name;
         this.color = color;
         this.upStationId = upStationId;
         this.downStationId = downStationId;
         this.distance = distance;
+        this.duration = duration;
+        this.extraFare = extraFare;
+    }
+
+    public LineRequest(String name, String color, Long upStationId, Long downStationId, int distance, int duration, int extraFare,
+                       String firstTrainTime, String lastTrainTime, Integer intervalTime) {
+        this(name, color, upStationId, downStationId, distance, duration, extraFare);
+        this.firstTrainTime = firstTrainTime;
+        this.lastTrainTime = lastTrainTime;
+        this.intervalTime = intervalTime;
     }
 
     public String getName() {
@@ -37,4 +56,30 @@ public class LineRequest {
     public int getDistance() {
         return distance;
     }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    /**
+     * 첫차 시각(HH:mm)입니다. 시간표 항목을 비워 두면 노선을 만들 때는 기본 시간표, 수정할 때는 지금 시간표의 값을 씁니다.
+     */
+    public String getFirstTrainTime() {
+        return firstTrainTime;
+    }
+
+    public String getLastTrainTime() {
+        return lastTrainTime;
+    }
+
+    /**
+     * 배차 간격(분)입니다.
+     */
+    public Integer getIntervalTime() {
+        return intervalTime;
+    }
 }
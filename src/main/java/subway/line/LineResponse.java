@@ -9,15 +9,33 @@ public class LineResponse {
     private String name;
     private String color;
     private int extraFare;
+    private String firstTrainTime;
+    private String lastTrainTime;
+    private int intervalTime;
     private List<StationResponse> stations;
 
+    public LineResponse() {
+    }
+
     public LineResponse(Long id, String name, String color, List<StationResponse> stations) {
+        this(id, name, color, 0, stations);
+    }
+
+    public LineResponse(Long id, String name, String color, int extraFare, List<StationResponse> stations) {
         this.id = id;
         this.name = name;
         this.color = color;
+        this.extraFare = extraFare;
         this.stations = stations;
     }
 
+    public LineResponse(Long id, String name, String color, int extraFare, LineSchedule schedule, List<StationResponse> stations) {
+        this(id, name, color, extraFare, stations);
+        this.firstTrainTime = LineSchedule.formatMinutes(schedule.getFirstDeparture());
+        this.lastTrainTime = LineSchedule.formatMinutes(schedule.getLastDeparture());
+        this.intervalTime = schedule.getHeadway();
+    }
+
     public Long getId() {
         return id;
     }
@@ -30,6 +48,22 @@ public class LineResponse {
         return color;
     }
 
+    public int getExtraFare() {
+        return extraFare;
+    }
+
+    public String getFirstTrainTime() {
+        return firstTrainTime;
+    }
+
+    public String getLastTrainTime() {
+        return lastTrainTime;
+    }
+
+    public int getIntervalTime() {
+        return intervalTime;
+    }
+
     public List<StationResponse> getStations() {
         return stations;
     }
@@ -0,0 +1,87 @@
+package subway.line;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * 노선의 운행 시간표입니다. 양쪽 종점에서 첫차부터 막차까지 배차 간격마다 열차가 출발합니다.
+ * <p>
+ * 시각은 운행일 0시부터의 분으로 다룹니다. 막차가 첫차보다 이른 시각이면 자정을 넘긴 것으로 보고 1440 을 더합니다.
+ */
+public class LineSchedule {
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final LineSchedule DEFAULT = new LineSchedule(5 * 60 + 30, 23 * 60 + 30, 10);
+
+    private final int firstDeparture;
+    private final int lastDeparture;
+    private final int headway;
+
+    public LineSchedule(int firstDeparture, int lastDeparture, int headway) {
+        if (firstDeparture < 0 || firstDeparture >= MINUTES_PER_DAY
+                || lastDeparture < firstDeparture || lastDeparture >= firstDeparture + MINUTES_PER_DAY) {
+            throw new InvalidLineScheduleException("첫차/막차 시각이 올바르지 않습니다.");
+        }
+        if (headway < 1 || headway > MINUTES_PER_DAY) {
+            throw new InvalidLineScheduleException("배차 간격은 1분 이상 1440분 이하여야 합니다: " + headway);
+        }
+        this.firstDeparture = firstDeparture;
+        this.lastDeparture = lastDeparture;
+        this.headway = headway;
+    }
+
+    /**
+     * 요청의 "HH:mm" 시각과 분 단위 배차 간격으로 시간표를 만듭니다. 값이 없는 항목은 base 의 값을 그대로 씁니다.
+     */
+    public static LineSchedule of(String firstTrainTime, String lastTrainTime, Integer intervalTime, LineSchedule base) {
+        int first = firstTrainTime == null ? base.firstDeparture : parseMinutes(firstTrainTime);
+        int last = lastTrainTime == null ? base.lastDeparture % MINUTES_PER_DAY : parseMinutes(lastTrainTime);
+        if (last < first) {
+            last += MINUTES_PER_DAY;
+        }
+        return new LineSchedule(first, last, intervalTime == null ? base.headway : intervalTime);
+    }
+
+    public static int parseMinutes(String time) {
+        try {
+            LocalTime parsed = LocalTime.parse(time);
+            return parsed.getHour() * 60 + parsed.getMinute();
+        } catch (DateTimeParseException e) {
+            throw new InvalidLineScheduleException("시각은 HH:mm 형식이어야 합니다: " + time);
+        }
+    }
+
+    public static String formatMinutes(int minutes) {
+        int minuteOfDay = minutes % MINUTES_PER_DAY;
+        return String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    public int getFirstDeparture() {
+        return firstDeparture;
+    }
+
+    public int getLastDeparture() {
+        return lastDeparture;
+    }
+
+    public int getHeadway() {
+        return headway;
+    }
+
+    public int getDepartureCount() {
+        return (lastDeparture - firstDeparture) / headway + 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LineSchedule that = (LineSchedule) o;
+        return firstDeparture == that.firstDeparture && lastDeparture == that.lastDeparture && headway == that.headway;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(firstDeparture, lastDeparture, headway);
+    }
+}
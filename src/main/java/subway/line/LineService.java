@@ -0,0 +1,305 @@
+package subway.line;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import subway.common.CursorIterable;
+import subway.common.CursorPage;
+import subway.common.JsonResponseCache;
+import subway.common.Timers;
+import subway.station.StationDao;
+import subway.station.StationDeletingEvent;
+import subway.station.StationInUseException;
+import subway.station.StationLocks;
+import subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class LineService implements MeterBinder {
+    private static final String LINES_CACHE_KEY = "lines";
+    private static final String LINE_CACHE_KEY_PREFIX = "lines/";
+    private static final int STREAMING_PAGE_SIZE = 100;
+
+    private final LineDao lineDao;
+    private final LineLocks lineLocks;
+    private final StationLocks stationLocks;
+    private final StationDao stationDao;
+    private final JsonResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, CachedStations> stationResponses = new ConcurrentHashMap<>();
+    private volatile SectionTimers timers = new SectionTimers(Timers.UNBOUND);
+
+    public LineService(LineDao lineDao, LineLocks lineLocks, StationLocks stationLocks, StationDao stationDao,
+                       JsonResponseCache responseCache, ApplicationEventPublisher eventPublisher) {
+        this.lineDao = lineDao;
+        this.lineLocks = lineLocks;
+        this.stationLocks = stationLocks;
+        this.stationDao = stationDao;
+        this.responseCache = responseCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public LineResponse saveLine(LineRequest lineRequest) {
+        Section section = toSection(lineRequest.getUpStationId(), lineRequest.getDownStationId(), lineRequest.getDistance(), lineRequest.getDuration());
+        LineSchedule schedule = toSchedule(lineRequest, LineSchedule.DEFAULT);
+        Line line;
+        Lock stationLock = stationLocks.forUse();
+        stationLock.lock();
+        try {
+            validateStationExists(lineRequest.getUpStationId());
+            validateStationExists(lineRequest.getDownStationId());
+            line = lineDao.insert(new Line(lineRequest.getName(), lineRequest.getColor(), lineRequest.getExtraFare(), schedule, new Sections(section)));
+            Lock lock = lineLocks.forLine(line.getId());
+            lock.lock();
+            try {
+                lineDao.index(line);
+                eventPublisher.publishEvent(new SectionsChangedEvent(line.getId(), SectionChanges.added(section)));
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            stationLock.unlock();
+        }
+        return toResponse(line);
+    }
+
+    public List<LineResponse> findLines() {
+        return toResponses(lineDao.findAll());
+    }
+
+    public byte[] findLinesJson() {
+        return responseCache.get(LINES_CACHE_KEY, lineDao.getVersion(), this::findLines);
+    }
+
+    /**
+     * 노선마다 역 목록이 붙으므로 페이지는 역 목록보다 작게 잡습니다.
+     */
+    public Iterable<LineResponse> streamLines() {
+        return new CursorIterable<>((after, limit) -> toResponses(lineDao.findAfter(after, limit)),
+                LineResponse::getId, STREAMING_PAGE_SIZE);
+    }
+
+    public CursorPage<LineResponse> findLines(long after, int limit) {
+        return CursorPage.of(toResponses(lineDao.findAfter(after, limit + 1)), limit, LineResponse::getId);
+    }
+
+    public int countLines() {
+        return lineDao.count();
+    }
+
+    public LineResponse findLine(Long id) {
+        return toResponse(findLineById(id));
+    }
+
+    public byte[] findLineJson(Long id) {
+        return responseCache.get(LINE_CACHE_KEY_PREFIX + id, lineDao.getVersion(id), () -> findLine(id));
+    }
+
+    public void updateLine(Long id, LineRequest lineRequest) {
+        Lock lock = lineLocks.forLine(id);
+        lock.lock();
+        try {
+            Line line = findLineById(id);
+            lineDao.update(line.update(lineRequest.getName(), lineRequest.getColor(), lineRequest.getExtraFare(),
+                    toSchedule(lineRequest, line.getSchedule())));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void deleteLine(Long id) {
+        Lock lock = lineLocks.forLine(id);
+        lock.lock();
+        try {
+            Line line = findLineById(id);
+            lineDao.deleteById(id);
+            stationResponses.remove(id);
+            responseCache.evict(LINE_CACHE_KEY_PREFIX + id);
+            eventPublisher.publishEvent(new SectionsChangedEvent(id, SectionChanges.removed(line.getSections().getSections())));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addSection(Long lineId, SectionRequest sectionRequest) {
+        Section section = toSection(sectionRequest.getUpStationId(), sectionRequest.getDownStationId(), sectionRequest.getDistance(), sectionRequest.getDuration());
+        Lock stationLock = stationLocks.forUse();
+        stationLock.lock();
+        try {
+            validateStationExists(sectionRequest.getUpStationId());
+            validateStationExists(sectionRequest.getDownStationId());
+            editSections(lineId, timers.add, sections -> sections.add(section));
+        } finally {
+            stationLock.unlock();
+        }
+    }
+
+    public void addSections(Long lineId, List<SectionRequest> sectionRequests) {
+        List<Section> sections = sectionRequests.stream()
+                .map(it -> toSection(it.getUpStationId(), it.getDownStationId(), it.getDistance(), it.getDuration()))
+                .collect(Collectors.toList());
+        Lock stationLock = stationLocks.forUse();
+        stationLock.lock();
+        try {
+            sectionRequests.stream()
+                    .flatMap(it -> Stream.of(it.getUpStationId(), it.getDownStationId()))
+                    .distinct()
+                    .forEach(this::validateStationExists);
+            editSections(lineId, timers.addAll, it -> it.addAll(sections));
+        } finally {
+            stationLock.unlock();
+        }
+    }
+
+    public void removeSection(Long lineId, Long stationId) {
+        editSections(lineId, timers.remove, sections -> sections.remove(stationId));
+    }
+
+    // 역을 지우는 쪽이 StationLocks 의 쓰기 잠금을 잡고 보내므로, 확인하는 동안 그 역을 쓰는 구간이 새로 생기지 않습니다.
+    @EventListener
+    public void onStationDeleting(StationDeletingEvent event) {
+        Long stationId = event.getStation().getId();
+        for (Line line : lineDao.findAll()) {
+            if (line.getSections().contains(stationId)) {
+                throw new StationInUseException(event.getStation().getName(), line.getName());
+            }
+        }
+    }
+
+    public long getVersion() {
+        return lineDao.getVersion();
+    }
+
+    public long getVersion(Long id) {
+        return lineDao.getVersion(id);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.line.stations.cache.size", stationResponses, Map::size)
+                .description("노선별로 캐시한 역 응답 목록 수")
+                .register(registry);
+        timers = new SectionTimers(registry);
+    }
+
+    // 변경 이벤트도 잠금 안에서 보내 경로 그래프가 노선마다 순서대로 받게 합니다.
+    private void editSections(Long lineId, Timer timer, Function<Sections, SectionChanges> edit) {
+        Lock lock = lineLocks.forLine(lineId);
+        lock.lock();
+        try {
+            Line line = findLineById(lineId);
+            long start = System.nanoTime();
+            Sections sections = line.getSections().copy();
+            SectionChanges changes;
+            try {
+                changes = edit.apply(sections);
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            lineDao.updateSections(line.withSections(sections), changes);
+            eventPublisher.publishEvent(new SectionsChangedEvent(lineId, changes));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Line findLineById(Long id) {
+        return lineDao.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지하철 노선입니다: " + id));
+    }
+
+    // 거리가 0 이하인 간선은 경로 탐색의 하한과 요금 계산을 깨뜨리므로 노선의 끝에 붙이는 구간도 막습니다.
+    private static Section toSection(Long upStationId, Long downStationId, int distance, int duration) {
+        if (upStationId.equals(downStationId)) {
+            throw new InvalidSectionException("상행역과 하행역이 같은 구간은 등록할 수 없습니다: " + upStationId);
+        }
+        if (distance <= 0) {
+            throw new InvalidSectionException("구간 거리는 0보다 커야 합니다: " + distance);
+        }
+        if (duration < 0) {
+            throw new InvalidSectionException("구간 소요 시간은 0 이상이어야 합니다: " + duration);
+        }
+        return new Section(upStationId, downStationId, distance, duration);
+    }
+
+    private LineSchedule toSchedule(LineRequest lineRequest, LineSchedule base) {
+        return LineSchedule.of(lineRequest.getFirstTrainTime(), lineRequest.getLastTrainTime(), lineRequest.getIntervalTime(), base);
+    }
+
+    private void validateStationExists(Long stationId) {
+        if (!stationDao.findById(stationId).isPresent()) {
+            throw new IllegalArgumentException("존재하지 않는 지하철역입니다: " + stationId);
+        }
+    }
+
+    // 버전을 먼저 읽어야 캐시한 역 목록이 함께 저장하는 버전보다 낡지 않습니다.
+    private LineResponse toResponse(Line line) {
+        long version = lineDao.getVersion(line.getId());
+        line = lineDao.findById(line.getId()).orElse(line);
+        CachedStations cached = stationResponses.get(line.getId());
+        if (cached == null || cached.version < version) {
+            long start = System.nanoTime();
+            cached = new CachedStations(version, toStationResponses(line.getSections().getStationIds()));
+            timers.reorder.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            stationResponses.merge(line.getId(), cached, (old, it) -> old.version >= it.version ? old : it);
+        }
+        return new LineResponse(line.getId(), line.getName(), line.getColor(), line.getExtraFare(), line.getSchedule(), cached.stations);
+    }
+
+    private List<LineResponse> toResponses(List<Line> lines) {
+        return lines.stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    private List<StationResponse> toStationResponses(List<Long> stationIds) {
+        List<StationResponse> stations = new ArrayList<>(stationIds.size());
+        for (Long stationId : stationIds) {
+            stationDao.findById(stationId)
+                    .ifPresent(station -> stations.add(new StationResponse(station.getId(), station.getName())));
+        }
+        return Collections.unmodifiableList(stations);
+    }
+
+    private static class CachedStations {
+        private final long version;
+        private final List<StationResponse> stations;
+
+        CachedStations(long version, List<StationResponse> stations) {
+            this.version = version;
+            this.stations = stations;
+        }
+    }
+
+    private static class SectionTimers {
+        private final Timer add;
+        private final Timer addAll;
+        private final Timer remove;
+        private final Timer reorder;
+
+        SectionTimers(MeterRegistry registry) {
+            this.add = edit(registry, "add");
+            this.addAll = edit(registry, "add_all");
+            this.remove = edit(registry, "remove");
+            this.reorder = Timers.histogram(registry, "subway.sections.reorder", "노선의 역을 순서대로 늘어놓고 역 응답 목록을 만드는 시간");
+        }
+
+        private static Timer edit(MeterRegistry registry, String operation) {
+            return Timers.histogram(registry, "subway.sections.edit", "구간 사본을 만들어 구간을 추가하거나 제외하는 시간", "operation", operation);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package subway.line;
+
+import java.util.List;
+
+/**
+ * 노선과 구간을 영속화하는 저장소입니다. 조회는 LineDao 의 메모리 인덱스가 담당하고, 여기서는 기동할 때 한 번만 읽습니다.
+ */
+public interface LineStore {
+    List<Line> findAll();
+
+    Long insert(Line line);
+
+    void update(Line line);
+
+    void deleteById(Long id);
+
+    void saveSectionChanges(Long lineId, SectionChanges changes);
+}
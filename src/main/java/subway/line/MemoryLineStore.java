@@ -0,0 +1,36 @@
+package subway.line;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "memory")
+public class MemoryLineStore implements LineStore {
+    private final AtomicLong seq = new AtomicLong();
+
+    @Override
+    public List<Line> findAll() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Long insert(Line line) {
+        return seq.incrementAndGet();
+    }
+
+    @Override
+    public void update(Line line) {
+    }
+
+    @Override
+    public void deleteById(Long id) {
+    }
+
+    @Override
+    public void saveSectionChanges(Long lineId, SectionChanges changes) {
+    }
+}
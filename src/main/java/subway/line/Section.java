@@ -0,0 +1,54 @@
+package subway.line;
+
+public class Section {
+    private final long upStationId;
+    private final long downStationId;
+    private final int distance;
+    private final int duration;
+
+    public Section(long upStationId, long downStationId, int distance) {
+        this(upStationId, downStationId, distance, 0);
+    }
+
+    public Section(long upStationId, long downStationId, int distance, int duration) {
+        this.upStationId = upStationId;
+        this.downStationId = downStationId;
+        this.distance = distance;
+        this.duration = duration;
+    }
+
+    public long getUpStationId() {
+        return upStationId;
+    }
+
+    public long getDownStationId() {
+        return downStationId;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Section section = (Section) o;
+        return distance == section.distance
+                && duration == section.duration
+                && upStationId == section.upStationId
+                && downStationId == section.downStationId;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(upStationId);
+        result = 31 * result + Long.hashCode(downStationId);
+        result = 31 * result + distance;
+        return 31 * result + duration;
+    }
+}
@@ -0,0 +1,57 @@
+package subway.line;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 구간 추가/삭제로 노선에서 사라진 구간과 새로 생긴 구간입니다.
+ */
+public class SectionChanges {
+    private final List<Section> removed;
+    private final List<Section> added;
+
+    public SectionChanges(List<Section> removed, List<Section> added) {
+        this.removed = removed;
+        this.added = added;
+    }
+
+    public static SectionChanges added(Section... sections) {
+        return new SectionChanges(Collections.emptyList(), Arrays.asList(sections));
+    }
+
+    public static SectionChanges removed(List<Section> sections) {
+        return new SectionChanges(sections, Collections.emptyList());
+    }
+
+    /**
+     * 두 구간 목록의 차이를 구합니다. 여러 구간을 한꺼번에 바꿀 때 중간에 생겼다 사라진 구간은 포함하지 않습니다.
+     */
+    public static SectionChanges between(List<Section> before, List<Section> after) {
+        Map<Section, Integer> counts = new HashMap<>();
+        before.forEach(it -> counts.merge(it, 1, Integer::sum));
+        after.forEach(it -> counts.merge(it, -1, Integer::sum));
+        List<Section> removed = new ArrayList<>();
+        List<Section> added = new ArrayList<>();
+        counts.forEach((section, count) -> {
+            for (int i = 0; i < count; i++) {
+                removed.add(section);
+            }
+            for (int i = 0; i > count; i--) {
+                added.add(section);
+            }
+        });
+        return new SectionChanges(removed, added);
+    }
+
+    public List<Section> getRemoved() {
+        return removed;
+    }
+
+    public List<Section> getAdded() {
+        return added;
+    }
+}
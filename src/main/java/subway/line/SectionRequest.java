@@ -4,14 +4,20 @@ public class SectionRequest {
     private Long upStationId;
     private Long downStationId;
     private int distance;
+    private int duration;
 
     public SectionRequest() {
     }
 
     public SectionRequest(Long upStationId, Long downStationId, int distance) {
+        this(upStationId, downStationId, distance, 0);
+    }
+
+    public SectionRequest(Long upStationId, Long downStationId, int distance, int duration) {
         this.upStationId = upStationId;
         this.downStationId = downStationId;
         this.distance = distance;
+        this.duration = duration;
     }
 
     public Long getUpStationId() {
@@ -25,4 +31,8 @@ public class SectionRequest {
     public int getDistance() {
         return distance;
     }
+
+    public int getDuration() {
+        return duration;
+    }
 }
@@ -0,0 +1,310 @@
+package subway.line;
+
+import subway.common.LongIntMap;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * 노선의 구간을 상행 종점부터 하행 종점까지 이어진 연결 리스트로 보관합니다.
+ * 역 id 로 노드를 바로 찾을 수 있어 구간 추가/삭제는 정렬 없이 O(1) 이고, 정렬된 역 목록은 다음 변경 전까지 캐시합니다.
+ * <p>
+ * 노드는 객체 대신 슬롯 번호로 다루고, 역 id 와 앞뒤 슬롯, 다음 역까지의 거리/소요 시간을 기본형 배열에 나누어 담습니다.
+ * 역 id 에서 슬롯으로는 박싱하지 않는 {@link LongIntMap} 으로 찾습니다. 지운 슬롯은 다음에 추가할 때 다시 씁니다.
+ * 사본은 배열만 복사하면 되므로 노선을 바꿀 때마다 사본을 만들어도 부담이 적습니다.
+ * 정렬된 역 목록도 long 배열로 캐시하고, 역 id 는 목록에서 꺼낼 때(응답을 만들 때) 박싱합니다.
+ */
+public class Sections {
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private LongIntMap slots;
+    private long[] stationIdsBySlot;
+    private int[] prev;
+    private int[] next;
+    private int[] distances;
+    private int[] durations;
+    private int first;
+    private int last;
+    private int size;
+    private int usedSlots;
+    private int freeSlot = NONE;
+    private volatile List<Long> stationIds;
+
+    public Sections(Section section) {
+        this(INITIAL_CAPACITY);
+        first = newSlot(section.getUpStationId());
+        last = newSlot(section.getDownStationId());
+        link(first, last, section.getDistance(), section.getDuration());
+    }
+
+    private Sections(int capacity) {
+        slots = new LongIntMap(capacity);
+        stationIdsBySlot = new long[capacity];
+        prev = new int[capacity];
+        next = new int[capacity];
+        distances = new int[capacity];
+        durations = new int[capacity];
+    }
+
+    /**
+     * 순서 없이 읽어 온 구간들을 상행 종점부터 이어 붙입니다. 저장소에서 노선을 복원할 때 씁니다.
+     */
+    public static Sections of(List<Section> sections) {
+        Map<Long, Section> byUpStationId = new HashMap<>();
+        Map<Long, Section> byDownStationId = new HashMap<>();
+        for (Section section : sections) {
+            byUpStationId.put(section.getUpStationId(), section);
+            byDownStationId.put(section.getDownStationId(), section);
+        }
+        Section head = sections.stream()
+                .filter(it -> !byDownStationId.containsKey(it.getUpStationId()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("상행 종점을 찾을 수 없는 구간 목록입니다."));
+        Sections result = new Sections(head);
+        Section next = byUpStationId.get(head.getDownStationId());
+        while (next != null) {
+            int up = result.last;
+            result.last = result.newSlot(next.getDownStationId());
+            result.link(up, result.last, next.getDistance(), next.getDuration());
+            next = byUpStationId.get(next.getDownStationId());
+        }
+        if (result.size != sections.size() + 1) {
+            throw new IllegalStateException("하나로 이어지지 않는 구간 목록입니다.");
+        }
+        return result;
+    }
+
+    /**
+     * 노선을 바꿀 때는 사본을 고친 뒤 노선째 바꿔 끼우므로 읽는 쪽은 잠그지 않아도 됩니다.
+     */
+    public Sections copy() {
+        Sections copy = new Sections(0);
+        copy.slots = slots.copy();
+        copy.stationIdsBySlot = stationIdsBySlot.clone();
+        copy.prev = prev.clone();
+        copy.next = next.clone();
+        copy.distances = distances.clone();
+        copy.durations = durations.clone();
+        copy.first = first;
+        copy.last = last;
+        copy.size = size;
+        copy.usedSlots = usedSlots;
+        copy.freeSlot = freeSlot;
+        copy.stationIds = stationIds;
+        return copy;
+    }
+
+    public SectionChanges add(Section section) {
+        int up = slots.get(section.getUpStationId());
+        int down = slots.get(section.getDownStationId());
+        if (up != LongIntMap.MISSING && down != LongIntMap.MISSING) {
+            throw new IllegalArgumentException("상행역과 하행역이 이미 노선에 모두 등록되어 있습니다.");
+        }
+        if (up == LongIntMap.MISSING && down == LongIntMap.MISSING) {
+            throw new IllegalArgumentException("상행역과 하행역 둘 중 하나는 노선에 등록되어 있어야 합니다.");
+        }
+        stationIds = null;
+        if (up != LongIntMap.MISSING) {
+            return addDownward(up, section);
+        }
+        return addUpward(down, section);
+    }
+
+    /**
+     * 하나라도 추가할 수 없으면 아무것도 바꾸지 않습니다.
+     */
+    public SectionChanges addAll(List<Section> sections) {
+        List<Section> before = getSections();
+        Sections copy = copy();
+        for (Section section : sections) {
+            copy.add(section);
+        }
+        slots = copy.slots;
+        stationIdsBySlot = copy.stationIdsBySlot;
+        prev = copy.prev;
+        next = copy.next;
+        distances = copy.distances;
+        durations = copy.durations;
+        first = copy.first;
+        last = copy.last;
+        size = copy.size;
+        usedSlots = copy.usedSlots;
+        freeSlot = copy.freeSlot;
+        stationIds = null;
+        return SectionChanges.between(before, getSections());
+    }
+
+    public SectionChanges remove(Long stationId) {
+        if (size <= 2) {
+            throw new IllegalArgumentException("구간이 하나뿐인 노선에서는 역을 제외할 수 없습니다.");
+        }
+        int slot = slots.get(stationId);
+        if (slot == LongIntMap.MISSING) {
+            throw new IllegalArgumentException("노선에 등록되지 않은 역입니다: " + stationId);
+        }
+        stationIds = null;
+        int before = prev[slot];
+        int after = next[slot];
+        if (before == NONE) {
+            Section removed = sectionFrom(slot);
+            prev[after] = NONE;
+            first = after;
+            freeSlot(slot);
+            return SectionChanges.removed(Collections.singletonList(removed));
+        }
+        if (after == NONE) {
+            Section removed = sectionFrom(before);
+            next[before] = NONE;
+            distances[before] = 0;
+            durations[before] = 0;
+            last = before;
+            freeSlot(slot);
+            return SectionChanges.removed(Collections.singletonList(removed));
+        }
+        List<Section> removed = Arrays.asList(sectionFrom(before), sectionFrom(slot));
+        link(before, after, distances[before] + distances[slot], durations[before] + durations[slot]);
+        freeSlot(slot);
+        return new SectionChanges(removed, Collections.singletonList(sectionFrom(before)));
+    }
+
+    public List<Long> getStationIds() {
+        List<Long> cached = stationIds;
+        if (cached != null) {
+            return cached;
+        }
+        long[] ordered = new long[size];
+        int index = 0;
+        for (int slot = first; slot != NONE; slot = next[slot]) {
+            ordered[index++] = stationIdsBySlot[slot];
+        }
+        stationIds = new StationIds(ordered);
+        return stationIds;
+    }
+
+    public List<Section> getSections() {
+        List<Section> sections = new ArrayList<>(size - 1);
+        for (int slot = first; next[slot] != NONE; slot = next[slot]) {
+            sections.add(sectionFrom(slot));
+        }
+        return sections;
+    }
+
+    public int getSectionCount() {
+        return size - 1;
+    }
+
+    public boolean contains(Long stationId) {
+        return slots.get(stationId) != LongIntMap.MISSING;
+    }
+
+    private SectionChanges addDownward(int up, Section section) {
+        int after = next[up];
+        if (after == NONE) {
+            last = newSlot(section.getDownStationId());
+            link(up, last, section.getDistance(), section.getDuration());
+            return SectionChanges.added(section);
+        }
+        Section replaced = sectionFrom(up);
+        validateSplit(replaced, section);
+        int down = newSlot(section.getDownStationId());
+        link(up, down, section.getDistance(), section.getDuration());
+        link(down, after, replaced.getDistance() - section.getDistance(), replaced.getDuration() - section.getDuration());
+        return new SectionChanges(Collections.singletonList(replaced), Arrays.asList(sectionFrom(up), sectionFrom(down)));
+    }
+
+    private SectionChanges addUpward(int down, Section section) {
+        int before = prev[down];
+        if (before == NONE) {
+            first = newSlot(section.getUpStationId());
+            link(first, down, section.getDistance(), section.getDuration());
+            return SectionChanges.added(section);
+        }
+        Section replaced = sectionFrom(before);
+        validateSplit(replaced, section);
+        int up = newSlot(section.getUpStationId());
+        link(before, up, replaced.getDistance() - section.getDistance(), replaced.getDuration() - section.getDuration());
+        link(up, down, section.getDistance(), section.getDuration());
+        return new SectionChanges(Collections.singletonList(replaced), Arrays.asList(sectionFrom(before), sectionFrom(up)));
+    }
+
+    private void validateSplit(Section replaced, Section section) {
+        if (section.getDistance() >= replaced.getDistance()) {
+            throw new IllegalArgumentException("역 사이에 새로운 역을 등록할 경우 기존 구간보다 거리가 짧아야 합니다.");
+        }
+        if (section.getDuration() > replaced.getDuration()) {
+            throw new IllegalArgumentException("역 사이에 새로운 역을 등록할 경우 기존 구간보다 소요 시간이 길 수 없습니다.");
+        }
+    }
+
+    private Section sectionFrom(int slot) {
+        return new Section(stationIdsBySlot[slot], stationIdsBySlot[next[slot]], distances[slot], durations[slot]);
+    }
+
+    private int newSlot(long stationId) {
+        int slot = freeSlot;
+        if (slot != NONE) {
+            freeSlot = next[slot];
+        } else {
+            if (usedSlots == stationIdsBySlot.length) {
+                grow();
+            }
+            slot = usedSlots++;
+        }
+        stationIdsBySlot[slot] = stationId;
+        prev[slot] = NONE;
+        next[slot] = NONE;
+        distances[slot] = 0;
+        durations[slot] = 0;
+        slots.put(stationId, slot);
+        size++;
+        return slot;
+    }
+
+    private void freeSlot(int slot) {
+        slots.remove(stationIdsBySlot[slot]);
+        next[slot] = freeSlot;
+        freeSlot = slot;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = Math.max(INITIAL_CAPACITY, stationIdsBySlot.length * 2);
+        stationIdsBySlot = Arrays.copyOf(stationIdsBySlot, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        next = Arrays.copyOf(next, capacity);
+        distances = Arrays.copyOf(distances, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+    }
+
+    private void link(int up, int down, int distance, int duration) {
+        next[up] = down;
+        distances[up] = distance;
+        durations[up] = duration;
+        prev[down] = up;
+    }
+
+    private static class StationIds extends AbstractList<Long> implements RandomAccess {
+        private final long[] ids;
+
+        StationIds(long[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public Long get(int index) {
+            return ids[index];
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package subway.line;
+
+public class SectionsChangedEvent {
+    private final Long lineId;
+    private final SectionChanges changes;
+
+    public SectionsChangedEvent(Long lineId, SectionChanges changes) {
+        this.lineId = lineId;
+        this.changes = changes;
+    }
+
+    public Long getLineId() {
+        return lineId;
+    }
+
+    public SectionChanges getChanges() {
+        return changes;
+    }
+}
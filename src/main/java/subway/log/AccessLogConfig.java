@@ -0,0 +1,23 @@
+package subway.log;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * prod 프로필에서 access-log.full-sample-rate 로 고른 요청만 본문을 복사하도록 {@link SampledTeeFilter} 를 등록합니다.
+ * 0 이면 필터를 등록하지 않아 어떤 요청의 본문도 복사하지 않습니다.
+ */
+@Configuration
+@Profile("prod")
+public class AccessLogConfig {
+
+    @Bean
+    public FilterRegistrationBean<SampledTeeFilter> sampledTeeFilter(@Value("${access-log.full-sample-rate:0}") int sampleRate) {
+        FilterRegistrationBean<SampledTeeFilter> registration = new FilterRegistrationBean<>(new SampledTeeFilter(sampleRate));
+        registration.setEnabled(sampleRate > 0);
+        return registration;
+    }
+}
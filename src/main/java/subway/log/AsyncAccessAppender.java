@@ -0,0 +1,15 @@
+package subway.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+/**
+ * 접근 로그를 고정 크기 큐에 넣고 별도 스레드에서 기록하는 appender 입니다.
+ * 요청 스레드가 끝나면 request/response 가 재사용되므로, 큐에 넣기 전에 필요한 값을 이벤트에 복사해 둡니다.
+ */
+public class AsyncAccessAppender extends AsyncAppenderBase<IAccessEvent> {
+    @Override
+    protected void preprocess(IAccessEvent event) {
+        event.prepareForDeferredProcessing();
+    }
+}
@@ -0,0 +1,24 @@
+package subway.log;
+
+import ch.qos.logback.access.spi.IAccessEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * 서버 오류 응답과 {@link SampledTeeFilter} 가 고른 요청만 통과시킵니다.
+ * 본문은 고른 요청에서만 복사하므로, 고르지 않은 요청의 오류 응답은 본문 없이 헤더까지만 남습니다.
+ */
+public class SampledAccessFilter extends Filter<IAccessEvent> {
+    private static final int SERVER_ERROR = 500;
+
+    @Override
+    public FilterReply decide(IAccessEvent event) {
+        if (event.getStatusCode() >= SERVER_ERROR) {
+            return FilterReply.NEUTRAL;
+        }
+        if (Boolean.TRUE.toString().equals(event.getAttribute(SampledTeeFilter.SAMPLED))) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+}
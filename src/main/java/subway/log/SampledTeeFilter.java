@@ -0,0 +1,36 @@
+package subway.log;
+
+import ch.qos.logback.access.servlet.TeeFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * sampleRate 개 중 한 요청을 먼저 고르고, 고른 요청에만 TeeFilter 를 적용해 요청/응답 본문을 복사합니다.
+ * 고른 요청에는 {@link #SAMPLED} 속성을 남겨, {@link SampledAccessFilter} 가 같은 요청을 전체 로그에 남기게 합니다.
+ */
+public class SampledTeeFilter extends TeeFilter {
+    static final String SAMPLED = "subway.accessLog.sampled";
+
+    private final AtomicLong counter = new AtomicLong();
+    private final int sampleRate;
+
+    public SampledTeeFilter(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+        if (sampleRate > 0 && counter.incrementAndGet() % sampleRate == 0) {
+            request.setAttribute(SAMPLED, Boolean.TRUE);
+            super.doFilter(request, response, filterChain);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,57 @@
+package subway.member;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * 회원은 지하철 노선도와 따로 DB 에 저장합니다. journal 모드의 저널은 역과 노선만 기록하므로 그때도 이 저장소를 씁니다.
+ */
+@Repository
+@ConditionalOnExpression("'${subway.persistence:jdbc}' != 'memory'")
+public class JdbcMemberStore implements MemberStore {
+    private static final String INSERT_SQL = "insert into MEMBER (email, password, age) values (?, ?, ?)";
+    private static final RowMapper<Member> MEMBER_ROW_MAPPER =
+            (rs, rowNum) -> new Member(rs.getLong("id"), rs.getString("email"), rs.getString("password"), rs.getInt("age"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcMemberStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Member> findAll() {
+        return jdbcTemplate.query("select id, email, password, age from MEMBER", MEMBER_ROW_MAPPER);
+    }
+
+    @Override
+    public Long insert(Member member) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            statement.setString(1, member.getEmail());
+            statement.setString(2, member.getPassword());
+            statement.setInt(3, member.getAge());
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    @Override
+    public void update(Member member) {
+        jdbcTemplate.update("update MEMBER set email = ?, password = ?, age = ? where id = ?",
+                member.getEmail(), member.getPassword(), member.getAge(), member.getId());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jdbcTemplate.update("delete from MEMBER where id = ?", id);
+    }
+}
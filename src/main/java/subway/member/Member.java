@@ -0,0 +1,46 @@
+package subway.member;
+
+public class Member {
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final int age;
+
+    /**
+     * password 는 {@link Passwords#hash(String)} 로 만든 해시입니다.
+     */
+    public Member(Long id, String email, String password, int age) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.age = age;
+    }
+
+    public Member(String email, String password, int age) {
+        this(null, email, password, age);
+    }
+
+    public Member withId(Long id) {
+        return new Member(id, email, password, age);
+    }
+
+    public boolean checkPassword(String rawPassword) {
+        return Passwords.matches(rawPassword, password);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public int getAge() {
+        return age;
+    }
+}
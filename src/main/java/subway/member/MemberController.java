@@ -0,0 +1,45 @@
+package subway.member;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import subway.auth.AuthenticationPrincipal;
+import subway.auth.LoginMember;
+
+import java.net.URI;
+
+@RestController
+public class MemberController {
+    private final MemberService memberService;
+
+    public MemberController(MemberService memberService) {
+        this.memberService = memberService;
+    }
+
+    @PostMapping("/members")
+    public ResponseEntity<Void> createMember(@RequestBody MemberRequest request) {
+        MemberResponse member = memberService.createMember(request);
+        return ResponseEntity.created(URI.create("/members/" + member.getId())).build();
+    }
+
+    @GetMapping("/members/me")
+    public ResponseEntity<MemberResponse> findMemberOfMine(@AuthenticationPrincipal LoginMember loginMember) {
+        return ResponseEntity.ok().body(memberService.findMember(loginMember.getId()));
+    }
+
+    @PutMapping("/members/me")
+    public ResponseEntity<Void> updateMemberOfMine(@AuthenticationPrincipal LoginMember loginMember, @RequestBody MemberRequest request) {
+        memberService.updateMember(loginMember.getId(), request);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/members/me")
+    public ResponseEntity<Void> deleteMemberOfMine(@AuthenticationPrincipal LoginMember loginMember) {
+        memberService.deleteMember(loginMember.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler({DuplicateMemberException.class, IllegalArgumentException.class})
+    public ResponseEntity handleInvalidMember() {
+        return ResponseEntity.badRequest().build();
+    }
+}
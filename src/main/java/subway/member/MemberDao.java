@@ -0,0 +1,105 @@
+package subway.member;
+
+import org.springframework.stereotype.Repository;
+import subway.common.DenseIndex;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 회원의 메모리 인덱스입니다. 요청마다 토큰의 회원 id 로 찾으므로 id 를 칸 번호로 쓰는 배열에 두고,
+ * 로그인할 때 쓰는 이메일 인덱스는 가입할 때 먼저 선점해 같은 이메일이 두 번 저장되지 않게 합니다.
+ */
+@Repository
+public class MemberDao {
+    private final MemberStore memberStore;
+    private final DenseIndex<Member> membersById = new DenseIndex<>();
+    private final Map<String, Member> membersByEmail = new ConcurrentHashMap<>();
+    private final Lock writeLock = new ReentrantLock();
+
+    public MemberDao(MemberStore memberStore) {
+        this.memberStore = memberStore;
+        for (Member member : memberStore.findAll()) {
+            membersById.put(member.getId(), member);
+            membersByEmail.put(member.getEmail(), member);
+        }
+    }
+
+    public Member save(Member member) {
+        reserveEmail(member);
+        Member persistMember;
+        try {
+            persistMember = member.withId(memberStore.insert(member));
+        } catch (RuntimeException e) {
+            membersByEmail.remove(member.getEmail(), member);
+            throw e;
+        }
+        membersByEmail.put(persistMember.getEmail(), persistMember);
+        membersById.put(persistMember.getId(), persistMember);
+        return persistMember;
+    }
+
+    public Optional<Member> findById(long id) {
+        return Optional.ofNullable(membersById.get(id));
+    }
+
+    public Optional<Member> findByEmail(String email) {
+        return Optional.ofNullable(membersByEmail.get(email)).filter(it -> it.getId() != null);
+    }
+
+    /**
+     * 저장소 호출을 감싸므로 캐리어 스레드를 붙잡지 않는 ReentrantLock 으로 잠급니다.
+     */
+    public void update(Member member) {
+        writeLock.lock();
+        try {
+            Member old = membersById.get(member.getId());
+            if (old == null) {
+                return;
+            }
+            boolean emailChanged = !old.getEmail().equals(member.getEmail());
+            if (emailChanged) {
+                reserveEmail(member);
+            }
+            try {
+                memberStore.update(member);
+            } catch (RuntimeException e) {
+                if (emailChanged) {
+                    membersByEmail.remove(member.getEmail(), member);
+                }
+                throw e;
+            }
+            membersById.put(member.getId(), member);
+            membersByEmail.put(member.getEmail(), member);
+            if (emailChanged) {
+                membersByEmail.remove(old.getEmail(), old);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void deleteById(long id) {
+        writeLock.lock();
+        try {
+            Member removed = membersById.get(id);
+            if (removed == null) {
+                return;
+            }
+            memberStore.deleteById(id);
+            membersById.remove(id);
+            membersByEmail.remove(removed.getEmail(), removed);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void reserveEmail(Member member) {
+        if (membersByEmail.putIfAbsent(member.getEmail(), member) != null) {
+            throw new DuplicateMemberException(member.getEmail());
+        }
+    }
+}
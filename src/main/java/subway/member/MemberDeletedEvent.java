@@ -0,0 +1,13 @@
+package subway.member;
+
+public class MemberDeletedEvent {
+    private final Member member;
+
+    public MemberDeletedEvent(Member member) {
+        this.member = member;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+}
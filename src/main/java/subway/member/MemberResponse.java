@@ -0,0 +1,32 @@
+package subway.member;
+
+public class MemberResponse {
+    private Long id;
+    private String email;
+    private int age;
+
+    public MemberResponse() {
+    }
+
+    public MemberResponse(Long id, String email, int age) {
+        this.id = id;
+        this.email = email;
+        this.age = age;
+    }
+
+    public static MemberResponse of(Member member) {
+        return new MemberResponse(member.getId(), member.getEmail(), member.getAge());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public int getAge() {
+        return age;
+    }
+}
@@ -0,0 +1,51 @@
+package subway.member;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MemberService {
+    private final MemberDao memberDao;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MemberService(MemberDao memberDao, ApplicationEventPublisher eventPublisher) {
+        this.memberDao = memberDao;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public MemberResponse createMember(MemberRequest request) {
+        validate(request);
+        Member member = memberDao.save(new Member(request.getEmail(), Passwords.hash(request.getPassword()), request.getAge()));
+        return MemberResponse.of(member);
+    }
+
+    public MemberResponse findMember(Long id) {
+        return MemberResponse.of(findMemberById(id));
+    }
+
+    public void updateMember(Long id, MemberRequest request) {
+        validate(request);
+        findMemberById(id);
+        memberDao.update(new Member(id, request.getEmail(), Passwords.hash(request.getPassword()), request.getAge()));
+    }
+
+    public void deleteMember(Long id) {
+        memberDao.findById(id).ifPresent(member -> {
+            memberDao.deleteById(id);
+            eventPublisher.publishEvent(new MemberDeletedEvent(member));
+        });
+    }
+
+    private Member findMemberById(Long id) {
+        return memberDao.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + id));
+    }
+
+    private void validate(MemberRequest request) {
+        if (request.getEmail() == null || request.getEmail().trim().isEmpty()
+                || request.getPassword() == null || request.getPassword().isEmpty()
+                || request.getAge() == null || request.getAge() <= 0) {
+            throw new IllegalArgumentException("이메일, 비밀번호, 나이를 모두 입력해야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package subway.member;
+
+import java.util.List;
+
+/**
+ * 회원을 영속화하는 저장소입니다. 조회는 MemberDao 의 메모리 인덱스가 담당하고, 여기서는 기동할 때 한 번만 읽습니다.
+ */
+public interface MemberStore {
+    List<Member> findAll();
+
+    Long insert(Member member);
+
+    void update(Member member);
+
+    void deleteById(Long id);
+}
@@ -0,0 +1,32 @@
+package subway.member;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "memory")
+public class MemoryMemberStore implements MemberStore {
+    private final AtomicLong seq = new AtomicLong();
+
+    @Override
+    public List<Member> findAll() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Long insert(Member member) {
+        return seq.incrementAndGet();
+    }
+
+    @Override
+    public void update(Member member) {
+    }
+
+    @Override
+    public void deleteById(Long id) {
+    }
+}
@@ -0,0 +1,51 @@
+package subway.member;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 비밀번호를 PBKDF2 로 해시해 "반복횟수:솔트:해시" 형태로 저장합니다. 원문은 저장하지 않습니다.
+ */
+public final class Passwords {
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int ITERATIONS = 10_000;
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private Passwords() {
+    }
+
+    public static String hash(String rawPassword) {
+        byte[] salt = new byte[SALT_BYTES];
+        RANDOM.nextBytes(salt);
+        Base64.Encoder encoder = Base64.getEncoder();
+        return ITERATIONS + ":" + encoder.encodeToString(salt) + ":" + encoder.encodeToString(pbkdf2(rawPassword, salt, ITERATIONS));
+    }
+
+    public static boolean matches(String rawPassword, String hashed) {
+        if (rawPassword == null || hashed == null) {
+            return false;
+        }
+        String[] parts = hashed.split(":");
+        if (parts.length != 3) {
+            return false;
+        }
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] expected = decoder.decode(parts[2]);
+        return MessageDigest.isEqual(expected, pbkdf2(rawPassword, decoder.decode(parts[1]), Integer.parseInt(parts[0])));
+    }
+
+    private static byte[] pbkdf2(String rawPassword, byte[] salt, int iterations) {
+        try {
+            PBEKeySpec spec = new PBEKeySpec(rawPassword.toCharArray(), salt, iterations, HASH_BITS);
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
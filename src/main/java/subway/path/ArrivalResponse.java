@@ -0,0 +1,63 @@
+package subway.path;
+
+import subway.station.StationResponse;
+
+import java.util.List;
+
+public class ArrivalResponse {
+    private List<StationResponse> stations;
+    private String departureTime;
+    private String arrivalTime;
+    private int duration;
+    private int distance;
+    private int transfers;
+    private int fare;
+
+    public ArrivalResponse() {
+    }
+
+    public ArrivalResponse(List<StationResponse> stations, String departureTime, String arrivalTime, int duration, int distance,
+                           int transfers, int fare) {
+        this.stations = stations;
+        this.departureTime = departureTime;
+        this.arrivalTime = arrivalTime;
+        this.duration = duration;
+        this.distance = distance;
+        this.transfers = transfers;
+        this.fare = fare;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    /**
+     * 첫 열차가 출발역을 떠나는 시각(HH:mm)입니다.
+     */
+    public String getDepartureTime() {
+        return departureTime;
+    }
+
+    public String getArrivalTime() {
+        return arrivalTime;
+    }
+
+    /**
+     * 조회한 출발 시각부터 도착할 때까지 걸리는 시간(분)입니다. 첫 열차를 기다리는 시간을 포함합니다.
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
@@ -0,0 +1,56 @@
+package subway.path;
+
+public class ArrivalResult {
+    private final long[] stationIds;
+    private final long[] lineIds;
+    private final int requestedDeparture;
+    private final int departure;
+    private final int arrival;
+    private final int distance;
+    private final int transfers;
+
+    public ArrivalResult(long[] stationIds, long[] lineIds, int requestedDeparture, int departure, int arrival, int distance,
+                         int transfers) {
+        this.stationIds = stationIds;
+        this.lineIds = lineIds;
+        this.requestedDeparture = requestedDeparture;
+        this.departure = departure;
+        this.arrival = arrival;
+        this.distance = distance;
+        this.transfers = transfers;
+    }
+
+    public long[] getStationIds() {
+        return stationIds;
+    }
+
+    /**
+     * 갈아탄 순서대로의 노선 id 입니다. 같은 노선을 다시 타면 다시 들어갑니다.
+     */
+    public long[] getLineIds() {
+        return lineIds;
+    }
+
+    /**
+     * 조회한 출발 시각입니다. 시각은 모두 운행일 0시부터의 분이며, 자정을 넘긴 막차 시간대면 1440 이상입니다.
+     */
+    public int getRequestedDeparture() {
+        return requestedDeparture;
+    }
+
+    public int getDeparture() {
+        return departure;
+    }
+
+    public int getArrival() {
+        return arrival;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getTransfers() {
+        return transfers;
+    }
+}
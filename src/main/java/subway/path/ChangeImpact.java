@@ -0,0 +1,100 @@
+package subway.path;
+
+import subway.line.Section;
+import subway.line.SectionChanges;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongPredicate;
+
+/**
+ * 구간 변경이 이미 그래프에 연결되어 있던 두 역 사이를 더 가깝게 만들 수 있는지 판단합니다.
+ * <p>
+ * 추가된 구간만 따라(새 역은 지나고 기존 역에서는 멈추며) 기존 역끼리 이은 거리가, 삭제된 구간만으로 이은 거리보다 짧지 않으면
+ * 기존 역 사이의 최단 거리는 줄어들 수 없습니다. 종점 연장, 역 사이 추가, 역 제외는 모두 여기에 해당하므로
+ * 이런 변경 뒤에는 바뀐 노선을 지나는 경로만 다시 구하면 됩니다. 거리와 소요 시간 모두 같은 방식으로 확인합니다.
+ */
+final class ChangeImpact {
+    private static final int MAX_CHECKED_SECTIONS = 64;
+    private static final int DISTANCE = 0;
+    private static final int DURATION = 1;
+
+    private ChangeImpact() {
+    }
+
+    /**
+     * @param connected 변경을 반영하기 전 그래프에서 구간이 하나라도 있는 역인지 확인합니다.
+     */
+    static boolean canShortenPaths(Map<Long, SectionChanges> changesByLine, LongPredicate connected) {
+        Map<Long, List<long[]>> added = new HashMap<>();
+        Map<Long, List<long[]>> removed = new HashMap<>();
+        int count = 0;
+        for (SectionChanges changes : changesByLine.values()) {
+            for (Section section : changes.getAdded()) {
+                link(added, section);
+            }
+            for (Section section : changes.getRemoved()) {
+                link(removed, section);
+            }
+            count += changes.getAdded().size() + changes.getRemoved().size();
+        }
+        if (count > MAX_CHECKED_SECTIONS) {
+            return true;
+        }
+        for (Long station : added.keySet()) {
+            if (!connected.test(station)) {
+                continue;
+            }
+            for (int metric = DISTANCE; metric <= DURATION; metric++) {
+                Map<Long, Long> viaAdded = shortestDistances(added, station, metric, connected);
+                Map<Long, Long> viaRemoved = shortestDistances(removed, station, metric, it -> false);
+                for (Map.Entry<Long, Long> entry : viaAdded.entrySet()) {
+                    long other = entry.getKey();
+                    if (other == station || !connected.test(other)) {
+                        continue;
+                    }
+                    Long before = viaRemoved.get(other);
+                    if (before == null || entry.getValue() < before) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void link(Map<Long, List<long[]>> edges, Section section) {
+        long up = section.getUpStationId();
+        long down = section.getDownStationId();
+        edges.computeIfAbsent(up, it -> new ArrayList<>()).add(new long[]{down, section.getDistance(), section.getDuration()});
+        edges.computeIfAbsent(down, it -> new ArrayList<>()).add(new long[]{up, section.getDistance(), section.getDuration()});
+    }
+
+    // 시작역이 아닌 stop 역에서는 더 넘어가지 않습니다.
+    private static Map<Long, Long> shortestDistances(Map<Long, List<long[]>> edges, long start, int metric, LongPredicate stop) {
+        Map<Long, Long> distances = new HashMap<>();
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[1], b[1]));
+        distances.put(start, 0L);
+        queue.add(new long[]{start, 0});
+        while (!queue.isEmpty()) {
+            long[] current = queue.poll();
+            long station = current[0];
+            if (current[1] > distances.get(station) || (station != start && stop.test(station))) {
+                continue;
+            }
+            for (long[] edge : edges.getOrDefault(station, Collections.emptyList())) {
+                long next = current[1] + edge[1 + metric];
+                Long known = distances.get(edge[0]);
+                if (known == null || next < known) {
+                    distances.put(edge[0], next);
+                    queue.add(new long[]{edge[0], next});
+                }
+            }
+        }
+        return distances;
+    }
+}
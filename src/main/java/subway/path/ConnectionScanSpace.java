@@ -0,0 +1,63 @@
+package subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 요청 사이에 재사용하는 연결 스캔용 작업 배열입니다. {@link SearchSpace} 처럼 세대 번호로 도착/탑승 여부를 표시합니다.
+ */
+class ConnectionScanSpace {
+    int[] arrivals = new int[0];
+    int[] readyTimes = new int[0];
+    int[] enteredAt = new int[0];
+    int[] exitedAt = new int[0];
+    int[] boardedAt = new int[0];
+
+    private int[] reachedEpochs = new int[0];
+    private int[] boardedEpochs = new int[0];
+    private int epoch;
+
+    void prepare(int stopCapacity, int tripCapacity) {
+        if (arrivals.length < stopCapacity) {
+            arrivals = new int[stopCapacity];
+            readyTimes = new int[stopCapacity];
+            enteredAt = new int[stopCapacity];
+            exitedAt = new int[stopCapacity];
+            reachedEpochs = new int[stopCapacity];
+            Arrays.fill(boardedEpochs, 0);
+            epoch = 0;
+        }
+        if (boardedAt.length < tripCapacity) {
+            boardedAt = new int[tripCapacity];
+            boardedEpochs = new int[tripCapacity];
+            Arrays.fill(reachedEpochs, 0);
+            epoch = 0;
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(reachedEpochs, 0);
+            Arrays.fill(boardedEpochs, 0);
+            epoch = 1;
+        }
+    }
+
+    // entered/exited 는 탄 연결과 내린 연결의 번호이며, 출발역이면 -1 입니다.
+    void reach(int stop, int arrival, int readyTime, int entered, int exited) {
+        reachedEpochs[stop] = epoch;
+        arrivals[stop] = arrival;
+        readyTimes[stop] = readyTime;
+        enteredAt[stop] = entered;
+        exitedAt[stop] = exited;
+    }
+
+    boolean isReached(int stop) {
+        return reachedEpochs[stop] == epoch;
+    }
+
+    void board(int trip, int connection) {
+        boardedEpochs[trip] = epoch;
+        boardedAt[trip] = connection;
+    }
+
+    boolean isBoarded(int trip) {
+        return boardedEpochs[trip] == epoch;
+    }
+}
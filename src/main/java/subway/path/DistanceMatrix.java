@@ -0,0 +1,36 @@
+package subway.path;
+
+/**
+ * 출발역 x 도착역 최단 거리와, 그 최단 경로가 지나는 노선 중 가장 큰 추가 요금입니다. 갈 수 없는 칸은 UNREACHABLE 입니다.
+ */
+public class DistanceMatrix {
+    public static final int UNREACHABLE = -1;
+
+    private final long[] sourceStationIds;
+    private final long[] targetStationIds;
+    private final int[][] distances;
+    private final int[][] maxExtraFares;
+
+    DistanceMatrix(long[] sourceStationIds, long[] targetStationIds, int[][] distances, int[][] maxExtraFares) {
+        this.sourceStationIds = sourceStationIds;
+        this.targetStationIds = targetStationIds;
+        this.distances = distances;
+        this.maxExtraFares = maxExtraFares;
+    }
+
+    public long[] getSourceStationIds() {
+        return sourceStationIds;
+    }
+
+    public long[] getTargetStationIds() {
+        return targetStationIds;
+    }
+
+    public int[][] getDistances() {
+        return distances;
+    }
+
+    public int[][] getMaxExtraFares() {
+        return maxExtraFares;
+    }
+}
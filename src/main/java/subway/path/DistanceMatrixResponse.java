@@ -0,0 +1,39 @@
+package subway.path;
+
+import java.util.List;
+
+/**
+ * 출발역 x 도착역 거리/운임 행렬입니다. distances[i][j] 는 sources[i] 에서 targets[j] 까지이며, 갈 수 없으면 -1 입니다.
+ */
+public class DistanceMatrixResponse {
+    private List<Long> sources;
+    private List<Long> targets;
+    private int[][] distances;
+    private int[][] fares;
+
+    public DistanceMatrixResponse() {
+    }
+
+    public DistanceMatrixResponse(List<Long> sources, List<Long> targets, int[][] distances, int[][] fares) {
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+        this.fares = fares;
+    }
+
+    public List<Long> getSources() {
+        return sources;
+    }
+
+    public List<Long> getTargets() {
+        return targets;
+    }
+
+    public int[][] getDistances() {
+        return distances;
+    }
+
+    public int[][] getFares() {
+        return fares;
+    }
+}
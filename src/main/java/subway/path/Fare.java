@@ -0,0 +1,37 @@
+package subway.path;
+
+/**
+ * 지하철 운임 계산 규칙입니다.
+ * 10km 까지는 기본운임, 50km 까지는 5km 마다 100원, 그 뒤로는 8km 마다 100원을 더하고, 지나는 노선 중 가장 큰 추가 요금을 더합니다.
+ */
+public final class Fare {
+    static final int BASE_FARE = 1250;
+    private static final int SURCHARGE = 100;
+    private static final int BASE_DISTANCE = 10;
+    private static final int MIDDLE_DISTANCE = 50;
+    private static final int MIDDLE_UNIT = 5;
+    private static final int LONG_UNIT = 8;
+
+    private Fare() {
+    }
+
+    public static int calculate(int distance, int maxExtraFare) {
+        return BASE_FARE + distanceSurcharge(distance) + maxExtraFare;
+    }
+
+    private static int distanceSurcharge(int distance) {
+        if (distance <= BASE_DISTANCE) {
+            return 0;
+        }
+        int middle = Math.min(distance, MIDDLE_DISTANCE) - BASE_DISTANCE;
+        int surcharge = ceilDiv(middle, MIDDLE_UNIT) * SURCHARGE;
+        if (distance > MIDDLE_DISTANCE) {
+            surcharge += ceilDiv(distance - MIDDLE_DISTANCE, LONG_UNIT) * SURCHARGE;
+        }
+        return surcharge;
+    }
+
+    private static int ceilDiv(int value, int unit) {
+        return (value + unit - 1) / unit;
+    }
+}
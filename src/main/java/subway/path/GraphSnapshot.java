@@ -0,0 +1,64 @@
+package subway.path;
+
+/**
+ * 경로 그래프를 그대로 복원할 수 있도록 인접 리스트를 CSR(offsets/targets) 형태의 평평한 배열로 옮긴 것입니다.
+ * 정점 i 의 간선은 targets[offsets[i]] 부터 targets[offsets[i + 1] - 1] 까지이고, 무방향 간선은 양쪽에 한 번씩 들어 있습니다.
+ */
+public class GraphSnapshot {
+    private final long[] stationIds;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] distances;
+    private final int[] durations;
+    private final long[] lineIds;
+    private final int[] landmarks;
+    private final int[][] landmarkDistances;
+
+    public GraphSnapshot(long[] stationIds, int[] offsets, int[] targets, int[] distances, int[] durations, long[] lineIds,
+                         int[] landmarks, int[][] landmarkDistances) {
+        this.stationIds = stationIds;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.distances = distances;
+        this.durations = durations;
+        this.lineIds = lineIds;
+        this.landmarks = landmarks;
+        this.landmarkDistances = landmarkDistances;
+    }
+
+    public int getVertexCount() {
+        return stationIds.length;
+    }
+
+    public long[] getStationIds() {
+        return stationIds;
+    }
+
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    public int[] getTargets() {
+        return targets;
+    }
+
+    public int[] getDistances() {
+        return distances;
+    }
+
+    public int[] getDurations() {
+        return durations;
+    }
+
+    public long[] getLineIds() {
+        return lineIds;
+    }
+
+    public int[] getLandmarks() {
+        return landmarks;
+    }
+
+    public int[][] getLandmarkDistances() {
+        return landmarkDistances;
+    }
+}
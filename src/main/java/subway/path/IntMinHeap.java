@@ -0,0 +1,72 @@
+package subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 정점 번호와 우선순위를 int 배열로 보관하는 이진 힙입니다.
+ * decrease-key 대신 중복 삽입을 허용하므로, 꺼낸 쪽에서 이미 확정된 정점인지 확인해야 합니다.
+ */
+class IntMinHeap {
+    private int[] vertices;
+    private int[] priorities;
+    private int size;
+
+    IntMinHeap(int capacity) {
+        vertices = new int[Math.max(16, capacity)];
+        priorities = new int[vertices.length];
+    }
+
+    void push(int vertex, int priority) {
+        if (size == vertices.length) {
+            vertices = Arrays.copyOf(vertices, size << 1);
+            priorities = Arrays.copyOf(priorities, size << 1);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            vertices[i] = vertices[parent];
+            priorities[i] = priorities[parent];
+            i = parent;
+        }
+        vertices[i] = vertex;
+        priorities[i] = priority;
+    }
+
+    int peekPriority() {
+        return priorities[0];
+    }
+
+    int pop() {
+        int top = vertices[0];
+        int lastVertex = vertices[--size];
+        int lastPriority = priorities[size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = (i << 1) + 1;
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+                child++;
+            }
+            if (lastPriority <= priorities[child]) {
+                break;
+            }
+            vertices[i] = vertices[child];
+            priorities[i] = priorities[child];
+            i = child;
+        }
+        vertices[i] = lastVertex;
+        priorities[i] = lastPriority;
+        return top;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,55 @@
+package subway.path;
+
+public class PathCacheResponse {
+    private int size;
+    private int capacity;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private double p99LookupMicros;
+
+    public PathCacheResponse() {
+    }
+
+    public PathCacheResponse(int size, int capacity, long hitCount, long missCount, long evictionCount, double p99LookupMicros) {
+        this.size = size;
+        this.capacity = capacity;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount);
+        this.evictionCount = evictionCount;
+        this.p99LookupMicros = p99LookupMicros;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 캐시 적중과 실패를 모두 포함한 경로 조회 지연 시간의 99 백분위입니다.
+     */
+    public double getP99LookupMicros() {
+        return p99LookupMicros;
+    }
+}
@@ -0,0 +1,47 @@
+package subway.path;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class PathController {
+    private final PathService pathService;
+
+    public PathController(PathService pathService) {
+        this.pathService = pathService;
+    }
+
+    /**
+     * type=ARRIVAL 이면 time(HH:mm)에 출발해 가장 일찍 도착하는 경로를 노선 시간표로 찾습니다.
+     */
+    @GetMapping(value = "/paths", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> findPath(@RequestParam Long source, @RequestParam Long target,
+                                      @RequestParam(defaultValue = "DISTANCE") PathType type,
+                                      @RequestParam(required = false) String time) {
+        if (type == PathType.ARRIVAL && time != null) {
+            return ResponseEntity.ok().body(pathService.findEarliestArrival(source, target, time));
+        }
+        return ResponseEntity.ok().body(pathService.findPath(source, target, type));
+    }
+
+    @GetMapping(value = "/paths/matrix", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DistanceMatrixResponse> findDistanceMatrix(@RequestParam List<Long> sources, @RequestParam List<Long> targets) {
+        return ResponseEntity.ok().body(pathService.findDistanceMatrix(sources, targets));
+    }
+
+    @GetMapping(value = "/paths/cache", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PathCacheResponse> findPathCacheStats() {
+        return ResponseEntity.ok().body(pathService.findPathCacheStats());
+    }
+
+    @ExceptionHandler({PathNotFoundException.class, IllegalArgumentException.class})
+    public ResponseEntity handlePathNotFound() {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -0,0 +1,7 @@
+package subway.path;
+
+public class PathNotFoundException extends RuntimeException {
+    public PathNotFoundException(Long source, Long target) {
+        super("경로를 찾을 수 없습니다: " + source + " -> " + target);
+    }
+}
@@ -0,0 +1,38 @@
+package subway.path;
+
+import subway.station.StationResponse;
+
+import java.util.List;
+
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+    private int duration;
+    private int fare;
+
+    public PathResponse() {
+    }
+
+    public PathResponse(List<StationResponse> stations, int distance, int duration, int fare) {
+        this.stations = stations;
+        this.distance = distance;
+        this.duration = duration;
+        this.fare = fare;
+    }
+
+    public List<StationResponse> getStations() {
+        return stations;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public int getFare() {
+        return fare;
+    }
+}
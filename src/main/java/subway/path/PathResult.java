@@ -0,0 +1,40 @@
+package subway.path;
+
+public class PathResult {
+    private final int distance;
+    private final int duration;
+    private final long[] stationIds;
+    private final long[] lineIds;
+    private final long version;
+
+    public PathResult(int distance, int duration, long[] stationIds, long[] lineIds, long version) {
+        this.distance = distance;
+        this.duration = duration;
+        this.stationIds = stationIds;
+        this.lineIds = lineIds;
+        this.version = version;
+    }
+
+    public int getDistance() {
+        return distance;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public long[] getStationIds() {
+        return stationIds;
+    }
+
+    /**
+     * 경로가 지나는 노선 id 를 지나는 순서대로, 중복 없이 담고 있습니다.
+     */
+    public long[] getLineIds() {
+        return lineIds;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,332 @@
+package subway.path;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import subway.common.LatencyHistogram;
+import subway.common.LongIntMap;
+import subway.common.SingleFlight;
+import subway.common.Timers;
+import subway.common.TinyLfuCache;
+import subway.line.Line;
+import subway.line.LineDao;
+import subway.line.LineSchedule;
+import subway.station.Station;
+import subway.station.StationDao;
+import subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class PathService implements MeterBinder {
+    static final int MAX_MATRIX_STATIONS = 500;
+    private static final int MATRIX_CACHE_SIZE = 32;
+
+    private final SubwayGraph subwayGraph;
+    private final StationDao stationDao;
+    private final LineDao lineDao;
+    private final int transferMinutes;
+    private final Object timetableLock = new Object();
+    private volatile Timetable timetable;
+    private final TinyLfuCache<PathKey, CachedPath> paths;
+    private final SingleFlight<PathKey, CachedPath> pathFlights;
+    private final SingleFlight<ArrivalKey, ArrivalResponse> arrivalFlights;
+    private final LatencyHistogram pathLatencies = new LatencyHistogram();
+    private volatile PathTimers timers = new PathTimers(Timers.UNBOUND);
+    private final Map<String, CachedMatrix> matrices = new LinkedHashMap<String, CachedMatrix>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedMatrix> eldest) {
+            return size() > MATRIX_CACHE_SIZE;
+        }
+    };
+
+    public PathService(SubwayGraph subwayGraph, StationDao stationDao, LineDao lineDao,
+                       @Value("${subway.path-cache.size:10000}") int pathCacheSize,
+                       @Value("${subway.timetable.transfer-minutes:4}") int transferMinutes,
+                       @Value("${subway.single-flight.enabled:true}") boolean singleFlight) {
+        this.subwayGraph = subwayGraph;
+        this.stationDao = stationDao;
+        this.lineDao = lineDao;
+        this.transferMinutes = transferMinutes;
+        this.paths = new TinyLfuCache<>(pathCacheSize);
+        this.pathFlights = new SingleFlight<>("path", singleFlight);
+        this.arrivalFlights = new SingleFlight<>("arrival", singleFlight);
+    }
+
+    /**
+     * 캐시한 경로는 꺼낼 때 그 뒤의 구간 변경으로 낡았는지 확인하고, 요금은 매번 다시 계산합니다.
+     */
+    public PathResponse findPath(Long source, Long target, PathType type) {
+        if (type == PathType.ARRIVAL) {
+            throw new IllegalArgumentException("도착 시각 기준 경로는 출발 시각이 있어야 합니다.");
+        }
+        long start = System.nanoTime();
+        try {
+            PathKey key = new PathKey(source, target, type);
+            CachedPath cached = paths.get(key, it -> subwayGraph.isValid(it.result));
+            if (cached == null) {
+                cached = pathFlights.execute(key, subwayGraph.getVersion(), () -> {
+                    CachedPath computed = computePath(source, target, type);
+                    paths.put(key, computed);
+                    return computed;
+                });
+            }
+            PathResult result = cached.result;
+            int maxExtraFare = 0;
+            for (long lineId : result.getLineIds()) {
+                maxExtraFare = Math.max(maxExtraFare, lineDao.findById(lineId).map(Line::getExtraFare).orElse(0));
+            }
+            return new PathResponse(cached.stations, result.getDistance(), result.getDuration(), Fare.calculate(result.getDistance(), maxExtraFare));
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            pathLatencies.record(elapsed);
+            timers.lookup.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 출발 시각마다 답이 달라 캐시하지 않고, 동시에 들어온 같은 조회만 합칩니다.
+     */
+    public ArrivalResponse findEarliestArrival(Long source, Long target, String departureTime) {
+        int departure = LineSchedule.parseMinutes(departureTime);
+        Timetable current = currentTimetable();
+        return arrivalFlights.execute(new ArrivalKey(source, target, departure), current.getVersion(),
+                () -> computeArrival(current, source, target, departure));
+    }
+
+    private ArrivalResponse computeArrival(Timetable current, Long source, Long target, int departure) {
+        long start = System.nanoTime();
+        Optional<ArrivalResult> found = current.findEarliestArrival(source, target, departure);
+        timers.compute.get(PathType.ARRIVAL).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        ArrivalResult result = found.orElseThrow(() -> new PathNotFoundException(source, target));
+        List<StationResponse> stations = new ArrayList<>(result.getStationIds().length);
+        for (long stationId : result.getStationIds()) {
+            Station station = stationDao.findById(stationId)
+                    .orElseThrow(() -> new PathNotFoundException(source, target));
+            stations.add(new StationResponse(station.getId(), station.getName()));
+        }
+        int maxExtraFare = 0;
+        for (long lineId : result.getLineIds()) {
+            maxExtraFare = Math.max(maxExtraFare, lineDao.findById(lineId).map(Line::getExtraFare).orElse(0));
+        }
+        return new ArrivalResponse(stations, LineSchedule.formatMinutes(result.getDeparture()),
+                LineSchedule.formatMinutes(result.getArrival()), result.getArrival() - result.getRequestedDeparture(),
+                result.getDistance(), result.getTransfers(), Fare.calculate(result.getDistance(), maxExtraFare));
+    }
+
+    public PathCacheResponse findPathCacheStats() {
+        return new PathCacheResponse(paths.size(), paths.getCapacity(), paths.getHitCount(), paths.getMissCount(),
+                paths.getEvictionCount(), pathLatencies.getPercentileMicros(99));
+    }
+
+    /**
+     * subway.path.lookup 은 캐시 적중을 포함한 조회 전체, subway.path.compute 는 그래프 탐색 시간입니다.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.path.cache.size", paths, TinyLfuCache::size)
+                .description("캐시한 최단 경로 수")
+                .register(registry);
+        FunctionCounter.builder("subway.path.cache.gets", paths, TinyLfuCache::getHitCount)
+                .description("최단 경로 캐시 조회 수")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("subway.path.cache.gets", paths, TinyLfuCache::getMissCount)
+                .description("최단 경로 캐시 조회 수")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("subway.path.cache.evictions", paths, TinyLfuCache::getEvictionCount)
+                .description("용량이 차서 밀려난 최단 경로 수")
+                .register(registry);
+        pathFlights.bindTo(registry);
+        arrivalFlights.bindTo(registry);
+        timers = new PathTimers(registry);
+    }
+
+    // 버전을 노선보다 먼저 읽으므로 새 시간표가 낡은 노선을 담지는 않습니다.
+    private Timetable currentTimetable() {
+        long version = lineDao.getVersion();
+        Timetable current = timetable;
+        if (current != null && current.getVersion() >= version) {
+            return current;
+        }
+        synchronized (timetableLock) {
+            current = timetable;
+            if (current == null || current.getVersion() < version) {
+                long start = System.nanoTime();
+                current = Timetable.build(lineDao.findAll(), version, transferMinutes);
+                timers.timetable.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                timetable = current;
+            }
+            return current;
+        }
+    }
+
+    private CachedPath computePath(Long source, Long target, PathType type) {
+        long start = System.nanoTime();
+        Optional<PathResult> found = subwayGraph.findShortestPath(source, target, type);
+        timers.compute.get(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        PathResult result = found.orElseThrow(() -> new PathNotFoundException(source, target));
+        List<StationResponse> stations = new ArrayList<>(result.getStationIds().length);
+        for (long stationId : result.getStationIds()) {
+            Station station = stationDao.findById(stationId)
+                    .orElseThrow(() -> new PathNotFoundException(source, target));
+            stations.add(new StationResponse(station.getId(), station.getName()));
+        }
+        return new CachedPath(result, Collections.unmodifiableList(stations));
+    }
+
+    public DistanceMatrixResponse findDistanceMatrix(List<Long> sources, List<Long> targets) {
+        validateMatrixSize(sources);
+        validateMatrixSize(targets);
+        String key = sources + "->" + targets;
+        long version = subwayGraph.getVersion() + lineDao.getVersion();
+        CachedMatrix cached;
+        synchronized (matrices) {
+            cached = matrices.get(key);
+        }
+        if (cached != null && cached.version >= version) {
+            return cached.response;
+        }
+        long start = System.nanoTime();
+        DistanceMatrixResponse response = computeDistanceMatrix(sources, targets);
+        timers.matrix.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        synchronized (matrices) {
+            matrices.merge(key, new CachedMatrix(version, response), (old, it) -> old.version >= it.version ? old : it);
+        }
+        return response;
+    }
+
+    private DistanceMatrixResponse computeDistanceMatrix(List<Long> sources, List<Long> targets) {
+        List<Line> lines = lineDao.findAll();
+        LongIntMap extraFares = new LongIntMap(lines.size());
+        for (Line line : lines) {
+            extraFares.put(line.getId(), Math.max(0, line.getExtraFare()));
+        }
+        DistanceMatrix matrix = subwayGraph.distanceMatrix(toArray(sources), toArray(targets), extraFares);
+        int[][] distances = matrix.getDistances();
+        int[][] fares = new int[distances.length][];
+        for (int i = 0; i < distances.length; i++) {
+            fares[i] = new int[distances[i].length];
+            for (int j = 0; j < distances[i].length; j++) {
+                fares[i][j] = distances[i][j] == DistanceMatrix.UNREACHABLE
+                        ? DistanceMatrix.UNREACHABLE
+                        : Fare.calculate(distances[i][j], matrix.getMaxExtraFares()[i][j]);
+            }
+        }
+        return new DistanceMatrixResponse(sources, targets, distances, fares);
+    }
+
+    private void validateMatrixSize(List<Long> stationIds) {
+        if (stationIds.isEmpty() || stationIds.size() > MAX_MATRIX_STATIONS) {
+            throw new IllegalArgumentException("행렬의 출발역/도착역은 1개 이상 " + MAX_MATRIX_STATIONS + "개 이하여야 합니다.");
+        }
+    }
+
+    private static long[] toArray(List<Long> ids) {
+        long[] result = new long[ids.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.get(i);
+        }
+        return result;
+    }
+
+    private static class PathKey {
+        private final long source;
+        private final long target;
+        private final PathType type;
+
+        PathKey(long source, long target, PathType type) {
+            this.source = source;
+            this.target = target;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PathKey pathKey = (PathKey) o;
+            return source == pathKey.source && target == pathKey.target && type == pathKey.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, target, type);
+        }
+    }
+
+    private static class ArrivalKey {
+        private final long source;
+        private final long target;
+        private final int departure;
+
+        ArrivalKey(long source, long target, int departure) {
+            this.source = source;
+            this.target = target;
+            this.departure = departure;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ArrivalKey that = (ArrivalKey) o;
+            return source == that.source && target == that.target && departure == that.departure;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, target, departure);
+        }
+    }
+
+    private static class CachedPath {
+        private final PathResult result;
+        private final List<StationResponse> stations;
+
+        CachedPath(PathResult result, List<StationResponse> stations) {
+            this.result = result;
+            this.stations = stations;
+        }
+    }
+
+    private static class CachedMatrix {
+        private final long version;
+        private final DistanceMatrixResponse response;
+
+        CachedMatrix(long version, DistanceMatrixResponse response) {
+            this.version = version;
+            this.response = response;
+        }
+    }
+
+    private static class PathTimers {
+        private final Timer lookup;
+        private final Map<PathType, Timer> compute = new EnumMap<>(PathType.class);
+        private final Timer matrix;
+        private final Timer timetable;
+
+        PathTimers(MeterRegistry registry) {
+            this.lookup = Timers.histogram(registry, "subway.path.lookup", "캐시 확인과 요금 계산을 포함한 경로 조회 시간");
+            for (PathType type : PathType.values()) {
+                compute.put(type, Timers.histogram(registry, "subway.path.compute", "그래프에서 최단 경로를 탐색한 시간",
+                        "type", type.name()));
+            }
+            this.matrix = Timers.histogram(registry, "subway.path.matrix", "거리/운임 행렬을 계산한 시간");
+            this.timetable = Timers.histogram(registry, "subway.path.timetable.build", "노선 시간표를 연결 배열로 펼쳐 정렬한 시간");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package subway.path;
+
+/**
+ * 최단 경로를 고르는 기준입니다. ARRIVAL 은 노선 시간표를 따라 출발 시각에서 가장 일찍 도착하는 경로입니다.
+ */
+public enum PathType {
+    DISTANCE,
+    DURATION,
+    ARRIVAL
+}
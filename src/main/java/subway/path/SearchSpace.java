@@ -0,0 +1,74 @@
+package subway.path;
+
+import java.util.Arrays;
+
+/**
+ * 요청 사이에 재사용하는 탐색용 작업 배열입니다. {@link WorkspacePool} 에서 빌려 씁니다.
+ * 방문 여부를 세대(epoch) 번호로 표시해서 탐색마다 배열을 비우지 않습니다.
+ */
+class SearchSpace {
+    int[] distances = new int[0];
+    int[] previous = new int[0];
+    int[] previousEdges = new int[0];
+    int[] extraFares = new int[0];
+    int[] targetBounds = new int[0];
+    final IntMinHeap heap = new IntMinHeap(64);
+
+    private int[] reachedEpochs = new int[0];
+    private int[] settledEpochs = new int[0];
+    private int[] markedEpochs = new int[0];
+    private int epoch;
+
+    void prepare(int vertexCapacity, int landmarkCount) {
+        if (distances.length < vertexCapacity) {
+            distances = new int[vertexCapacity];
+            previous = new int[vertexCapacity];
+            previousEdges = new int[vertexCapacity];
+            extraFares = new int[vertexCapacity];
+            reachedEpochs = new int[vertexCapacity];
+            settledEpochs = new int[vertexCapacity];
+            markedEpochs = new int[vertexCapacity];
+            epoch = 0;
+        }
+        if (targetBounds.length < landmarkCount) {
+            targetBounds = new int[landmarkCount];
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(reachedEpochs, 0);
+            Arrays.fill(settledEpochs, 0);
+            Arrays.fill(markedEpochs, 0);
+            epoch = 1;
+        }
+        heap.clear();
+    }
+
+    /**
+     * previousEdge 는 이전 정점의 인접 리스트에서 이 정점으로 오는 간선의 위치입니다.
+     */
+    void reach(int vertex, int distance, int previousVertex, int previousEdge) {
+        reachedEpochs[vertex] = epoch;
+        distances[vertex] = distance;
+        previous[vertex] = previousVertex;
+        previousEdges[vertex] = previousEdge;
+    }
+
+    boolean isReached(int vertex) {
+        return reachedEpochs[vertex] == epoch;
+    }
+
+    void settle(int vertex) {
+        settledEpochs[vertex] = epoch;
+    }
+
+    boolean isSettled(int vertex) {
+        return settledEpochs[vertex] == epoch;
+    }
+
+    void mark(int vertex) {
+        markedEpochs[vertex] = epoch;
+    }
+
+    boolean isMarked(int vertex) {
+        return markedEpochs[vertex] == epoch;
+    }
+}
@@ -0,0 +1,653 @@
+package subway.path;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import subway.common.LongIntMap;
+import subway.line.Section;
+import subway.line.SectionChanges;
+import subway.line.SectionsChangedEvent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 구간을 무방향 간선으로 보관하는 지하철 경로 그래프입니다.
+ * <p>
+ * 역 id 는 조밀한 정점 번호로 바꾸어 int 배열 인접 리스트에 저장하고, 최단 경로는 랜드마크(ALT) 하한을 쓰는 A* 로 찾습니다.
+ * 랜드마크 거리표는 구간이 추가될 때 줄어든 거리만 전파해 갱신합니다.
+ * 구간이 삭제되어도 기존 거리표는 여전히 유효한 하한이므로 그대로 두고, 삭제가 누적되면 한 번에 다시 계산합니다.
+ */
+@Component
+public class SubwayGraph {
+    static final int INFINITY = Integer.MAX_VALUE;
+    private static final int LANDMARK_COUNT = 8;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MIN_REMOVALS_BEFORE_REBUILD = 16;
+    private static final int BULK_CHANGE_THRESHOLD = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final WorkspacePool<SearchSpace> searchSpaces = new WorkspacePool<>(SearchSpace::new, WorkspacePool.defaultCapacity());
+    private LongIntMap indexes = new LongIntMap(INITIAL_CAPACITY);
+    private final IntMinHeap updateHeap = new IntMinHeap(INITIAL_CAPACITY);
+
+    private long[] stationIds = new long[INITIAL_CAPACITY];
+    private int[][] adjacentVertices = new int[INITIAL_CAPACITY][];
+    private int[][] adjacentDistances = new int[INITIAL_CAPACITY][];
+    private int[][] adjacentDurations = new int[INITIAL_CAPACITY][];
+    private long[][] adjacentLines = new long[INITIAL_CAPACITY][];
+    private int[] degrees = new int[INITIAL_CAPACITY];
+    private int vertexCount;
+    private int edgeCount;
+
+    private int[] landmarks = new int[0];
+    private int[][] landmarkDistances = new int[0][];
+    private int removalsSinceRebuild;
+    private volatile long version;
+    private volatile long shorteningVersion;
+    private final Map<Long, Long> lineVersions = new ConcurrentHashMap<>();
+
+    public void addSection(long lineId, long upStationId, long downStationId, int distance) {
+        addSection(lineId, upStationId, downStationId, distance, 0);
+    }
+
+    public void addSection(long lineId, long upStationId, long downStationId, int distance, int duration) {
+        applyChanges(Collections.singletonMap(lineId, SectionChanges.added(new Section(upStationId, downStationId, distance, duration))));
+    }
+
+    public void removeSection(long lineId, long upStationId, long downStationId, int distance) {
+        removeSection(lineId, upStationId, downStationId, distance, 0);
+    }
+
+    public void removeSection(long lineId, long upStationId, long downStationId, int distance, int duration) {
+        applyChanges(Collections.singletonMap(lineId, SectionChanges.removed(
+                Collections.singletonList(new Section(upStationId, downStationId, distance, duration)))));
+    }
+
+    @EventListener
+    public void onSectionsChanged(SectionsChangedEvent event) {
+        applyChanges(Collections.singletonMap(event.getLineId(), event.getChanges()));
+    }
+
+    /**
+     * 변경이 많으면 랜드마크를 마지막에 한 번만 다시 계산합니다.
+     */
+    public void applyChanges(Map<Long, SectionChanges> changesByLine) {
+        int changeCount = 0;
+        for (SectionChanges changes : changesByLine.values()) {
+            changeCount += changes.getRemoved().size() + changes.getAdded().size();
+        }
+        boolean bulk = changeCount > BULK_CHANGE_THRESHOLD;
+        lock.writeLock().lock();
+        try {
+            boolean shortening = ChangeImpact.canShortenPaths(changesByLine, this::isConnected);
+            for (Map.Entry<Long, SectionChanges> entry : changesByLine.entrySet()) {
+                long lineId = entry.getKey();
+                for (Section section : entry.getValue().getRemoved()) {
+                    removeEdge(lineId, section.getUpStationId(), section.getDownStationId(), section.getDistance(), section.getDuration(), !bulk);
+                }
+                for (Section section : entry.getValue().getAdded()) {
+                    addEdge(lineId, section.getUpStationId(), section.getDownStationId(), section.getDistance(), section.getDuration(), !bulk);
+                }
+            }
+            if (bulk) {
+                rebuildLandmarks();
+            }
+            version++;
+            if (shortening) {
+                shorteningVersion = version;
+            }
+            for (Map.Entry<Long, SectionChanges> entry : changesByLine.entrySet()) {
+                if (!entry.getValue().getRemoved().isEmpty() || !entry.getValue().getAdded().isEmpty()) {
+                    lineVersions.put(entry.getKey(), version);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 그래프를 CSR 배열로 복사합니다. 복사하는 동안만 읽기 잠금을 잡습니다.
+     */
+    public GraphSnapshot snapshot() {
+        lock.readLock().lock();
+        try {
+            int[] offsets = new int[vertexCount + 1];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                offsets[vertex + 1] = offsets[vertex] + degrees[vertex];
+            }
+            int halfEdgeCount = offsets[vertexCount];
+            int[] targets = new int[halfEdgeCount];
+            int[] distances = new int[halfEdgeCount];
+            int[] durations = new int[halfEdgeCount];
+            long[] lineIds = new long[halfEdgeCount];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                System.arraycopy(adjacentVertices[vertex], 0, targets, offsets[vertex], degrees[vertex]);
+                System.arraycopy(adjacentDistances[vertex], 0, distances, offsets[vertex], degrees[vertex]);
+                System.arraycopy(adjacentDurations[vertex], 0, durations, offsets[vertex], degrees[vertex]);
+                System.arraycopy(adjacentLines[vertex], 0, lineIds, offsets[vertex], degrees[vertex]);
+            }
+            int[][] tables = new int[landmarks.length][];
+            for (int k = 0; k < landmarks.length; k++) {
+                tables[k] = Arrays.copyOf(landmarkDistances[k], vertexCount);
+            }
+            return new GraphSnapshot(Arrays.copyOf(stationIds, vertexCount), offsets, targets, distances, durations, lineIds,
+                    landmarks.clone(), tables);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷의 배열로 그래프를 통째로 교체합니다. 랜드마크 거리표도 그대로 쓰므로 최단 경로 계산을 다시 하지 않습니다.
+     */
+    public void restore(GraphSnapshot snapshot) {
+        int count = snapshot.getVertexCount();
+        int capacity = Math.max(INITIAL_CAPACITY, count);
+        int[] offsets = snapshot.getOffsets();
+        LongIntMap restoredIndexes = new LongIntMap(capacity);
+        long[] restoredStationIds = Arrays.copyOf(snapshot.getStationIds(), capacity);
+        int[][] restoredVertices = new int[capacity][];
+        int[][] restoredDistances = new int[capacity][];
+        int[][] restoredDurations = new int[capacity][];
+        long[][] restoredLines = new long[capacity][];
+        int[] restoredDegrees = new int[capacity];
+        for (int vertex = 0; vertex < count; vertex++) {
+            int from = offsets[vertex];
+            int to = Math.max(offsets[vertex + 1], from + 2);
+            restoredVertices[vertex] = Arrays.copyOfRange(snapshot.getTargets(), from, to);
+            restoredDistances[vertex] = Arrays.copyOfRange(snapshot.getDistances(), from, to);
+            restoredDurations[vertex] = Arrays.copyOfRange(snapshot.getDurations(), from, to);
+            restoredLines[vertex] = Arrays.copyOfRange(snapshot.getLineIds(), from, to);
+            restoredDegrees[vertex] = offsets[vertex + 1] - from;
+            restoredIndexes.put(restoredStationIds[vertex], vertex);
+        }
+        int[][] tables = new int[snapshot.getLandmarks().length][];
+        for (int k = 0; k < tables.length; k++) {
+            tables[k] = Arrays.copyOf(snapshot.getLandmarkDistances()[k], capacity);
+            Arrays.fill(tables[k], count, capacity, INFINITY);
+        }
+        lock.writeLock().lock();
+        try {
+            indexes = restoredIndexes;
+            stationIds = restoredStationIds;
+            adjacentVertices = restoredVertices;
+            adjacentDistances = restoredDistances;
+            adjacentDurations = restoredDurations;
+            adjacentLines = restoredLines;
+            degrees = restoredDegrees;
+            vertexCount = count;
+            edgeCount = offsets[count] / 2;
+            landmarks = snapshot.getLandmarks().clone();
+            landmarkDistances = tables;
+            removalsSinceRebuild = 0;
+            version++;
+            shorteningVersion = version;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return vertexCount == 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<PathResult> findShortestPath(long sourceStationId, long targetStationId) {
+        return findShortestPath(sourceStationId, targetStationId, PathType.DISTANCE);
+    }
+
+    public Optional<PathResult> findShortestPath(long sourceStationId, long targetStationId, PathType type) {
+        lock.readLock().lock();
+        try {
+            int source = indexes.get(sourceStationId);
+            int target = indexes.get(targetStationId);
+            if (source == LongIntMap.MISSING || target == LongIntMap.MISSING) {
+                return Optional.empty();
+            }
+            if (source == target) {
+                return Optional.of(new PathResult(0, 0, new long[]{sourceStationId}, new long[0], version));
+            }
+            SearchSpace space = searchSpaces.borrow();
+            try {
+                return search(space, source, target, type);
+            } finally {
+                searchSpaces.release(space);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 거리가 같으면 추가 요금이 작은 경로를 고릅니다.
+    DistanceMatrix distanceMatrix(long[] sourceStationIds, long[] targetStationIds, LongIntMap extraFares) {
+        lock.readLock().lock();
+        try {
+            int[] sources = toIndexes(sourceStationIds);
+            int[] targets = toIndexes(targetStationIds);
+            int[][] distances = new int[sources.length][targets.length];
+            int[][] maxExtraFares = new int[sources.length][targets.length];
+            ForkJoinPool.commonPool().invoke(new MatrixTask(sources, targets, extraFares, distances, maxExtraFares, 0, sources.length));
+            return new DistanceMatrix(sourceStationIds, targetStationIds, distances, maxExtraFares);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    // 지나는 노선이 그대로이고 더 가까워질 수 있는 변경도 없었으면 여전히 최단 경로입니다.
+    boolean isValid(PathResult result) {
+        long computedAt = result.getVersion();
+        if (shorteningVersion > computedAt) {
+            return false;
+        }
+        for (long lineId : result.getLineIds()) {
+            Long changedAt = lineVersions.get(lineId);
+            if (changedAt != null && changedAt > computedAt) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isConnected(long stationId) {
+        int vertex = indexes.get(stationId);
+        return vertex != LongIntMap.MISSING && degrees[vertex] > 0;
+    }
+
+    // 랜드마크 거리표는 거리로만 만들므로 소요 시간 기준은 하한 없이 탐색합니다.
+    private Optional<PathResult> search(SearchSpace space, int source, int target, PathType type) {
+        int[][] costs = type == PathType.DISTANCE ? adjacentDistances : adjacentDurations;
+        int landmarkCount = type == PathType.DISTANCE ? landmarks.length : 0;
+        space.prepare(stationIds.length, landmarkCount);
+        for (int k = 0; k < landmarkCount; k++) {
+            space.targetBounds[k] = landmarkDistances[k][target];
+        }
+        IntMinHeap heap = space.heap;
+        space.reach(source, 0, -1, -1);
+        heap.push(source, estimate(space, source, landmarkCount));
+        while (!heap.isEmpty()) {
+            int vertex = heap.pop();
+            if (space.isSettled(vertex)) {
+                continue;
+            }
+            space.settle(vertex);
+            if (vertex == target) {
+                return Optional.of(toResult(space, target));
+            }
+            int distance = space.distances[vertex];
+            int[] neighbors = adjacentVertices[vertex];
+            int[] weights = costs[vertex];
+            for (int i = 0, degree = degrees[vertex]; i < degree; i++) {
+                int next = neighbors[i];
+                int nextDistance = distance + weights[i];
+                if (!space.isSettled(next) && (!space.isReached(next) || nextDistance < space.distances[next])) {
+                    space.reach(next, nextDistance, vertex, i);
+                    heap.push(next, nextDistance + estimate(space, next, landmarkCount));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void addEdge(long lineId, long upStationId, long downStationId, int distance, int duration, boolean updateLandmarks) {
+        int up = indexOf(upStationId);
+        int down = indexOf(downStationId);
+        addHalfEdge(up, down, distance, duration, lineId);
+        addHalfEdge(down, up, distance, duration, lineId);
+        edgeCount++;
+        if (!updateLandmarks) {
+            return;
+        }
+        if (landmarks.length < Math.min(LANDMARK_COUNT, vertexCount)) {
+            rebuildLandmarks();
+            return;
+        }
+        for (int[] distances : landmarkDistances) {
+            propagateDecrease(distances, up, down, distance);
+        }
+    }
+
+    private void removeEdge(long lineId, long upStationId, long downStationId, int distance, int duration, boolean updateLandmarks) {
+        int up = indexes.get(upStationId);
+        int down = indexes.get(downStationId);
+        if (up == LongIntMap.MISSING || down == LongIntMap.MISSING) {
+            return;
+        }
+        if (!removeHalfEdge(up, down, distance, duration, lineId) || !removeHalfEdge(down, up, distance, duration, lineId)) {
+            return;
+        }
+        edgeCount--;
+        if (updateLandmarks && ++removalsSinceRebuild > Math.max(MIN_REMOVALS_BEFORE_REBUILD, edgeCount / 8)) {
+            rebuildLandmarks();
+        }
+    }
+
+    private int estimate(SearchSpace space, int vertex, int landmarkCount) {
+        int bound = 0;
+        for (int k = 0; k < landmarkCount; k++) {
+            int fromLandmark = landmarkDistances[k][vertex];
+            int toTarget = space.targetBounds[k];
+            if (fromLandmark != INFINITY && toTarget != INFINITY) {
+                bound = Math.max(bound, Math.abs(toTarget - fromLandmark));
+            }
+        }
+        return bound;
+    }
+
+    private PathResult toResult(SearchSpace space, int target) {
+        int length = 0;
+        for (int vertex = target; vertex != -1; vertex = space.previous[vertex]) {
+            length++;
+        }
+        long[] path = new long[length];
+        long[] lines = new long[length - 1];
+        int lineCount = 0;
+        int distance = 0;
+        int duration = 0;
+        for (int vertex = target; vertex != -1; vertex = space.previous[vertex]) {
+            path[--length] = stationIds[vertex];
+            int previous = space.previous[vertex];
+            if (previous == -1) {
+                continue;
+            }
+            int edge = space.previousEdges[vertex];
+            distance += adjacentDistances[previous][edge];
+            duration += adjacentDurations[previous][edge];
+            long lineId = adjacentLines[previous][edge];
+            if (lineCount == 0 || lines[lineCount - 1] != lineId) {
+                lines[lineCount++] = lineId;
+            }
+        }
+        return new PathResult(distance, duration, path, distinctReversed(lines, lineCount), version);
+    }
+
+    private static long[] distinctReversed(long[] values, int count) {
+        long[] distinct = new long[count];
+        int size = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            boolean seen = false;
+            for (int j = 0; j < size && !seen; j++) {
+                seen = distinct[j] == values[i];
+            }
+            if (!seen) {
+                distinct[size++] = values[i];
+            }
+        }
+        return Arrays.copyOf(distinct, size);
+    }
+
+    private int[] toIndexes(long[] stationIds) {
+        int[] result = new int[stationIds.length];
+        for (int i = 0; i < stationIds.length; i++) {
+            result[i] = indexes.get(stationIds[i]);
+        }
+        return result;
+    }
+
+    private void fillMatrixRow(SearchSpace space, int source, int[] targets, LongIntMap extraFares, int[] distanceRow, int[] fareRow) {
+        Arrays.fill(distanceRow, DistanceMatrix.UNREACHABLE);
+        Arrays.fill(fareRow, DistanceMatrix.UNREACHABLE);
+        if (source == LongIntMap.MISSING) {
+            return;
+        }
+        space.prepare(stationIds.length, 0);
+        int remaining = 0;
+        for (int target : targets) {
+            if (target != LongIntMap.MISSING && !space.isMarked(target)) {
+                space.mark(target);
+                remaining++;
+            }
+        }
+        IntMinHeap heap = space.heap;
+        space.reach(source, 0, -1, -1);
+        space.extraFares[source] = 0;
+        heap.push(source, 0);
+        while (!heap.isEmpty() && remaining > 0) {
+            int vertex = heap.pop();
+            if (space.isSettled(vertex)) {
+                continue;
+            }
+            space.settle(vertex);
+            if (space.isMarked(vertex)) {
+                remaining--;
+            }
+            int distance = space.distances[vertex];
+            int extraFare = space.extraFares[vertex];
+            int[] neighbors = adjacentVertices[vertex];
+            int[] weights = adjacentDistances[vertex];
+            long[] lines = adjacentLines[vertex];
+            for (int i = 0, degree = degrees[vertex]; i < degree; i++) {
+                int next = neighbors[i];
+                if (space.isSettled(next)) {
+                    continue;
+                }
+                int nextDistance = distance + weights[i];
+                int nextExtraFare = Math.max(extraFare, Math.max(0, extraFares.get(lines[i])));
+                if (!space.isReached(next) || nextDistance < space.distances[next]) {
+                    space.reach(next, nextDistance, vertex, i);
+                    space.extraFares[next] = nextExtraFare;
+                    heap.push(next, nextDistance);
+                } else if (nextDistance == space.distances[next] && nextExtraFare < space.extraFares[next]) {
+                    space.reach(next, nextDistance, vertex, i);
+                    space.extraFares[next] = nextExtraFare;
+                }
+            }
+        }
+        for (int j = 0; j < targets.length; j++) {
+            int target = targets[j];
+            if (target != LongIntMap.MISSING && space.isSettled(target)) {
+                distanceRow[j] = space.distances[target];
+                fareRow[j] = space.extraFares[target];
+            }
+        }
+    }
+
+    private int indexOf(long stationId) {
+        int index = indexes.get(stationId);
+        if (index != LongIntMap.MISSING) {
+            return index;
+        }
+        if (vertexCount == stationIds.length) {
+            grow();
+        }
+        index = vertexCount++;
+        stationIds[index] = stationId;
+        adjacentVertices[index] = new int[2];
+        adjacentDistances[index] = new int[2];
+        adjacentDurations[index] = new int[2];
+        adjacentLines[index] = new long[2];
+        indexes.put(stationId, index);
+        return index;
+    }
+
+    private void grow() {
+        int capacity = stationIds.length << 1;
+        stationIds = Arrays.copyOf(stationIds, capacity);
+        adjacentVertices = Arrays.copyOf(adjacentVertices, capacity);
+        adjacentDistances = Arrays.copyOf(adjacentDistances, capacity);
+        adjacentDurations = Arrays.copyOf(adjacentDurations, capacity);
+        adjacentLines = Arrays.copyOf(adjacentLines, capacity);
+        degrees = Arrays.copyOf(degrees, capacity);
+        for (int k = 0; k < landmarkDistances.length; k++) {
+            int[] grown = Arrays.copyOf(landmarkDistances[k], capacity);
+            Arrays.fill(grown, vertexCount, capacity, INFINITY);
+            landmarkDistances[k] = grown;
+        }
+    }
+
+    private void addHalfEdge(int from, int to, int distance, int duration, long lineId) {
+        int degree = degrees[from];
+        if (degree == adjacentVertices[from].length) {
+            adjacentVertices[from] = Arrays.copyOf(adjacentVertices[from], degree << 1);
+            adjacentDistances[from] = Arrays.copyOf(adjacentDistances[from], degree << 1);
+            adjacentDurations[from] = Arrays.copyOf(adjacentDurations[from], degree << 1);
+            adjacentLines[from] = Arrays.copyOf(adjacentLines[from], degree << 1);
+        }
+        adjacentVertices[from][degree] = to;
+        adjacentDistances[from][degree] = distance;
+        adjacentDurations[from][degree] = duration;
+        adjacentLines[from][degree] = lineId;
+        degrees[from] = degree + 1;
+    }
+
+    private boolean removeHalfEdge(int from, int to, int distance, int duration, long lineId) {
+        int[] neighbors = adjacentVertices[from];
+        int[] weights = adjacentDistances[from];
+        int[] durations = adjacentDurations[from];
+        long[] lines = adjacentLines[from];
+        int last = degrees[from] - 1;
+        for (int i = 0; i <= last; i++) {
+            if (neighbors[i] == to && weights[i] == distance && durations[i] == duration && lines[i] == lineId) {
+                neighbors[i] = neighbors[last];
+                weights[i] = weights[last];
+                durations[i] = durations[last];
+                lines[i] = lines[last];
+                degrees[from] = last;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void propagateDecrease(int[] distances, int up, int down, int distance) {
+        updateHeap.clear();
+        relax(distances, up, down, distance);
+        relax(distances, down, up, distance);
+        while (!updateHeap.isEmpty()) {
+            int priority = updateHeap.peekPriority();
+            int vertex = updateHeap.pop();
+            if (priority > distances[vertex]) {
+                continue;
+            }
+            int[] neighbors = adjacentVertices[vertex];
+            int[] weights = adjacentDistances[vertex];
+            for (int i = 0, degree = degrees[vertex]; i < degree; i++) {
+                relax(distances, vertex, neighbors[i], weights[i]);
+            }
+        }
+    }
+
+    private void relax(int[] distances, int from, int to, int distance) {
+        if (distances[from] != INFINITY && distances[from] + distance < distances[to]) {
+            distances[to] = distances[from] + distance;
+            updateHeap.push(to, distances[to]);
+        }
+    }
+
+    private void rebuildLandmarks() {
+        removalsSinceRebuild = 0;
+        int start = firstActiveVertex();
+        if (start == -1) {
+            landmarks = new int[0];
+            landmarkDistances = new int[0][];
+            return;
+        }
+        int[] chosen = new int[LANDMARK_COUNT];
+        int[][] tables = new int[LANDMARK_COUNT][];
+        int[] nearest = shortestDistancesFrom(start);
+        int count = 0;
+        for (int next = farthestActiveVertex(nearest); count < LANDMARK_COUNT && next != -1; next = farthestActiveVertex(nearest)) {
+            chosen[count] = next;
+            tables[count] = shortestDistancesFrom(next);
+            int[] table = tables[count++];
+            for (int vertex = 0; vertex < vertexCount; vertex++) {
+                nearest[vertex] = count == 1 ? table[vertex] : Math.min(nearest[vertex], table[vertex]);
+            }
+        }
+        landmarks = Arrays.copyOf(chosen, count);
+        landmarkDistances = Arrays.copyOf(tables, count);
+    }
+
+    private int firstActiveVertex() {
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (degrees[vertex] > 0) {
+                return vertex;
+            }
+        }
+        return -1;
+    }
+
+    private int farthestActiveVertex(int[] nearest) {
+        int farthest = -1;
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            if (degrees[vertex] > 0 && nearest[vertex] > 0 && (farthest == -1 || nearest[vertex] > nearest[farthest])) {
+                farthest = vertex;
+            }
+        }
+        return farthest;
+    }
+
+    private int[] shortestDistancesFrom(int source) {
+        int[] distances = new int[stationIds.length];
+        Arrays.fill(distances, INFINITY);
+        distances[source] = 0;
+        updateHeap.clear();
+        updateHeap.push(source, 0);
+        while (!updateHeap.isEmpty()) {
+            int priority = updateHeap.peekPriority();
+            int vertex = updateHeap.pop();
+            if (priority > distances[vertex]) {
+                continue;
+            }
+            int[] neighbors = adjacentVertices[vertex];
+            int[] weights = adjacentDistances[vertex];
+            for (int i = 0, degree = degrees[vertex]; i < degree; i++) {
+                relax(distances, vertex, neighbors[i], weights[i]);
+            }
+        }
+        return distances;
+    }
+
+    private class MatrixTask extends RecursiveAction {
+        private final int[] sources;
+        private final int[] targets;
+        private final LongIntMap extraFares;
+        private final int[][] distances;
+        private final int[][] maxExtraFares;
+        private final int from;
+        private final int to;
+
+        MatrixTask(int[] sources, int[] targets, LongIntMap extraFares, int[][] distances, int[][] maxExtraFares, int from, int to) {
+            this.sources = sources;
+            this.targets = targets;
+            this.extraFares = extraFares;
+            this.distances = distances;
+            this.maxExtraFares = maxExtraFares;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MatrixTask(sources, targets, extraFares, distances, maxExtraFares, from, middle),
+                        new MatrixTask(sources, targets, extraFares, distances, maxExtraFares, middle, to));
+                return;
+            }
+            if (to > from) {
+                SearchSpace space = searchSpaces.borrow();
+                try {
+                    fillMatrixRow(space, sources[from], targets, extraFares, distances[from], maxExtraFares[from]);
+                } finally {
+                    searchSpaces.release(space);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package subway.path;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import subway.line.Line;
+import subway.line.LineDao;
+import subway.line.SectionChanges;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기동할 때 저장소에서 불러온 노선으로 경로 그래프를 채웁니다. 스냅샷에서 이미 복원된 그래프는 건드리지 않습니다.
+ * 빈을 모두 만든 직후, 웹 서버가 요청을 받기 전에 채우므로 첫 요청부터 완성된 그래프를 봅니다.
+ */
+@Component
+public class SubwayGraphInitializer implements SmartInitializingSingleton {
+    private final SubwayGraph subwayGraph;
+    private final LineDao lineDao;
+
+    public SubwayGraphInitializer(SubwayGraph subwayGraph, LineDao lineDao) {
+        this.subwayGraph = subwayGraph;
+        this.lineDao = lineDao;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!subwayGraph.isEmpty()) {
+            return;
+        }
+        Map<Long, SectionChanges> changes = new LinkedHashMap<>();
+        for (Line line : lineDao.findAll()) {
+            changes.put(line.getId(), new SectionChanges(Collections.emptyList(), line.getSections().getSections()));
+        }
+        subwayGraph.applyChanges(changes);
+    }
+}
@@ -0,0 +1,267 @@
+package subway.path;
+
+import subway.common.LongIntMap;
+import subway.line.Line;
+import subway.line.LineSchedule;
+import subway.line.Section;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 노선 시간표로 펼친 하루치 열차 운행을 연결(connection) 단위로 담고, 연결 스캔(CSA)으로 가장 일찍 도착하는 경로를 찾습니다.
+ * <p>
+ * 연결은 한 열차가 이웃한 두 역 사이를 달리는 한 번의 운행이며, 출발 시각 순으로 정렬해 기본형 배열에 나누어 담습니다.
+ * 조회는 출발 시각을 이진 탐색한 자리부터 배열을 한 번 앞으로 훑으면서, 이미 탄 열차이거나 그 역에서 탈 수 있는 연결만 따라갑니다.
+ * 도착역에 닿은 시각보다 늦게 출발하는 연결이 나오면 멈추므로, 가까운 역일수록 훑는 범위가 짧습니다.
+ * 다른 열차로 갈아탈 때는 환승 시간만큼 늦게 탈 수 있습니다. 만든 뒤에는 바뀌지 않으므로 잠그지 않고 읽습니다.
+ */
+public class Timetable {
+    private final long version;
+    private final int transferMinutes;
+    private final LongIntMap stops;
+    private final long[] stationIds;
+    private final long[] tripLineIds;
+
+    private final int[] departures;
+    private final int[] arrivals;
+    private final int[] fromStops;
+    private final int[] toStops;
+    private final int[] trips;
+    private final int[] sequences;
+
+    private final int[] stopsAlongTrips;
+    private final int[] distancesAlongTrips;
+
+    private final WorkspacePool<ConnectionScanSpace> scanSpaces = new WorkspacePool<>(ConnectionScanSpace::new, WorkspacePool.defaultCapacity());
+
+    private Timetable(long version, int transferMinutes, LongIntMap stops, long[] stationIds, long[] tripLineIds,
+                      int[] departures, int[] arrivals, int[] fromStops, int[] toStops, int[] trips, int[] sequences,
+                      int[] stopsAlongTrips, int[] distancesAlongTrips) {
+        this.version = version;
+        this.transferMinutes = transferMinutes;
+        this.stops = stops;
+        this.stationIds = stationIds;
+        this.tripLineIds = tripLineIds;
+        this.departures = departures;
+        this.arrivals = arrivals;
+        this.fromStops = fromStops;
+        this.toStops = toStops;
+        this.trips = trips;
+        this.sequences = sequences;
+        this.stopsAlongTrips = stopsAlongTrips;
+        this.distancesAlongTrips = distancesAlongTrips;
+    }
+
+    /**
+     * 노선마다 양쪽 종점에서 출발하는 열차를 시간표대로 펼칩니다.
+     */
+    public static Timetable build(List<Line> lines, long version, int transferMinutes) {
+        int connectionCount = 0;
+        int tripCount = 0;
+        for (Line line : lines) {
+            int departuresPerDirection = line.getSchedule().getDepartureCount();
+            tripCount += 2 * departuresPerDirection;
+            connectionCount += 2 * departuresPerDirection * line.getSections().getSectionCount();
+        }
+        LongIntMap stops = new LongIntMap(lines.size() * 16);
+        long[] stationIds = new long[16];
+        int stopCount = 0;
+        long[] tripLineIds = new long[tripCount];
+        int[] departures = new int[connectionCount];
+        int[] arrivals = new int[connectionCount];
+        int[] fromStops = new int[connectionCount];
+        int[] stopsAlongTrips = new int[connectionCount];
+        int[] distancesAlongTrips = new int[connectionCount];
+        int[] tripsBySequence = new int[connectionCount];
+
+        int trip = 0;
+        int sequence = 0;
+        for (Line line : lines) {
+            List<Section> sections = line.getSections().getSections();
+            int n = sections.size();
+            int[] lineStops = new int[n + 1];
+            int[] elapsed = new int[n + 1];
+            int[] distances = new int[n];
+            for (int i = 0; i <= n; i++) {
+                long stationId = i == 0 ? sections.get(0).getUpStationId() : sections.get(i - 1).getDownStationId();
+                int stop = stops.get(stationId);
+                if (stop == LongIntMap.MISSING) {
+                    if (stopCount == stationIds.length) {
+                        stationIds = Arrays.copyOf(stationIds, stopCount * 2);
+                    }
+                    stop = stopCount++;
+                    stationIds[stop] = stationId;
+                    stops.put(stationId, stop);
+                }
+                lineStops[i] = stop;
+                if (i > 0) {
+                    elapsed[i] = elapsed[i - 1] + Math.max(0, sections.get(i - 1).getDuration());
+                    distances[i - 1] = sections.get(i - 1).getDistance();
+                }
+            }
+            LineSchedule schedule = line.getSchedule();
+            for (int start = schedule.getFirstDeparture(); start <= schedule.getLastDeparture(); start += schedule.getHeadway()) {
+                tripLineIds[trip] = line.getId();
+                for (int i = 0; i < n; i++, sequence++) {
+                    departures[sequence] = start + elapsed[i];
+                    arrivals[sequence] = start + elapsed[i + 1];
+                    fromStops[sequence] = lineStops[i];
+                    stopsAlongTrips[sequence] = lineStops[i + 1];
+                    distancesAlongTrips[sequence] = distances[i];
+                    tripsBySequence[sequence] = trip;
+                }
+                trip++;
+                tripLineIds[trip] = line.getId();
+                for (int i = n; i > 0; i--, sequence++) {
+                    departures[sequence] = start + elapsed[n] - elapsed[i];
+                    arrivals[sequence] = start + elapsed[n] - elapsed[i - 1];
+                    fromStops[sequence] = lineStops[i];
+                    stopsAlongTrips[sequence] = lineStops[i - 1];
+                    distancesAlongTrips[sequence] = distances[i - 1];
+                    tripsBySequence[sequence] = trip;
+                }
+                trip++;
+            }
+        }
+
+        long[] keys = new long[connectionCount];
+        for (int c = 0; c < connectionCount; c++) {
+            keys[c] = (long) departures[c] << 47 | (long) arrivals[c] << 31 | c;
+        }
+        Arrays.sort(keys);
+        int[] sortedDepartures = new int[connectionCount];
+        int[] sortedArrivals = new int[connectionCount];
+        int[] sortedFromStops = new int[connectionCount];
+        int[] sortedToStops = new int[connectionCount];
+        int[] sortedTrips = new int[connectionCount];
+        int[] sequences = new int[connectionCount];
+        for (int i = 0; i < connectionCount; i++) {
+            int c = (int) (keys[i] & Integer.MAX_VALUE);
+            sortedDepartures[i] = departures[c];
+            sortedArrivals[i] = arrivals[c];
+            sortedFromStops[i] = fromStops[c];
+            sortedToStops[i] = stopsAlongTrips[c];
+            sortedTrips[i] = tripsBySequence[c];
+            sequences[i] = c;
+        }
+        return new Timetable(version, transferMinutes, stops, Arrays.copyOf(stationIds, stopCount), tripLineIds,
+                sortedDepartures, sortedArrivals, sortedFromStops, sortedToStops, sortedTrips, sequences,
+                stopsAlongTrips, distancesAlongTrips);
+    }
+
+    /**
+     * departure 는 운행일 0시부터의 분입니다. 자정을 넘겨 다니는 막차가 있으면 전날 운행일로도 찾아
+     * 실제로 더 일찍 도착하는 쪽을 돌려줍니다.
+     */
+    public Optional<ArrivalResult> findEarliestArrival(long sourceStationId, long targetStationId, int departure) {
+        int source = stops.get(sourceStationId);
+        int target = stops.get(targetStationId);
+        if (source == LongIntMap.MISSING || target == LongIntMap.MISSING) {
+            return Optional.empty();
+        }
+        if (source == target) {
+            return Optional.of(new ArrivalResult(new long[]{sourceStationId}, new long[0], departure, departure, departure, 0, 0));
+        }
+        Optional<ArrivalResult> sameDay;
+        Optional<ArrivalResult> overnight = Optional.empty();
+        ConnectionScanSpace space = scanSpaces.borrow();
+        try {
+            sameDay = scan(space, source, target, departure);
+            int lastDeparture = departures.length == 0 ? -1 : departures[departures.length - 1];
+            if (departure + LineSchedule.MINUTES_PER_DAY <= lastDeparture) {
+                overnight = scan(space, source, target, departure + LineSchedule.MINUTES_PER_DAY);
+            }
+        } finally {
+            scanSpaces.release(space);
+        }
+        if (!overnight.isPresent()) {
+            return sameDay;
+        }
+        if (sameDay.isPresent()
+                && sameDay.get().getArrival() < overnight.get().getArrival() - LineSchedule.MINUTES_PER_DAY) {
+            return sameDay;
+        }
+        return overnight;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getConnectionCount() {
+        return departures.length;
+    }
+
+    private Optional<ArrivalResult> scan(ConnectionScanSpace space, int source, int target, int departure) {
+        space.prepare(stationIds.length, tripLineIds.length);
+        space.reach(source, departure, departure, -1, -1);
+        for (int c = lowerBound(departure); c < departures.length; c++) {
+            int connectionDeparture = departures[c];
+            if (space.isReached(target) && connectionDeparture >= space.arrivals[target]) {
+                break;
+            }
+            int trip = trips[c];
+            if (!space.isBoarded(trip)) {
+                int from = fromStops[c];
+                if (!space.isReached(from) || space.readyTimes[from] > connectionDeparture) {
+                    continue;
+                }
+                space.board(trip, c);
+            }
+            int to = toStops[c];
+            int arrival = arrivals[c];
+            if (!space.isReached(to) || arrival < space.arrivals[to]) {
+                space.reach(to, arrival, arrival + transferMinutes, space.boardedAt[trip], c);
+            }
+        }
+        if (!space.isReached(target)) {
+            return Optional.empty();
+        }
+        return Optional.of(toResult(space, source, target, departure));
+    }
+
+    private ArrivalResult toResult(ConnectionScanSpace space, int source, int target, int departure) {
+        int legCount = 0;
+        int stopCount = 1;
+        for (int stop = target; stop != source; stop = fromStops[space.enteredAt[stop]]) {
+            legCount++;
+            stopCount += sequences[space.exitedAt[stop]] - sequences[space.enteredAt[stop]] + 1;
+        }
+        long[] pathStationIds = new long[stopCount];
+        long[] lineIds = new long[legCount];
+        int distance = 0;
+        int firstDeparture = departure;
+        int position = stopCount - 1;
+        int leg = legCount - 1;
+        for (int stop = target; stop != source; ) {
+            int entered = space.enteredAt[stop];
+            int first = sequences[entered];
+            for (int s = sequences[space.exitedAt[stop]]; s >= first; s--) {
+                pathStationIds[position--] = stationIds[stopsAlongTrips[s]];
+                distance += distancesAlongTrips[s];
+            }
+            lineIds[leg--] = tripLineIds[trips[entered]];
+            firstDeparture = departures[entered];
+            stop = fromStops[entered];
+        }
+        pathStationIds[0] = stationIds[source];
+        return new ArrivalResult(pathStationIds, lineIds, departure, firstDeparture, space.arrivals[target], distance,
+                legCount - 1);
+    }
+
+    private int lowerBound(int departure) {
+        int low = 0;
+        int high = departures.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (departures[mid] < departure) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,42 @@
+package subway.path;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 탐색 작업 배열을 스레드가 아니라 풀에 두고 빌려 씁니다. 가상 스레드처럼 요청마다 스레드가 새로 생겨도 배열은 재사용됩니다.
+ * 빌릴 것이 없으면 새로 만들고, 돌려받을 때 capacity 개가 이미 쉬고 있으면 버립니다.
+ */
+class WorkspacePool<T> {
+    private final Supplier<T> factory;
+    private final int capacity;
+    private final ConcurrentLinkedDeque<T> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    WorkspacePool(Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+    }
+
+    static int defaultCapacity() {
+        return Runtime.getRuntime().availableProcessors() * 2;
+    }
+
+    T borrow() {
+        T workspace = idle.pollFirst();
+        if (workspace == null) {
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        return workspace;
+    }
+
+    void release(T workspace) {
+        if (idleCount.incrementAndGet() > capacity) {
+            idleCount.decrementAndGet();
+            return;
+        }
+        idle.offerFirst(workspace);
+    }
+}
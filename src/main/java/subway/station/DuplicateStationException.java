@@ -0,0 +1,7 @@
+package subway.station;
+
+public class DuplicateStationException extends RuntimeException {
+    public DuplicateStationException(String name) {
+        super("이미 등록된 지하철역 이름입니다: " + name);
+    }
+}
@@ -0,0 +1,59 @@
+package subway.station;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 역 이름 검색에 쓰는 정규화와 한글 초성 규칙입니다.
+ * <p>
+ * 완성형 음절은 (초성 * 21 + 중성) * 28 + 종성 순서로 놓여 있어, 초성이 같은 음절이나 받침만 다른 음절은 코드가 이어진 한 구간입니다.
+ */
+final class Hangul {
+    private static final char FIRST_SYLLABLE = '가';
+    private static final char LAST_SYLLABLE = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final int FINALS = 28;
+    private static final String INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    private Hangul() {
+    }
+
+    /**
+     * 자모를 조합형으로 입력해도 같은 이름이 되도록 NFC 로 합치고, 공백을 빼고 영문은 소문자로 바꿉니다.
+     */
+    static String normalize(String name) {
+        String composed = Normalizer.normalize(name, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(composed.length());
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    // 초성(ㄱ)은 가~깋, 검색어 마지막의 받침 없는 음절(나)은 나~낳을 받아들입니다.
+    static char rangeStart(char c) {
+        int initial = INITIALS.indexOf(c);
+        if (initial >= 0) {
+            return (char) (FIRST_SYLLABLE + initial * SYLLABLES_PER_INITIAL);
+        }
+        return c;
+    }
+
+    static char rangeEnd(char c, boolean last) {
+        int initial = INITIALS.indexOf(c);
+        if (initial >= 0) {
+            return (char) (FIRST_SYLLABLE + (initial + 1) * SYLLABLES_PER_INITIAL - 1);
+        }
+        if (last && isSyllable(c) && (c - FIRST_SYLLABLE) % FINALS == 0) {
+            return (char) (c + FINALS - 1);
+        }
+        return c;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= FIRST_SYLLABLE && c <= LAST_SYLLABLE;
+    }
+}
@@ -0,0 +1,77 @@
+package subway.station;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcStationStore implements StationStore {
+    private static final String INSERT_SQL = "insert into STATION (name) values (?)";
+    private static final RowMapper<Station> STATION_ROW_MAPPER =
+            (rs, rowNum) -> new Station(rs.getLong("id"), rs.getString("name"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcStationStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Station> findAll() {
+        return jdbcTemplate.query("select id, name from STATION", STATION_ROW_MAPPER);
+    }
+
+    @Override
+    public Long insert(Station station) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"});
+            statement.setString(1, station.getName());
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 한 번의 배치로 저장하고, 배치가 돌려준 생성 키를 순서대로 읽습니다.
+     */
+    @Override
+    @Transactional
+    public List<Long> insertAll(List<Station> stations) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+                for (Station station : stations) {
+                    statement.setString(1, station.getName());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                List<Long> ids = new ArrayList<>(stations.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != stations.size()) {
+                    throw new IllegalStateException("생성된 id 수가 저장한 지하철역 수와 다릅니다.");
+                }
+                return ids;
+            }
+        });
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jdbcTemplate.update("delete from STATION where id = ?", id);
+    }
+}
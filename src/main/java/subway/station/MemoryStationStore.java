@@ -0,0 +1,39 @@
+package subway.station;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+@ConditionalOnProperty(name = "subway.persistence", havingValue = "memory")
+public class MemoryStationStore implements StationStore {
+    private final AtomicLong seq = new AtomicLong();
+
+    @Override
+    public List<Station> findAll() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public Long insert(Station station) {
+        return seq.incrementAndGet();
+    }
+
+    @Override
+    public List<Long> insertAll(List<Station> stations) {
+        long firstId = seq.getAndAdd(stations.size()) + 1;
+        List<Long> ids = new ArrayList<>(stations.size());
+        for (int i = 0; i < stations.size(); i++) {
+            ids.add(firstId + i);
+        }
+        return ids;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+    }
+}
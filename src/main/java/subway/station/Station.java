@@ -1,11 +1,8 @@
 package subway.station;
 
 public class Station {
-    private Long id;
-    private String name;
-
-    public Station() {
-    }
+    private final Long id;
+    private final String name;
 
     public Station(Long id, String name) {
         this.id = id;
@@ -13,7 +10,11 @@ public class Station {
     }
 
     public Station(String name) {
-        this.name = name;
+        this(null, name);
+    }
+
+    public Station withId(Long id) {
+        return new Station(id, name);
     }
 
     public Long getId() {
@@ -24,4 +25,3 @@ public class Station {
         return name;
     }
 }
-
@@ -1,30 +1,100 @@
 package subway.station;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import subway.common.CursorPage;
+import subway.common.ETags;
+import subway.common.InvalidNdjsonException;
+import subway.common.NdjsonReader;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
 @RestController
 public class StationController {
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private final StationService stationService;
+    private final NdjsonReader ndjsonReader;
+    private final int streamingThreshold;
+
+    public StationController(StationService stationService, NdjsonReader ndjsonReader,
+                             @Value("${subway.listing.streaming-threshold:10000}") int streamingThreshold) {
+        this.stationService = stationService;
+        this.ndjsonReader = ndjsonReader;
+        this.streamingThreshold = streamingThreshold;
+    }
 
     @PostMapping("/stations")
     public ResponseEntity<StationResponse> createStation(@RequestBody StationRequest stationRequest) {
-        Station station = new Station(stationRequest.getName());
-        Station newStation = new StationDao().save(station);
-        StationResponse stationResponse = new StationResponse(newStation.getId(), newStation.getName());
-        return ResponseEntity.created(URI.create("/stations/" + newStation.getId())).body(stationResponse);
+        StationResponse stationResponse = stationService.saveStation(stationRequest);
+        return ResponseEntity.created(URI.create("/stations/" + stationResponse.getId())).body(stationResponse);
     }
 
+    @PostMapping(value = "/stations/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StationResponse>> createStations(@RequestBody List<StationRequest> stationRequests) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(stationService.saveStations(stationRequests));
+    }
+
+    @PostMapping(value = "/stations/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<StationResponse>> importStations(InputStream body) {
+        List<StationRequest> stationRequests = ndjsonReader.readAll(body, StationRequest.class);
+        return ResponseEntity.status(HttpStatus.CREATED).body(stationService.saveStations(stationRequests));
+    }
+
+    /**
+     * after 나 limit 을 주면 한 페이지(최대 1000개)를 돌려주고 다음 페이지는 Link 헤더로 알려 줍니다.
+     */
     @GetMapping(value = "/stations", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<StationResponse>> showStations() {
-        return ResponseEntity.ok().build();
+    public ResponseEntity<?> showStations(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit,
+                                          WebRequest webRequest) {
+        if (limit != null && !CursorPage.isValidLimit(limit)) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (webRequest.checkNotModified(ETags.of(stationService.getVersion()))) {
+            return null;
+        }
+        if (after != null || limit != null) {
+            CursorPage<StationResponse> page = stationService.findStations(after == null ? 0L : after,
+                    limit == null ? CursorPage.DEFAULT_LIMIT : limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.hasNext()) {
+                response.header(HttpHeaders.LINK, page.nextLink("/stations"));
+            }
+            return response.body(page.getItems());
+        }
+        if (stationService.countStations() > streamingThreshold) {
+            return ResponseEntity.ok().body(stationService.streamStations());
+        }
+        return ResponseEntity.ok().body(stationService.findStationsJson());
+    }
+
+    /**
+     * 이름이 q 로 시작하는 역을 이름이 짧은 순서로 limit(기본 10, 최대 100) 개까지 돌려줍니다. 초성 검색(q=ㄱㄴ)도 됩니다.
+     */
+    @GetMapping(value = "/stations/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<StationResponse>> searchStations(@RequestParam String q,
+                                                                @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().body(stationService.searchStations(q, limit));
     }
 
     @DeleteMapping("/stations/{id}")
     public ResponseEntity deleteStation(@PathVariable Long id) {
+        stationService.deleteStation(id);
         return ResponseEntity.noContent().build();
     }
+
+    @ExceptionHandler({DuplicateStationException.class, StationInUseException.class, InvalidNdjsonException.class})
+    public ResponseEntity handleDuplicateStation() {
+        return ResponseEntity.badRequest().build();
+    }
 }
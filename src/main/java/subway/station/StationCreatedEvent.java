@@ -0,0 +1,13 @@
+package subway.station;
+
+public class StationCreatedEvent {
+    private final Station station;
+
+    public StationCreatedEvent(Station station) {
+        this.station = station;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+}
@@ -1,33 +1,183 @@
 package subway.station;
 
-import org.springframework.util.ReflectionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Repository;
+import subway.common.DenseIndex;
+import subway.common.Timers;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class StationDao {
-    private Long seq = 0L;
-    private List<Station> stations = new ArrayList<>();
+/**
+ * 지하철역의 메모리 인덱스입니다. 조회는 인덱스에서만 하고, 쓰기는 이름을 먼저 선점한 뒤 StationStore 에 반영합니다.
+ * id 로 찾는 인덱스는 id 를 칸 번호로 쓰는 배열이라 조회할 때 박싱하지 않고, 목록도 정렬 없이 id 순서입니다.
+ * <p>
+ * 쓰기와 전체 조회는 subway.station.dao 타이머로 잽니다. id 조회는 수십 나노초라 타이머가 조회보다 비싸므로 재지 않고,
+ * 그 비용은 조회를 부르는 경로 계산과 응답 직렬화 시간에 포함됩니다.
+ */
+@Repository
+public class StationDao implements MeterBinder {
+    private final StationStore stationStore;
+    private final AtomicLong version = new AtomicLong();
+    private final DenseIndex<Station> stationsById = new DenseIndex<>();
+    private final Map<String, Station> stationsByName = new ConcurrentHashMap<>();
+    private volatile OperationTimers timers = new OperationTimers(Timers.UNBOUND);
+
+    public StationDao(StationStore stationStore) {
+        this.stationStore = stationStore;
+        for (Station station : stationStore.findAll()) {
+            stationsById.put(station.getId(), station);
+            stationsByName.put(station.getName(), station);
+        }
+    }
 
     public Station save(Station station) {
-        Station persistStation = createNewObject(station);
-        stations.add(persistStation);
+        long start = System.nanoTime();
+        try {
+            return insert(station);
+        } finally {
+            timers.save.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Station insert(Station station) {
+        reserveName(station);
+        Station persistStation;
+        try {
+            persistStation = station.withId(stationStore.insert(station));
+        } catch (RuntimeException e) {
+            stationsByName.remove(station.getName(), station);
+            throw e;
+        }
+        stationsByName.put(persistStation.getName(), persistStation);
+        stationsById.put(persistStation.getId(), persistStation);
+        version.incrementAndGet();
         return persistStation;
     }
 
+    /**
+     * 이름을 모두 선점한 뒤 한 번에 저장합니다. 이름이 하나라도 겹치면 아무것도 저장하지 않습니다.
+     */
+    public List<Station> saveAll(List<Station> stations) {
+        long start = System.nanoTime();
+        try {
+            return insertAll(stations);
+        } finally {
+            timers.saveAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<Station> insertAll(List<Station> stations) {
+        List<Station> reserved = new ArrayList<>(stations.size());
+        List<Long> ids;
+        try {
+            for (Station station : stations) {
+                reserveName(station);
+                reserved.add(station);
+            }
+            ids = stationStore.insertAll(stations);
+        } catch (RuntimeException e) {
+            reserved.forEach(it -> stationsByName.remove(it.getName(), it));
+            throw e;
+        }
+        List<Station> persistStations = new ArrayList<>(stations.size());
+        for (int i = 0; i < stations.size(); i++) {
+            Station persistStation = stations.get(i).withId(ids.get(i));
+            stationsByName.put(persistStation.getName(), persistStation);
+            stationsById.put(persistStation.getId(), persistStation);
+            persistStations.add(persistStation);
+        }
+        version.incrementAndGet();
+        return persistStations;
+    }
+
     public List<Station> findAll() {
-        return stations;
+        long start = System.nanoTime();
+        try {
+            return stationsById.values();
+        } finally {
+            timers.findAll.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public List<Station> findAfter(long after, int limit) {
+        return stationsById.valuesAfter(after, limit);
+    }
+
+    public int count() {
+        return stationsById.size();
+    }
+
+    public Optional<Station> findById(long id) {
+        return Optional.ofNullable(stationsById.get(id));
+    }
+
+    public boolean existsByName(String name) {
+        return stationsByName.containsKey(name);
+    }
+
+    public void deleteById(long id) {
+        long start = System.nanoTime();
+        try {
+            delete(id);
+        } finally {
+            timers.delete.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void delete(long id) {
+        Station removed = stationsById.get(id);
+        if (removed == null) {
+            return;
+        }
+        stationStore.deleteById(id);
+        if (stationsById.remove(id, removed)) {
+            stationsByName.remove(removed.getName(), removed);
+            version.incrementAndGet();
+        }
     }
 
-    public void deleteById(Long id) {
-        stations.removeIf(it -> it.getId().equals(id));
+    public long getVersion() {
+        return version.get();
     }
 
-    private Station createNewObject(Station station) {
-        Field field = ReflectionUtils.findField(Station.class, "id");
-        field.setAccessible(true);
-        ReflectionUtils.setField(field, station, ++seq);
-        return station;
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("subway.stations", this, StationDao::count)
+                .description("등록된 지하철역 수")
+                .register(registry);
+        timers = new OperationTimers(registry);
+    }
+
+    private void reserveName(Station station) {
+        if (stationsByName.putIfAbsent(station.getName(), station) != null) {
+            throw new DuplicateStationException(station.getName());
+        }
+    }
+
+    private static class OperationTimers {
+        private final Timer save;
+        private final Timer saveAll;
+        private final Timer findAll;
+        private final Timer delete;
+
+        OperationTimers(MeterRegistry registry) {
+            this.save = timer(registry, "save");
+            this.saveAll = timer(registry, "save_all");
+            this.findAll = timer(registry, "find_all");
+            this.delete = timer(registry, "delete");
+        }
+
+        private static Timer timer(MeterRegistry registry, String operation) {
+            return Timers.histogram(registry, "subway.station.dao", "지하철역 저장소 연산 시간", "operation", operation);
+        }
     }
 }
@@ -0,0 +1,13 @@
+package subway.station;
+
+public class StationDeletedEvent {
+    private final Station station;
+
+    public StationDeletedEvent(Station station) {
+        this.station = station;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+}
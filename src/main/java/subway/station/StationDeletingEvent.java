@@ -0,0 +1,16 @@
+package subway.station;
+
+/**
+ * 역을 지우기 직전에 보냅니다. 리스너가 예외를 던지면 역을 지우지 않습니다.
+ */
+public class StationDeletingEvent {
+    private final Station station;
+
+    public StationDeletingEvent(Station station) {
+        this.station = station;
+    }
+
+    public Station getStation() {
+        return station;
+    }
+}
@@ -0,0 +1,7 @@
+package subway.station;
+
+public class StationInUseException extends RuntimeException {
+    public StationInUseException(String stationName, String lineName) {
+        super("노선에 등록된 지하철역은 제거할 수 없습니다: " + stationName + " (" + lineName + ")");
+    }
+}
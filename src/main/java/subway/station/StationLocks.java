@@ -0,0 +1,24 @@
+package subway.station;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 역을 구간에 넣는 쪽과 역을 지우는 쪽이 함께 쓰는 잠금입니다.
+ * 구간 추가는 서로 막지 않고, 역을 지우는 동안에만 모두 기다립니다.
+ */
+@Component
+public class StationLocks {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public Lock forUse() {
+        return lock.readLock();
+    }
+
+    public Lock forDelete() {
+        return lock.writeLock();
+    }
+}
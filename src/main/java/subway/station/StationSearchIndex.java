@@ -0,0 +1,203 @@
+package subway.station;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * 정규화한 역 이름의 글자 트라이입니다. 검색어의 글자마다 받아들이는 글자 구간({@link Hangul})에 드는 자식만 따라 내려가므로,
+ * 같은 트라이로 접두어(강남), 초성(ㄱㄴ), 섞인 입력(강ㄴ), 입력 중인 마지막 음절(강나)을 모두 찾습니다.
+ * <p>
+ * 노드는 정렬된 자식 글자 배열과 자식 배열, 그 노드에서 끝나는 역 id 배열만 가지며, 역 하나는 이름 길이만큼의 노드만 더합니다.
+ * 노드는 바꾸지 않고 바뀐 경로만 새로 만들어 뿌리를 갈아 끼우므로, 검색은 잠그지 않고 한 시점의 트라이를 온전히 봅니다.
+ */
+@Component
+public class StationSearchIndex {
+    private static final Node EMPTY = new Node(new char[0], new Node[0], new long[0]);
+
+    private volatile Node root = EMPTY;
+    private volatile int size;
+
+    public StationSearchIndex(StationDao stationDao) {
+        for (Station station : stationDao.findAll()) {
+            add(station);
+        }
+    }
+
+    @EventListener
+    public void onStationCreated(StationCreatedEvent event) {
+        add(event.getStation());
+    }
+
+    @EventListener
+    public void onStationDeleted(StationDeletedEvent event) {
+        remove(event.getStation());
+    }
+
+    public synchronized void add(Station station) {
+        Node updated = insert(root, Hangul.normalize(station.getName()), 0, station.getId());
+        if (updated != root) {
+            root = updated;
+            size++;
+        }
+    }
+
+    public synchronized void remove(Station station) {
+        Node updated = delete(root, Hangul.normalize(station.getName()), 0, station.getId());
+        if (updated != root) {
+            root = updated == null ? EMPTY : updated;
+            size--;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 이름이 짧은 역이 먼저 오고, 길이가 같으면 이름 순서입니다.
+     */
+    public List<Long> search(String query, int limit) {
+        String key = Hangul.normalize(query);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        List<Node> matched = Collections.singletonList(root);
+        for (int i = 0; i < key.length() && !matched.isEmpty(); i++) {
+            matched = matchChildren(matched, key.charAt(i), i == key.length() - 1);
+        }
+        return collect(matched, limit);
+    }
+
+    private static List<Node> matchChildren(List<Node> nodes, char c, boolean last) {
+        char start = Hangul.rangeStart(c);
+        char end = Hangul.rangeEnd(c, last);
+        List<Node> matched = new ArrayList<>();
+        for (Node node : nodes) {
+            int from = Arrays.binarySearch(node.keys, start);
+            for (int i = from >= 0 ? from : -from - 1; i < node.keys.length && node.keys[i] <= end; i++) {
+                matched.add(node.children[i]);
+            }
+            if (c < start || c > end) {
+                int exact = Arrays.binarySearch(node.keys, c);
+                if (exact >= 0) {
+                    matched.add(node.children[exact]);
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static List<Long> collect(List<Node> matched, int limit) {
+        List<Long> stationIds = new ArrayList<>(Math.min(limit, 16));
+        Queue<Node> queue = new ArrayDeque<>(matched);
+        while (!queue.isEmpty() && stationIds.size() < limit) {
+            Node node = queue.poll();
+            for (int i = 0; i < node.stationIds.length && stationIds.size() < limit; i++) {
+                stationIds.add(node.stationIds[i]);
+            }
+            Collections.addAll(queue, node.children);
+        }
+        return stationIds;
+    }
+
+    private static Node insert(Node node, String key, int depth, long stationId) {
+        if (depth == key.length()) {
+            for (long id : node.stationIds) {
+                if (id == stationId) {
+                    return node;
+                }
+            }
+            long[] stationIds = Arrays.copyOf(node.stationIds, node.stationIds.length + 1);
+            stationIds[node.stationIds.length] = stationId;
+            return new Node(node.keys, node.children, stationIds);
+        }
+        char c = key.charAt(depth);
+        int index = Arrays.binarySearch(node.keys, c);
+        Node child = index >= 0 ? node.children[index] : EMPTY;
+        Node updated = insert(child, key, depth + 1, stationId);
+        if (updated == child) {
+            return node;
+        }
+        return index >= 0 ? node.withChild(index, updated) : node.withNewChild(-index - 1, c, updated);
+    }
+
+    // 역도 자식도 없는 노드는 null 을 돌려주어 부모에서 떼어 냅니다.
+    private static Node delete(Node node, String key, int depth, long stationId) {
+        if (depth == key.length()) {
+            int at = -1;
+            for (int i = 0; i < node.stationIds.length; i++) {
+                if (node.stationIds[i] == stationId) {
+                    at = i;
+                }
+            }
+            if (at < 0) {
+                return node;
+            }
+            long[] stationIds = new long[node.stationIds.length - 1];
+            System.arraycopy(node.stationIds, 0, stationIds, 0, at);
+            System.arraycopy(node.stationIds, at + 1, stationIds, at, stationIds.length - at);
+            return orNull(new Node(node.keys, node.children, stationIds));
+        }
+        int index = Arrays.binarySearch(node.keys, key.charAt(depth));
+        if (index < 0) {
+            return node;
+        }
+        Node child = node.children[index];
+        Node updated = delete(child, key, depth + 1, stationId);
+        if (updated == child) {
+            return node;
+        }
+        return orNull(updated == null ? node.withoutChild(index) : node.withChild(index, updated));
+    }
+
+    private static Node orNull(Node node) {
+        return node.keys.length == 0 && node.stationIds.length == 0 ? null : node;
+    }
+
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final long[] stationIds;
+
+        Node(char[] keys, Node[] children, long[] stationIds) {
+            this.keys = keys;
+            this.children = children;
+            this.stationIds = stationIds;
+        }
+
+        Node withChild(int index, Node child) {
+            Node[] children = this.children.clone();
+            children[index] = child;
+            return new Node(keys, children, stationIds);
+        }
+
+        Node withNewChild(int index, char key, Node child) {
+            char[] keys = new char[this.keys.length + 1];
+            Node[] children = new Node[this.children.length + 1];
+            System.arraycopy(this.keys, 0, keys, 0, index);
+            System.arraycopy(this.children, 0, children, 0, index);
+            keys[index] = key;
+            children[index] = child;
+            System.arraycopy(this.keys, index, keys, index + 1, this.keys.length - index);
+            System.arraycopy(this.children, index, children, index + 1, this.children.length - index);
+            return new Node(keys, children, stationIds);
+        }
+
+        Node withoutChild(int index) {
+            char[] keys = new char[this.keys.length - 1];
+            Node[] children = new Node[this.children.length - 1];
+            System.arraycopy(this.keys, 0, keys, 0, index);
+            System.arraycopy(this.children, 0, children, 0, index);
+            System.arraycopy(this.keys, index + 1, keys, index, keys.length - index);
+            System.arraycopy(this.children, index + 1, children, index, children.length - index);
+            return new Node(keys, children, stationIds);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package subway.station;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import subway.common.CursorIterable;
+import subway.common.CursorPage;
+import subway.common.JsonResponseCache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+@Service
+public class StationService {
+    private static final String STATIONS_CACHE_KEY = "stations";
+    private static final int STREAMING_PAGE_SIZE = 1000;
+
+    private final StationDao stationDao;
+    private final StationLocks stationLocks;
+    private final StationSearchIndex searchIndex;
+    private final JsonResponseCache responseCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StationService(StationDao stationDao, StationLocks stationLocks, StationSearchIndex searchIndex,
+                          JsonResponseCache responseCache, ApplicationEventPublisher eventPublisher) {
+        this.stationDao = stationDao;
+        this.stationLocks = stationLocks;
+        this.searchIndex = searchIndex;
+        this.responseCache = responseCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public StationResponse saveStation(StationRequest stationRequest) {
+        Station station = stationDao.save(new Station(stationRequest.getName()));
+        eventPublisher.publishEvent(new StationCreatedEvent(station));
+        return new StationResponse(station.getId(), station.getName());
+    }
+
+    public List<StationResponse> saveStations(List<StationRequest> stationRequests) {
+        List<Station> stations = stationRequests.stream()
+                .map(it -> new Station(it.getName()))
+                .collect(Collectors.toList());
+        List<Station> saved = stationDao.saveAll(stations);
+        saved.forEach(it -> eventPublisher.publishEvent(new StationCreatedEvent(it)));
+        return toResponses(saved);
+    }
+
+    public List<StationResponse> findStations() {
+        return toResponses(stationDao.findAll());
+    }
+
+    public byte[] findStationsJson() {
+        return responseCache.get(STATIONS_CACHE_KEY, stationDao.getVersion(), this::findStations);
+    }
+
+    /**
+     * 역이 아주 많을 때 목록을 통째로 만들거나 캐시하지 않고 한 페이지씩 읽어 내려보냅니다.
+     */
+    public Iterable<StationResponse> streamStations() {
+        return new CursorIterable<>((after, limit) -> toResponses(stationDao.findAfter(after, limit)),
+                StationResponse::getId, STREAMING_PAGE_SIZE);
+    }
+
+    public CursorPage<StationResponse> findStations(long after, int limit) {
+        return CursorPage.of(toResponses(stationDao.findAfter(after, limit + 1)), limit, StationResponse::getId);
+    }
+
+    /**
+     * 검색어에는 초성(ㄱㄴ)이나 입력 중인 마지막 음절(강나)을 섞어 쓸 수 있습니다.
+     */
+    public List<StationResponse> searchStations(String query, int limit) {
+        return searchIndex.search(query, limit).stream()
+                .map(stationDao::findById)
+                .filter(Optional::isPresent)
+                .map(it -> new StationResponse(it.get().getId(), it.get().getName()))
+                .collect(Collectors.toList());
+    }
+
+    public int countStations() {
+        return stationDao.count();
+    }
+
+    public void deleteStation(Long id) {
+        Optional<Station> deleted;
+        Lock lock = stationLocks.forDelete();
+        lock.lock();
+        try {
+            deleted = stationDao.findById(id);
+            deleted.ifPresent(station -> {
+                eventPublisher.publishEvent(new StationDeletingEvent(station));
+                stationDao.deleteById(id);
+            });
+        } finally {
+            lock.unlock();
+        }
+        deleted.ifPresent(station -> eventPublisher.publishEvent(new StationDeletedEvent(station)));
+    }
+
+    public long getVersion() {
+        return stationDao.getVersion();
+    }
+
+    private List<StationResponse> toResponses(List<Station> stations) {
+        return stations.stream()
+                .map(it -> new StationResponse(it.getId(), it.getName()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,16 @@
+package subway.station;
+
+import java.util.List;
+
+/**
+ * 지하철역을 영속화하는 저장소입니다. 조회는 StationDao 의 메모리 인덱스가 담당하고, 여기서는 기동할 때 한 번만 읽습니다.
+ */
+public interface StationStore {
+    List<Station> findAll();
+
+    Long insert(Station station);
+
+    List<Long> insertAll(List<Station> stations);
+
+    void deleteById(Long id);
+}
@@ -0,0 +1,58 @@
+create table if not exists STATION
+(
+    id bigint auto_increment not null,
+    name varchar(255) not null unique,
+    primary key (id)
+);
+
+create table if not exists LINE
+(
+    id bigint auto_increment not null,
+    name varchar(255) not null unique,
+    color varchar(20) not null,
+    extra_fare int not null default 0,
+    first_train_time int not null default 330,
+    last_train_time int not null default 1410,
+    interval_time int not null default 10,
+    primary key (id)
+);
+
+create table if not exists SECTION
+(
+    id bigint auto_increment not null,
+    line_id bigint not null,
+    up_station_id bigint not null,
+    down_station_id bigint not null,
+    distance int not null,
+    duration int not null default 0,
+    primary key (id)
+);
+
+alter table LINE add column if not exists extra_fare int not null default 0;
+alter table SECTION add column if not exists duration int not null default 0;
+alter table LINE add column if not exists first_train_time int not null default 330;
+alter table LINE add column if not exists last_train_time int not null default 1410;
+alter table LINE add column if not exists interval_time int not null default 10;
+
+create index if not exists idx_section_line_up_station on SECTION (line_id, up_station_id);
+create index if not exists idx_section_line_down_station on SECTION (line_id, down_station_id);
+
+create table if not exists MEMBER
+(
+    id bigint auto_increment not null,
+    email varchar(255) not null unique,
+    password varchar(255) not null,
+    age int not null,
+    primary key (id)
+);
+
+create table if not exists FAVORITE
+(
+    id bigint auto_increment not null,
+    member_id bigint not null,
+    source_station_id bigint not null,
+    target_station_id bigint not null,
+    primary key (id)
+);
+
+create index if not exists idx_favorite_member on FAVORITE (member_id);
@@ -0,0 +1,69 @@
+package subway;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import subway.line.LineRequest;
+import subway.station.StationResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTest.지하철_노선_등록되어_있음;
+import static subway.station.StationAcceptanceTest.지하철역_등록되어_있음;
+
+@DisplayName("운영 지표")
+public class MetricsAcceptanceTest extends AcceptanceTest {
+
+    @DisplayName("지하철역, 노선, 구간 수를 지표로 내보낸다.")
+    @Test
+    void counts() {
+        // given
+        StationResponse 강남역 = 지하철역_등록되어_있음("강남역");
+        StationResponse 양재역 = 지하철역_등록되어_있음("양재역");
+        지하철_노선_등록되어_있음(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 양재역.getId(), 10));
+
+        // when
+        ExtractableResponse<Response> stations = 지표_조회_요청("subway.stations");
+        ExtractableResponse<Response> lines = 지표_조회_요청("subway.lines");
+        ExtractableResponse<Response> sections = 지표_조회_요청("subway.sections");
+
+        // then
+        assertThat(측정값(stations, "VALUE")).isEqualTo(2);
+        assertThat(측정값(lines, "VALUE")).isEqualTo(1);
+        assertThat(측정값(sections, "VALUE")).isEqualTo(1);
+    }
+
+    @DisplayName("저장소 연산과 경로 계산 시간을 잰다.")
+    @Test
+    void timers() {
+        // given
+        StationResponse 강남역 = 지하철역_등록되어_있음("강남역");
+        StationResponse 양재역 = 지하철역_등록되어_있음("양재역");
+        지하철_노선_등록되어_있음(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 양재역.getId(), 10));
+        RestAssured.given().when().get("/paths?source={source}&target={target}", 강남역.getId(), 양재역.getId());
+
+        // when
+        ExtractableResponse<Response> saves = 지표_조회_요청("subway.station.dao?tag=operation:save");
+        ExtractableResponse<Response> paths = 지표_조회_요청("subway.path.compute?tag=type:DISTANCE");
+
+        // then
+        assertThat(측정값(saves, "COUNT")).isEqualTo(2);
+        assertThat(측정값(paths, "COUNT")).isEqualTo(1);
+    }
+
+    private static ExtractableResponse<Response> 지표_조회_요청(String metric) {
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .when().get("/actuator/metrics/" + metric)
+                .then().log().all()
+                .extract();
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        return response;
+    }
+
+    private static double 측정값(ExtractableResponse<Response> response, String statistic) {
+        return response.jsonPath().getDouble("measurements.find { it.statistic == '" + statistic + "' }.value");
+    }
+}
@@ -0,0 +1,141 @@
+package subway;
+
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("화면과 프론트엔드 번들")
+public class PageAcceptanceTest extends AcceptanceTest {
+    private static final String FIXTURE = "static/js/fixture.js";
+
+    @DisplayName("화면 주소는 만들어 둔 index 페이지를 돌려주고, ETag 가 같으면 304 로 응답한다.")
+    @Test
+    void index() {
+        // given
+        ExtractableResponse<Response> page = 화면_요청("/stations");
+        String etag = page.header("ETag");
+
+        // when
+        ExtractableResponse<Response> revalidated = 화면_조건부_요청("/lines", etag);
+
+        // then
+        assertThat(page.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(page.contentType()).startsWith(MediaType.TEXT_HTML_VALUE);
+        assertThat(page.header("Cache-Control")).isEqualTo("no-cache");
+        assertThat(page.asString()).contains("<div id=\"app\"></div>");
+        assertThat(revalidated.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @DisplayName("gzip 을 받는 요청에는 index 페이지를 압축해 보낸다.")
+    @Test
+    void gzipIndex() throws IOException {
+        // when
+        ExtractableResponse<Response> response = 압축_요청("/path", "gzip");
+
+        // then
+        assertThat(response.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.header("Vary")).contains("Accept-Encoding");
+        assertThat(gunzip(response.asByteArray())).contains("<div id=\"app\"></div>");
+    }
+
+    @DisplayName("내용 해시가 붙은 번들 주소는 immutable 로, 해시가 없는 주소는 재검증하도록 캐시한다.")
+    @Test
+    void bundleCacheControl() throws IOException {
+        // given
+        String versioned = "/js/fixture-" + 내용_해시(FIXTURE) + ".js";
+
+        // when
+        ExtractableResponse<Response> current = 압축_요청(versioned, "identity");
+        ExtractableResponse<Response> unversioned = 압축_요청("/js/fixture.js", "identity");
+        ExtractableResponse<Response> stale = 압축_요청("/js/fixture-0123456789abcdef0123456789abcdef.js", "identity");
+
+        // then
+        assertThat(current.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(current.header("Cache-Control")).isEqualTo("max-age=31536000, public, immutable");
+        assertThat(unversioned.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(unversioned.header("Cache-Control")).isEqualTo("no-cache");
+        assertThat(stale.statusCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+    }
+
+    @DisplayName("미리 압축해 둔 번들이 있으면 Accept-Encoding 에 맞춰 그 파일을 보낸다.")
+    @Test
+    void precompressedBundle() throws IOException {
+        // given
+        String versioned = "/js/fixture-" + 내용_해시(FIXTURE) + ".js";
+
+        // when
+        ExtractableResponse<Response> gzip = 압축_요청(versioned, "br, gzip");
+        ExtractableResponse<Response> identity = 압축_요청(versioned, "identity");
+
+        // then
+        String original = StreamUtils.copyToString(new ClassPathResource(FIXTURE).getInputStream(),
+                StandardCharsets.UTF_8);
+        assertThat(gzip.header("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gzip.header("Vary")).contains("Accept-Encoding");
+        assertThat(gunzip(gzip.asByteArray())).isEqualTo(original);
+        assertThat(identity.header("Content-Encoding")).isNull();
+        assertThat(new String(identity.asByteArray(), StandardCharsets.UTF_8)).isEqualTo(original);
+    }
+
+    private static ExtractableResponse<Response> 화면_요청(String path) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.TEXT_HTML_VALUE)
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
+    private static ExtractableResponse<Response> 화면_조건부_요청(String path, String etag) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.TEXT_HTML_VALUE)
+                .header("If-None-Match", etag)
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
+    /**
+     * 응답 본문을 풀지 않고 받아, 서버가 보낸 바이트와 Content-Encoding 을 그대로 확인합니다.
+     */
+    private static ExtractableResponse<Response> 압축_요청(String path, String acceptEncoding) {
+        return RestAssured
+                .given().log().all()
+                .config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .accept(MediaType.TEXT_HTML_VALUE + ", */*")
+                .header("Accept-Encoding", acceptEncoding)
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
+    private static String 내용_해시(String location) throws IOException {
+        try (InputStream in = new ClassPathResource(location).getInputStream()) {
+            return DigestUtils.md5DigestAsHex(in);
+        }
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+        }
+    }
+}
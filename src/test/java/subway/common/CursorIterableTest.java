@@ -0,0 +1,53 @@
+package subway.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("커서로 나누어 읽는 목록")
+class CursorIterableTest {
+
+    @DisplayName("페이지 경계를 넘어 모든 항목을 id 순서로 한 번씩 돈다.")
+    @Test
+    void iterate() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 7).boxed().collect(Collectors.toList());
+        List<Long> afters = new ArrayList<>();
+        CursorIterable<Long> iterable = new CursorIterable<>((after, limit) -> {
+            afters.add(after);
+            return ids.stream().filter(it -> it > after).limit(limit).collect(Collectors.toList());
+        }, Long::longValue, 3);
+
+        // when
+        List<Long> iterated = new ArrayList<>();
+        iterable.forEach(iterated::add);
+
+        // then
+        assertThat(iterated).containsExactlyElementsOf(ids);
+        assertThat(afters).containsExactly(Long.MIN_VALUE, 3L, 6L);
+    }
+
+    @DisplayName("Jackson 은 JSON 배열로 직렬화한다.")
+    @Test
+    void serialize() throws Exception {
+        // given
+        CursorIterable<Long> iterable = new CursorIterable<>((after, limit) -> LongStream.rangeClosed(1, 4)
+                .filter(it -> it > after)
+                .limit(limit)
+                .boxed()
+                .collect(Collectors.toList()), Long::longValue, 2);
+
+        // when
+        String json = new ObjectMapper().writeValueAsString(iterable);
+
+        // then
+        assertThat(json).isEqualTo("[1,2,3,4]");
+    }
+}
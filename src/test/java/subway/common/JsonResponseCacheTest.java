@@ -0,0 +1,72 @@
+package subway.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JSON 응답 캐시")
+class JsonResponseCacheTest {
+    private JsonResponseCache responseCache;
+    private AtomicInteger builds;
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new JsonResponseCache(new ObjectMapper(), true);
+        builds = new AtomicInteger();
+    }
+
+    @DisplayName("같은 버전은 다시 직렬화하지 않는다.")
+    @Test
+    void hit() {
+        // when
+        byte[] first = responseCache.get("stations", 1L, this::body);
+        byte[] second = responseCache.get("stations", 1L, this::body);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(new String(second, StandardCharsets.UTF_8)).isEqualTo("{\"name\":\"강남역\"}");
+        assertThat(builds.get()).isEqualTo(1);
+        assertThat(responseCache.getHitCount()).isEqualTo(1);
+        assertThat(responseCache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("버전이 오르면 다시 직렬화한다.")
+    @Test
+    void missAfterVersionChanged() {
+        // given
+        responseCache.get("stations", 1L, this::body);
+
+        // when
+        responseCache.get("stations", 2L, this::body);
+
+        // then
+        assertThat(builds.get()).isEqualTo(2);
+    }
+
+    @DisplayName("다른 리소스의 항목은 영향을 받지 않는다.")
+    @Test
+    void keysAreIndependent() {
+        // given
+        responseCache.get("lines/1", 1L, this::body);
+        responseCache.get("lines/2", 1L, this::body);
+
+        // when
+        responseCache.get("lines/1", 2L, this::body);
+        responseCache.get("lines/2", 1L, this::body);
+
+        // then
+        assertThat(builds.get()).isEqualTo(3);
+    }
+
+    private Object body() {
+        builds.incrementAndGet();
+        return Collections.singletonMap("name", "강남역");
+    }
+}
@@ -0,0 +1,83 @@
+package subway.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("long → int 해시맵")
+class LongIntMapTest {
+
+    @DisplayName("지운 키는 없는 것으로 보이고, 같은 자리에 몰린 다른 키는 계속 찾을 수 있다.")
+    @Test
+    void remove() {
+        // given
+        LongIntMap map = new LongIntMap(4);
+        for (long key = 1; key <= 100; key++) {
+            map.put(key * 1024, (int) key);
+        }
+
+        // when
+        int removed = map.remove(50 * 1024);
+
+        // then
+        assertThat(removed).isEqualTo(50);
+        assertThat(map.get(50 * 1024)).isEqualTo(LongIntMap.MISSING);
+        assertThat(map.remove(50 * 1024)).isEqualTo(LongIntMap.MISSING);
+        assertThat(map.size()).isEqualTo(99);
+        for (long key = 1; key <= 100; key++) {
+            if (key != 50) {
+                assertThat(map.get(key * 1024)).isEqualTo((int) key);
+            }
+        }
+    }
+
+    @DisplayName("넣고 지우기를 섞어도 HashMap 과 같은 내용을 유지한다.")
+    @Test
+    void randomPutAndRemove() {
+        // given
+        LongIntMap map = new LongIntMap(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(17);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, LongIntMap.MISSING));
+        }
+    }
+
+    @DisplayName("사본을 고쳐도 원본은 바뀌지 않는다.")
+    @Test
+    void copy() {
+        // given
+        LongIntMap map = new LongIntMap(4);
+        map.put(1L, 10);
+
+        // when
+        LongIntMap copy = map.copy();
+        copy.put(1L, 20);
+        copy.put(2L, 30);
+
+        // then
+        assertThat(map.get(1L)).isEqualTo(10);
+        assertThat(map.get(2L)).isEqualTo(LongIntMap.MISSING);
+        assertThat(copy.get(1L)).isEqualTo(20);
+    }
+}
@@ -0,0 +1,145 @@
+package subway.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("같은 계산 합치기")
+class SingleFlightTest {
+    private static final int CALLERS = 8;
+
+    @DisplayName("같은 키와 버전의 계산이 진행 중이면 한 번만 계산하고 모두 같은 결과를 받는다.")
+    @Test
+    void coalesce() throws Exception {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("강남-양재", 1, () -> {
+                computations.incrementAndGet();
+                await(release);
+                return "경로";
+            })));
+        }
+        waitUntil(() -> singleFlight.getCoalescedCount() == CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("경로");
+        }
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(singleFlight.getLeaderCount()).isEqualTo(1);
+        assertThat(singleFlight.getCoalescingRatio()).isEqualTo((double) (CALLERS - 1) / CALLERS);
+        executor.shutdownNow();
+    }
+
+    @DisplayName("버전이 다르면 진행 중인 계산에 합치지 않는다.")
+    @Test
+    void differentVersion() throws Exception {
+        // given
+        SingleFlight<String, Long> singleFlight = new SingleFlight<>("test", true);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Long> old = executor.submit(() -> singleFlight.execute("강남-양재", 1, () -> {
+            await(release);
+            return 1L;
+        }));
+        waitUntil(() -> singleFlight.getLeaderCount() == 1);
+
+        // when
+        Long current = singleFlight.execute("강남-양재", 2, () -> 2L);
+        release.countDown();
+
+        // then
+        assertThat(current).isEqualTo(2L);
+        assertThat(old.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+        executor.shutdownNow();
+    }
+
+    @DisplayName("먼저 계산한 요청이 실패하면 기다린 요청도 같은 예외를 받고, 다음 요청은 다시 계산한다.")
+    @Test
+    void propagateFailure() throws Exception {
+        // given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> leader = executor.submit(() -> singleFlight.execute("강남-양재", 1, () -> {
+            await(release);
+            throw new IllegalArgumentException("경로가 없습니다.");
+        }));
+        waitUntil(() -> singleFlight.getLeaderCount() == 1);
+
+        // when
+        Thread waiter = new Thread(() -> {
+            try {
+                singleFlight.execute("강남-양재", 1, () -> "다시 계산");
+            } catch (IllegalArgumentException expected) {
+                return;
+            }
+            throw new AssertionError("예외를 받지 못했습니다.");
+        });
+        AtomicInteger failures = new AtomicInteger();
+        waiter.setUncaughtExceptionHandler((thread, e) -> failures.incrementAndGet());
+        waiter.start();
+        waitUntil(() -> singleFlight.getCoalescedCount() == 1);
+        release.countDown();
+        waiter.join(5000);
+
+        // then
+        assertThat(failures.get()).isZero();
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(singleFlight.execute("강남-양재", 1, () -> "다시 계산")).isEqualTo("다시 계산");
+        executor.shutdownNow();
+    }
+
+    @DisplayName("끄면 합치지 않고 매번 계산한다.")
+    @Test
+    void disabled() {
+        // given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>("test", false);
+        AtomicInteger computations = new AtomicInteger();
+
+        // when
+        singleFlight.execute("강남-양재", 1, computations::incrementAndGet);
+        singleFlight.execute("강남-양재", 1, computations::incrementAndGet);
+
+        // then
+        assertThat(computations.get()).isEqualTo(2);
+        assertThat(singleFlight.getLeaderCount()).isEqualTo(2);
+        assertThat(singleFlight.getCoalescingRatio()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package subway.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("W-TinyLFU 캐시")
+class TinyLfuCacheTest {
+
+    @DisplayName("넣은 항목을 꺼내고 적중/실패를 센다.")
+    @Test
+    void hitAndMiss() {
+        // given
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        cache.put("강남역", 1);
+
+        // when
+        Integer hit = cache.get("강남역", it -> true);
+        Integer miss = cache.get("양재역", it -> true);
+
+        // then
+        assertThat(hit).isEqualTo(1);
+        assertThat(miss).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("유효하지 않은 항목은 지우고 실패로 센다.")
+    @Test
+    void invalid() {
+        // given
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        cache.put("강남역", 1);
+
+        // when
+        Integer value = cache.get("강남역", it -> it > 1);
+
+        // then
+        assertThat(value).isNull();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @DisplayName("용량을 넘기지 않고, 자주 조회한 항목은 한 번씩 스친 항목에 밀려나지 않는다.")
+    @Test
+    void keepFrequentEntries() {
+        // given
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 50; key++) {
+                if (cache.get(key, it -> true) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+
+        // when
+        for (int key = 1000; key < 2000; key++) {
+            cache.get(key, it -> true);
+            cache.put(key, key);
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.getEvictionCount()).isPositive();
+        int kept = 0;
+        for (int key = 0; key < 50; key++) {
+            if (cache.get(key, it -> true) != null) {
+                kept++;
+            }
+        }
+        assertThat(kept).isGreaterThanOrEqualTo(45);
+    }
+}
@@ -0,0 +1,69 @@
+package subway.common;
+
+import org.apache.coyote.http11.Http11NioProtocol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("가상 스레드 서버 설정")
+class VirtualThreadServerConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadServerConfig.class);
+
+    @DisplayName("virtual 모드면 Tomcat 프로토콜 핸들러에 요청마다 가상 스레드를 만드는 실행기를 설치한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void installVirtualThreadExecutor() {
+        assumeTrue(supportsVirtualThreads(), "JDK 21 이상에서만 확인합니다.");
+
+        contextRunner.withPropertyValues("subway.server.threads=virtual").run(context -> {
+            // given
+            Http11NioProtocol protocol = new Http11NioProtocol();
+
+            // when
+            context.getBean(TomcatProtocolHandlerCustomizer.class).customize(protocol);
+
+            // then
+            ExecutorService executor = (ExecutorService) protocol.getExecutor();
+            Future<Thread> worker = executor.submit(Thread::currentThread);
+            assertThat(Thread.class.getMethod("isVirtual").invoke(worker.get(5, TimeUnit.SECONDS))).isEqualTo(true);
+        });
+    }
+
+    @DisplayName("virtual 모드를 JDK 21 미만에서 켜면 기동에 실패한다.")
+    @Test
+    void failOnOldJdk() {
+        assumeFalse(supportsVirtualThreads(), "JDK 21 미만에서만 확인합니다.");
+
+        contextRunner.withPropertyValues("subway.server.threads=virtual").run(context -> {
+            assertThat(context).hasFailed();
+            assertThat(context.getStartupFailure()).hasRootCauseInstanceOf(NoSuchMethodException.class);
+        });
+    }
+
+    @DisplayName("platform 모드면 Tomcat 기본 작업 스레드 풀을 그대로 쓴다.")
+    @Test
+    void keepPlatformThreads() {
+        contextRunner.withPropertyValues("subway.server.threads=platform")
+                .run(context -> assertThat(context).doesNotHaveBean(TomcatProtocolHandlerCustomizer.class));
+    }
+
+    private static boolean supportsVirtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+}
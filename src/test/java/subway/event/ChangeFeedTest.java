@@ -0,0 +1,197 @@
+package subway.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.line.Section;
+import subway.line.SectionChanges;
+import subway.line.SectionsChangedEvent;
+import subway.station.Station;
+import subway.station.StationCreatedEvent;
+import subway.station.StationDeletedEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("변경 피드")
+class ChangeFeedTest {
+    private static final int RETAINED = 8;
+
+    private ChangeFeed changeFeed;
+
+    @BeforeEach
+    void setUp() {
+        changeFeed = new ChangeFeed(new ObjectMapper(), RETAINED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        changeFeed.close();
+    }
+
+    @DisplayName("처음 구독하면 지금 번호로 sync 를 받고, 그 뒤의 변경을 번호 순서대로 받는다.")
+    @Test
+    void subscribeFromNow() throws InterruptedException {
+        // given
+        changeFeed.onStationCreated(new StationCreatedEvent(new Station(1L, "강남역")));
+        RecordingSink sink = new RecordingSink();
+        changeFeed.subscribe(null, sink);
+
+        // when
+        changeFeed.onStationCreated(new StationCreatedEvent(new Station(2L, "양재역")));
+        changeFeed.onSectionsChanged(new SectionsChangedEvent(1L, new SectionChanges(
+                Arrays.asList(new Section(1L, 2L, 10)),
+                Arrays.asList(new Section(1L, 3L, 4), new Section(3L, 2L, 6)))));
+
+        // then
+        assertThat(sink.take(5)).containsExactly(
+                "1 sync {\"sequence\":1}",
+                "2 station-created {\"id\":2,\"name\":\"양재역\"}",
+                "3 section-removed {\"lineId\":1,\"upStationId\":1,\"downStationId\":2,\"distance\":10,\"duration\":0}",
+                "4 section-added {\"lineId\":1,\"upStationId\":1,\"downStationId\":3,\"distance\":4,\"duration\":0}",
+                "5 section-added {\"lineId\":1,\"upStationId\":3,\"downStationId\":2,\"distance\":6,\"duration\":0}");
+    }
+
+    @DisplayName("마지막으로 받은 번호를 주면 그 다음 변경부터 이어 받는다.")
+    @Test
+    void resume() throws InterruptedException {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            changeFeed.onStationCreated(new StationCreatedEvent(new Station(id, id + "역")));
+        }
+        RecordingSink sink = new RecordingSink();
+
+        // when
+        changeFeed.subscribe(changeFeed.idOf(3), sink);
+        changeFeed.onStationDeleted(new StationDeletedEvent(new Station(1L, "1역")));
+
+        // then
+        assertThat(sink.take(3)).containsExactly(
+                "4 station-created {\"id\":4,\"name\":\"4역\"}",
+                "5 station-created {\"id\":5,\"name\":\"5역\"}",
+                "6 station-deleted {\"id\":1}");
+    }
+
+    @DisplayName("보관하지 않는 번호부터 이어 받으려 하면 sync 를 받는다.")
+    @Test
+    void resumeFromDroppedSequence() throws InterruptedException {
+        // given
+        for (long id = 1; id <= RETAINED + 2; id++) {
+            changeFeed.onStationCreated(new StationCreatedEvent(new Station(id, id + "역")));
+        }
+        RecordingSink oldSink = new RecordingSink();
+        RecordingSink restartedSink = new RecordingSink();
+
+        // when
+        changeFeed.subscribe(changeFeed.idOf(1), oldSink);
+        changeFeed.subscribe(changeFeed.idOf(RETAINED + 5L), restartedSink);
+
+        // then
+        assertThat(oldSink.take(1)).containsExactly("10 sync {\"sequence\":10}");
+        assertThat(restartedSink.take(1)).containsExactly("10 sync {\"sequence\":10}");
+    }
+
+    @DisplayName("다시 기동한 뒤 이전 프로세스의 이벤트 id 로 이어 받으려 하면, 번호가 이미 그 뒤로 갔어도 sync 를 받는다.")
+    @Test
+    void resumeAfterRestart() throws InterruptedException {
+        // given
+        for (long id = 1; id <= 3; id++) {
+            changeFeed.onStationCreated(new StationCreatedEvent(new Station(id, id + "역")));
+        }
+        String lastEventId = changeFeed.idOf(2);
+        changeFeed.close();
+        changeFeed = new ChangeFeed(new ObjectMapper(), RETAINED);
+        for (long id = 1; id <= 5; id++) {
+            changeFeed.onStationCreated(new StationCreatedEvent(new Station(id, id + "역")));
+        }
+        RecordingSink sink = new RecordingSink();
+
+        // when
+        changeFeed.subscribe(lastEventId, sink);
+        changeFeed.onStationDeleted(new StationDeletedEvent(new Station(1L, "1역")));
+
+        // then
+        assertThat(sink.take(2)).containsExactly(
+                "5 sync {\"sequence\":5}",
+                "6 station-deleted {\"id\":1}");
+    }
+
+    @DisplayName("다른 형식의 id 로 이어 받으려 하면 sync 를 받는다.")
+    @Test
+    void resumeFromForeignId() throws InterruptedException {
+        // given
+        changeFeed.onStationCreated(new StationCreatedEvent(new Station(1L, "강남역")));
+        RecordingSink sink = new RecordingSink();
+
+        // when
+        changeFeed.subscribe("1", sink);
+
+        // then
+        assertThat(sink.take(1)).containsExactly("1 sync {\"sequence\":1}");
+    }
+
+    @DisplayName("보내기에 실패한 구독은 닫고 더 보내지 않는다.")
+    @Test
+    void closeFailedSubscription() throws InterruptedException {
+        // given
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        changeFeed.subscribe(null, sink);
+
+        // when
+        changeFeed.onStationCreated(new StationCreatedEvent(new Station(1L, "강남역")));
+
+        // then
+        assertThat(sink.closed.poll(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.received).isEmpty();
+    }
+
+    private static class RecordingSink implements ChangeSink {
+        private final BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        private final BlockingQueue<Boolean> closed = new LinkedBlockingQueue<>();
+        private volatile boolean failing;
+
+        @Override
+        public void send(ChangeEvent event) throws IOException {
+            record(event.getSequence() + " " + event.getType().getEventName() + " " + event.getData());
+        }
+
+        @Override
+        public void sync(long sequence) throws IOException {
+            record(sequence + " sync {\"sequence\":" + sequence + "}");
+        }
+
+        @Override
+        public void close() {
+            closed.add(true);
+        }
+
+        private void record(String entry) throws IOException {
+            if (failing) {
+                throw new IOException("연결이 끊겼습니다.");
+            }
+            received.add(entry);
+        }
+
+        List<String> take(int count) throws InterruptedException {
+            List<String> entries = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String entry = received.poll(5, TimeUnit.SECONDS);
+                if (entry == null) {
+                    break;
+                }
+                entries.add(entry);
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package subway.favorite;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.AcceptanceTest;
+import subway.auth.TokenResponse;
+import subway.station.StationResponse;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTest.지하철_노선_등록되어_있음;
+import static subway.member.MemberAcceptanceTest.내_회원_탈퇴_요청;
+import static subway.member.MemberAcceptanceTest.회원_가입하고_로그인되어_있음;
+import static subway.station.StationAcceptanceTest.지하철역_등록되어_있음;
+
+@DisplayName("즐겨찾기 관련 기능")
+public class FavoriteAcceptanceTest extends AcceptanceTest {
+    private StationResponse 강남역;
+    private StationResponse 양재역;
+    private StationResponse 정자역;
+    private TokenResponse 사용자;
+
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        강남역 = 지하철역_등록되어_있음("강남역");
+        양재역 = 지하철역_등록되어_있음("양재역");
+        정자역 = 지하철역_등록되어_있음("정자역");
+        지하철_노선_등록되어_있음("신분당선", "bg-red-600", 강남역, 양재역, 10);
+        지하철_노선_등록되어_있음("분당선", "bg-yellow-600", 양재역, 정자역, 5);
+
+        사용자 = 회원_가입하고_로그인되어_있음("email@email.com", "password", 20);
+    }
+
+    @DisplayName("즐겨찾기를 등록하면 경로와 함께 조회되고, 삭제하면 목록에서 빠진다.")
+    @Test
+    void manageFavorites() {
+        // when
+        ExtractableResponse<Response> createResponse = 즐겨찾기_생성_요청(사용자, 강남역, 정자역);
+
+        // then
+        assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(createResponse.header("Location")).isNotBlank();
+
+        // when
+        List<FavoriteResponse> favorites = 즐겨찾기_목록_조회_요청(사용자).jsonPath().getList(".", FavoriteResponse.class);
+
+        // then
+        assertThat(favorites).hasSize(1);
+        assertThat(favorites.get(0).getSource().getName()).isEqualTo("강남역");
+        assertThat(favorites.get(0).getTarget().getName()).isEqualTo("정자역");
+        assertThat(favorites.get(0).getPath().getDistance()).isEqualTo(15);
+
+        // when
+        ExtractableResponse<Response> deleteResponse = 즐겨찾기_삭제_요청(사용자, favorites.get(0).getId());
+
+        // then
+        assertThat(deleteResponse.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(즐겨찾기_목록_조회_요청(사용자).jsonPath().getList(".")).isEmpty();
+    }
+
+    @DisplayName("다른 회원의 즐겨찾기는 보이지 않고 삭제할 수도 없다.")
+    @Test
+    void favoritesOfOtherMember() {
+        // given
+        TokenResponse 다른_사용자 = 회원_가입하고_로그인되어_있음("other@email.com", "password", 30);
+        Long id = 즐겨찾기_생성_요청(사용자, 강남역, 정자역).as(FavoriteResponse.class).getId();
+
+        // when
+        ExtractableResponse<Response> listResponse = 즐겨찾기_목록_조회_요청(다른_사용자);
+        ExtractableResponse<Response> deleteResponse = 즐겨찾기_삭제_요청(다른_사용자, id);
+
+        // then
+        assertThat(listResponse.jsonPath().getList(".")).isEmpty();
+        assertThat(deleteResponse.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(즐겨찾기_목록_조회_요청(사용자).jsonPath().getList(".")).hasSize(1);
+    }
+
+    @DisplayName("역을 삭제하면 그 역을 쓰는 즐겨찾기도 지운다.")
+    @Test
+    void deleteStationOfFavorite() {
+        // given
+        StationResponse 판교역 = 지하철역_등록되어_있음("판교역");
+        즐겨찾기_생성_요청(사용자, 강남역, 판교역);
+        즐겨찾기_생성_요청(사용자, 강남역, 양재역);
+
+        // when
+        RestAssured.given().when().delete("/stations/" + 판교역.getId());
+
+        // then
+        List<Long> targets = 즐겨찾기_목록_조회_요청(사용자).jsonPath().getList(".", FavoriteResponse.class).stream()
+                .map(it -> it.getTarget().getId())
+                .collect(Collectors.toList());
+        assertThat(targets).containsExactly(양재역.getId());
+    }
+
+    @DisplayName("로그인하지 않으면 즐겨찾기를 조회할 수 없다.")
+    @Test
+    void findFavoritesWithoutLogin() {
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .when().get("/favorites")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("탈퇴한 회원의 토큰으로는 즐겨찾기를 조회할 수 없다.")
+    @Test
+    void findFavoritesOfDeletedMember() {
+        // given
+        즐겨찾기_생성_요청(사용자, 강남역, 정자역);
+        내_회원_탈퇴_요청(사용자);
+
+        // when
+        ExtractableResponse<Response> response = 즐겨찾기_목록_조회_요청(사용자);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    public static ExtractableResponse<Response> 즐겨찾기_생성_요청(TokenResponse token, StationResponse source, StationResponse target) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(token.getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new FavoriteRequest(source.getId(), target.getId()))
+                .when().post("/favorites")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 즐겨찾기_목록_조회_요청(TokenResponse token) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(token.getAccessToken())
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/favorites")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 즐겨찾기_삭제_요청(TokenResponse token, Long id) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(token.getAccessToken())
+                .when().delete("/favorites/" + id)
+                .then().log().all()
+                .extract();
+    }
+}
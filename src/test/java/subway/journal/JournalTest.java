@@ -0,0 +1,251 @@
+package subway.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import subway.line.Line;
+import subway.line.LineDao;
+import subway.line.LineSchedule;
+import subway.line.Section;
+import subway.line.Sections;
+import subway.path.PathResult;
+import subway.path.SubwayGraph;
+import subway.station.Station;
+import subway.station.StationDao;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("변경 저널")
+class JournalTest {
+    @TempDir
+    Path directory;
+
+    @DisplayName("저널을 재생해 지하철역과 노선 상태를 복원한다.")
+    @Test
+    void replay() throws IOException {
+        // given
+        Journal journal = openJournal(false);
+        NetworkRecovery recovery = recover(journal, new SubwayGraph());
+        StationDao stationDao = new StationDao(new JournalStationStore(journal, recovery));
+        LineDao lineDao = new LineDao(new JournalLineStore(journal, recovery));
+        Station 강남역 = stationDao.save(new Station("강남역"));
+        Station 역삼역 = stationDao.save(new Station("역삼역"));
+        Station 양재역 = stationDao.save(new Station("양재역"));
+        stationDao.deleteById(역삼역.getId());
+        Line line = lineDao.save(new Line("신분당선", "bg-red-600", new Sections(new Section(강남역.getId(), 양재역.getId(), 10))));
+        lineDao.updateSections(line, line.getSections().add(new Section(양재역.getId(), 역삼역.getId(), 5)));
+        journal.close();
+
+        // when
+        Journal reopened = openJournal(false);
+        NetworkRecovery restored = recover(reopened, new SubwayGraph());
+        StationDao restoredStations = new StationDao(new JournalStationStore(reopened, restored));
+        LineDao restoredLines = new LineDao(new JournalLineStore(reopened, restored));
+
+        // then
+        assertThat(restoredStations.findAll()).extracting(Station::getName).containsExactly("강남역", "양재역");
+        assertThat(restoredStations.save(new Station("정자역")).getId()).isEqualTo(4L);
+        assertThat(restoredLines.findById(line.getId()).get().getSections().getStationIds())
+                .containsExactly(강남역.getId(), 양재역.getId(), 역삼역.getId());
+        reopened.close();
+    }
+
+    @DisplayName("마지막 레코드가 잘렸으면 그 앞까지만 복원하고 이어서 기록한다.")
+    @Test
+    void replayTornTail() throws IOException {
+        // given
+        Journal journal = openJournal(true);
+        new StationDao(new JournalStationStore(journal, recover(journal, new SubwayGraph()))).save(new Station("강남역"));
+        journal.close();
+        Files.write(마지막_세그먼트(), new byte[]{0, 0, 0, 32, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // when
+        Journal reopened = openJournal(true);
+        new StationDao(new JournalStationStore(reopened, recover(reopened, new SubwayGraph()))).save(new Station("역삼역"));
+        reopened.close();
+
+        // then
+        Journal last = openJournal(true);
+        StationDao restored = new StationDao(new JournalStationStore(last, recover(last, new SubwayGraph())));
+        assertThat(restored.findAll()).extracting(Station::getName).containsExactly("강남역", "역삼역");
+        last.close();
+    }
+
+    @DisplayName("스냅샷과 그 뒤의 저널로 노선과 경로 그래프를 복원한다.")
+    @Test
+    void restoreFromSnapshot() throws IOException {
+        // given
+        Journal journal = openJournal(false);
+        NetworkRecovery recovery = recover(journal, new SubwayGraph());
+        StationDao stationDao = new StationDao(new JournalStationStore(journal, recovery));
+        LineDao lineDao = new LineDao(new JournalLineStore(journal, recovery));
+        Station 강남역 = stationDao.save(new Station("강남역"));
+        Station 양재역 = stationDao.save(new Station("양재역"));
+        Station 정자역 = stationDao.save(new Station("정자역"));
+        Line line = lineDao.save(new Line("신분당선", "bg-red-600", new Sections(new Section(강남역.getId(), 양재역.getId(), 10))));
+        new SnapshotScheduler(journal, snapshotPath()).writeSnapshot();
+        lineDao.updateSections(line, line.getSections().add(new Section(양재역.getId(), 정자역.getId(), 5)));
+        journal.close();
+        long written = journal.getDurableLength();
+
+        // when
+        Journal reopened = openJournal(false);
+        SubwayGraph graph = new SubwayGraph();
+        NetworkRecovery restored = recover(reopened, graph);
+        LineDao restoredLines = new LineDao(new JournalLineStore(reopened, restored));
+
+        // then
+        assertThat(restored.getJournalOffset()).isEqualTo(written);
+        assertThat(restoredLines.findById(line.getId()).get().getSections().getStationIds())
+                .containsExactly(강남역.getId(), 양재역.getId(), 정자역.getId());
+        assertThat(graph.findShortestPath(강남역.getId(), 정자역.getId()).map(PathResult::getDistance)).contains(15);
+        reopened.close();
+    }
+
+    @DisplayName("노선 시간표를 스냅샷과 그 뒤의 저널로 복원한다.")
+    @Test
+    void restoreSchedules() throws IOException {
+        // given
+        Journal journal = openJournal(false);
+        NetworkRecovery recovery = recover(journal, new SubwayGraph());
+        StationDao stationDao = new StationDao(new JournalStationStore(journal, recovery));
+        LineDao lineDao = new LineDao(new JournalLineStore(journal, recovery));
+        Station 강남역 = stationDao.save(new Station("강남역"));
+        Station 양재역 = stationDao.save(new Station("양재역"));
+        LineSchedule snapshotted = new LineSchedule(5 * 60, 24 * 60 + 30, 6);
+        LineSchedule updated = new LineSchedule(6 * 60, 23 * 60, 12);
+        Line 신분당선 = lineDao.save(new Line("신분당선", "bg-red-600", 900, snapshotted,
+                new Sections(new Section(강남역.getId(), 양재역.getId(), 10))));
+        Line 이호선 = lineDao.save(new Line("이호선", "bg-green-600", 0, snapshotted,
+                new Sections(new Section(강남역.getId(), 양재역.getId(), 10))));
+        new SnapshotScheduler(journal, snapshotPath()).writeSnapshot();
+        lineDao.update(이호선.update("이호선", "bg-green-600", 0, updated));
+        journal.close();
+
+        // when
+        Journal reopened = openJournal(false);
+        LineDao restoredLines = new LineDao(new JournalLineStore(reopened, recover(reopened, new SubwayGraph())));
+
+        // then
+        assertThat(restoredLines.findById(신분당선.getId()).get().getSchedule()).isEqualTo(snapshotted);
+        assertThat(restoredLines.findById(이호선.getId()).get().getSchedule()).isEqualTo(updated);
+        reopened.close();
+    }
+
+    @DisplayName("스냅샷을 쓰면 새 세그먼트로 넘어가고, 스냅샷이 반영한 세그먼트는 지운다.")
+    @Test
+    void rollAfterSnapshot() throws IOException {
+        // given
+        Journal journal = openJournal(false);
+        StationDao stationDao = new StationDao(new JournalStationStore(journal, recover(journal, new SubwayGraph())));
+        stationDao.save(new Station("강남역"));
+        stationDao.save(new Station("역삼역"));
+
+        // when
+        new SnapshotScheduler(journal, snapshotPath()).writeSnapshot();
+        stationDao.save(new Station("양재역"));
+        journal.close();
+
+        // then
+        long snapshotOffset = NetworkSnapshot.readIfExists(Paths.get(snapshotPath())).get().getJournalOffset();
+        assertThat(세그먼트_목록()).containsExactly(directory.resolve(String.format("subway.journal.%020d", snapshotOffset)));
+        Journal reopened = openJournal(false);
+        StationDao restored = new StationDao(new JournalStationStore(reopened, recover(reopened, new SubwayGraph())));
+        assertThat(restored.findAll()).extracting(Station::getName).containsExactly("강남역", "역삼역", "양재역");
+        reopened.close();
+    }
+
+    @DisplayName("기록하는 도중에 닫아도 성공한 기록은 모두 남고, fsync 를 기다리던 쓰기는 멈추지 않는다.")
+    @Test
+    void closeWhileAppending() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                // given
+                for (Path segment : 세그먼트_목록()) {
+                    Files.delete(segment);
+                }
+                Journal journal = openJournal(true);
+                AtomicInteger appended = new AtomicInteger();
+                CountDownLatch started = new CountDownLatch(4);
+                List<Future<?>> writers = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    writers.add(executor.submit(() -> 기록이_막힐_때까지_쓰기(journal, started, appended)));
+                }
+                started.await();
+
+                // when
+                journal.close();
+
+                // then
+                for (Future<?> writer : writers) {
+                    writer.get(5, TimeUnit.SECONDS);
+                }
+                AtomicInteger recovered = new AtomicInteger();
+                Journal reopened = openJournal(false);
+                reopened.recover(0, (type, in) -> recovered.incrementAndGet());
+                assertThat(recovered.get()).isEqualTo(appended.get());
+                reopened.close();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void 기록이_막힐_때까지_쓰기(Journal journal, CountDownLatch started, AtomicInteger appended) {
+        started.countDown();
+        try {
+            while (true) {
+                journal.append((byte) 0, out -> {
+                    for (int i = 0; i < 64; i++) {
+                        out.writeLong(System.nanoTime());
+                    }
+                });
+                appended.incrementAndGet();
+            }
+        } catch (IllegalStateException closed) {
+            return;
+        }
+    }
+
+    private Journal openJournal(boolean awaitFlush) throws IOException {
+        return new Journal(directory.resolve("subway.journal").toString(), 5, 256, awaitFlush);
+    }
+
+    private NetworkRecovery recover(Journal journal, SubwayGraph graph) throws IOException {
+        return new NetworkRecovery(journal, graph, snapshotPath());
+    }
+
+    private List<Path> 세그먼트_목록() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(it -> it.getFileName().toString().startsWith("subway.journal."))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path 마지막_세그먼트() throws IOException {
+        List<Path> segments = 세그먼트_목록();
+        return segments.get(segments.size() - 1);
+    }
+
+    private String snapshotPath() {
+        return directory.resolve("subway.snapshot").toString();
+    }
+}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static subway.station.StationAcceptanceTest.다음_페이지_경로;
 import static subway.station.StationAcceptanceTest.지하철역_등록되어_있음;
 
 @DisplayName("지하철 노선 관련 기능")
@@ -60,6 +61,56 @@ public class LineAcceptanceTest extends AcceptanceTest {
         지하철_노선_생성_실패됨(response);
     }
 
+    @DisplayName("첫차, 막차 시각과 배차 간격을 정해 지하철 노선을 생성한다.")
+    @Test
+    void createLineWithSchedule() {
+        // given
+        LineRequest lineRequest = new LineRequest("신분당선", "bg-red-600", 강남역.getId(), downStation.getId(), 10, 20, 0,
+                "05:00", "00:30", 6);
+
+        // when
+        ExtractableResponse<Response> response = 지하철_노선_생성_요청(lineRequest);
+
+        // then
+        지하철_노선_생성됨(response);
+        LineResponse lineResponse = response.as(LineResponse.class);
+        assertThat(lineResponse.getFirstTrainTime()).isEqualTo("05:00");
+        assertThat(lineResponse.getLastTrainTime()).isEqualTo("00:30");
+        assertThat(lineResponse.getIntervalTime()).isEqualTo(6);
+    }
+
+    @DisplayName("시각 형식이 잘못되었거나 배차 간격이 1분보다 짧으면 지하철 노선을 생성할 수 없다.")
+    @Test
+    void createLineWithInvalidSchedule() {
+        // when
+        ExtractableResponse<Response> invalidTime = 지하철_노선_생성_요청(new LineRequest("신분당선", "bg-red-600",
+                강남역.getId(), downStation.getId(), 10, 20, 0, "5시", "23:00", 6));
+        ExtractableResponse<Response> invalidInterval = 지하철_노선_생성_요청(new LineRequest("신분당선", "bg-red-600",
+                강남역.getId(), downStation.getId(), 10, 20, 0, "05:00", "23:00", 0));
+
+        // then
+        지하철_노선_생성_실패됨(invalidTime);
+        지하철_노선_생성_실패됨(invalidInterval);
+    }
+
+    @DisplayName("상행역과 하행역이 같거나 거리가 0 이하이거나 소요 시간이 음수이면 지하철 노선을 생성할 수 없다.")
+    @Test
+    void createLineWithInvalidSection() {
+        // when
+        ExtractableResponse<Response> sameStation = 지하철_노선_생성_요청(new LineRequest("신분당선", "bg-red-600",
+                강남역.getId(), 강남역.getId(), 10));
+        ExtractableResponse<Response> zeroDistance = 지하철_노선_생성_요청(new LineRequest("신분당선", "bg-red-600",
+                강남역.getId(), downStation.getId(), 0));
+        ExtractableResponse<Response> negativeDuration = 지하철_노선_생성_요청(new LineRequest("신분당선", "bg-red-600",
+                강남역.getId(), downStation.getId(), 10, -1, 0));
+
+        // then
+        지하철_노선_생성_실패됨(sameStation);
+        지하철_노선_생성_실패됨(zeroDistance);
+        지하철_노선_생성_실패됨(negativeDuration);
+        지하철_노선_생성됨(지하철_노선_생성_요청(lineRequest1));
+    }
+
     @DisplayName("지하철 노선 목록을 조회한다.")
     @Test
     void getLines() {
@@ -75,6 +126,26 @@ public class LineAcceptanceTest extends AcceptanceTest {
         지하철_노선_목록_포함됨(response, Arrays.asList(lineResponse1, lineResponse2));
     }
 
+    @DisplayName("지하철 노선 목록을 커서로 나누어 조회한다.")
+    @Test
+    void getLinesByCursor() {
+        // given
+        LineResponse lineResponse1 = 지하철_노선_등록되어_있음(lineRequest1);
+        LineResponse lineResponse2 = 지하철_노선_등록되어_있음(lineRequest2);
+
+        // when
+        ExtractableResponse<Response> firstPage = 지하철_노선_목록_페이지_조회_요청("/lines?limit=1");
+        ExtractableResponse<Response> lastPage = 지하철_노선_목록_페이지_조회_요청(다음_페이지_경로(firstPage));
+
+        // then
+        지하철_노선_목록_응답됨(firstPage);
+        assertThat(firstPage.jsonPath().getList("id", Long.class)).containsExactly(lineResponse1.getId());
+        assertThat(firstPage.jsonPath().getList("[0].stations.name", String.class)).containsExactly("강남역", "광교역");
+        지하철_노선_목록_응답됨(lastPage);
+        assertThat(lastPage.jsonPath().getList("id", Long.class)).containsExactly(lineResponse2.getId());
+        assertThat(lastPage.header("Link")).isNull();
+    }
+
     @DisplayName("지하철 노선을 조회한다.")
     @Test
     void getLine() {
@@ -142,6 +213,15 @@ public class LineAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    private static ExtractableResponse<Response> 지하철_노선_목록_페이지_조회_요청(String path) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철_노선_조회_요청(LineResponse response) {
         return RestAssured
                 .given().log().all()
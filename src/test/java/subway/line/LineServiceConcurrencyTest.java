@@ -0,0 +1,260 @@
+package subway.line;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.common.JsonResponseCache;
+import subway.path.SubwayGraph;
+import subway.station.MemoryStationStore;
+import subway.station.Station;
+import subway.station.StationDao;
+import subway.station.StationLocks;
+import subway.station.StationResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("노선 구간 변경 동시성")
+class LineServiceConcurrencyTest {
+    private static final int WRITERS = 8;
+    private static final int STATIONS_PER_WRITER = 100;
+    private static final int LINES = 4;
+    private static final int OPERATIONS_PER_WRITER = 300;
+
+    private StationDao stationDao;
+    private LineDao lineDao;
+    private LineService lineService;
+    private SubwayGraph subwayGraph;
+    private JsonResponseCache responseCache;
+    private List<SectionsChangedEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        stationDao = new StationDao(new MemoryStationStore());
+        lineDao = new LineDao(new MemoryLineStore());
+        subwayGraph = new SubwayGraph();
+        responseCache = new JsonResponseCache(new ObjectMapper(), true);
+        events = new ArrayList<>();
+        lineService = new LineService(lineDao, new LineLocks(), new StationLocks(), stationDao, responseCache, event -> {
+            synchronized (events) {
+                events.add((SectionsChangedEvent) event);
+            }
+            subwayGraph.onSectionsChanged((SectionsChangedEvent) event);
+        });
+    }
+
+    @DisplayName("한 노선에 동시에 구간을 추가해도 역은 하나의 사슬로 이어지고, 읽는 쪽은 항상 온전한 노선을 본다.")
+    @Test
+    void concurrentAddOnSameLine() throws Exception {
+        // given
+        LineResponse line = saveLine("신분당선", 1_000_000);
+        List<List<Long>> stationsByWriter = saveStations(WRITERS, STATIONS_PER_WRITER);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger brokenReads = new AtomicInteger();
+        ExecutorService readers = startReaders(line.getId(), writing, brokenReads);
+
+        // when
+        runConcurrently(WRITERS, writer -> {
+            Random random = new Random(writer);
+            for (Long stationId : stationsByWriter.get(writer)) {
+                addSomewhere(line.getId(), stationId, random);
+            }
+        });
+        writing.set(false);
+        readers.shutdown();
+        readers.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        Line saved = lineDao.findById(line.getId()).get();
+        assertChained(saved);
+        assertThat(saved.getSections().getStationIds()).hasSize(2 + WRITERS * STATIONS_PER_WRITER);
+        assertThat(brokenReads.get()).isZero();
+        assertReplayedInOrder(saved);
+        assertGraphFollowsLine(saved);
+    }
+
+    @DisplayName("여러 노선에 추가와 제외가 섞여 들어와도 노선마다 변경 순서대로 그래프에 반영된다.")
+    @Test
+    void concurrentAddAndRemoveOnLines() throws Exception {
+        // given
+        List<LineResponse> lines = new ArrayList<>();
+        for (int i = 0; i < LINES; i++) {
+            lines.add(saveLine(i + "호선", 1_000_000));
+        }
+        List<List<Long>> stationsByWriter = saveStations(LINES * 2, OPERATIONS_PER_WRITER);
+
+        // when
+        runConcurrently(LINES * 2, writer -> {
+            Long lineId = lines.get(writer % LINES).getId();
+            Random random = new Random(writer);
+            for (Long stationId : stationsByWriter.get(writer)) {
+                if (random.nextInt(3) == 0) {
+                    removeSomewhere(lineId, random);
+                } else {
+                    addSomewhere(lineId, stationId, random);
+                }
+            }
+        });
+
+        // then
+        for (LineResponse line : lines) {
+            Line saved = lineDao.findById(line.getId()).get();
+            assertChained(saved);
+            assertReplayedInOrder(saved);
+            assertGraphFollowsLine(saved);
+        }
+    }
+
+    @DisplayName("노선을 지우는 사이 지우기 전 버전으로 만든 응답이 캐시에 늦게 저장되어도, 지운 노선은 조회되지 않는다.")
+    @Test
+    void deleteWhileSerializing() {
+        // given
+        LineResponse line = saveLine("신분당선", 10);
+        long version = lineDao.getVersion(line.getId());
+        LineResponse serialized = lineService.findLine(line.getId());
+
+        // when
+        lineService.deleteLine(line.getId());
+        responseCache.get("lines/" + line.getId(), version, () -> serialized);
+
+        // then
+        assertThatThrownBy(() -> lineService.findLineJson(line.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LineResponse saveLine(String name, int distance) {
+        Station up = stationDao.save(new Station(name + " 상행종점"));
+        Station down = stationDao.save(new Station(name + " 하행종점"));
+        return lineService.saveLine(new LineRequest(name, "bg-red-600", up.getId(), down.getId(), distance, distance, 0));
+    }
+
+    private List<List<Long>> saveStations(int writers, int count) {
+        List<List<Long>> stationsByWriter = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            List<Long> stationIds = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                stationIds.add(stationDao.save(new Station(writer + "-" + i + "역")).getId());
+            }
+            stationsByWriter.add(stationIds);
+        }
+        return stationsByWriter;
+    }
+
+    /**
+     * 지금 노선의 아무 역 뒤에 새 역을 붙입니다. 다른 스레드가 먼저 구간을 잘게 나누어 거리가 모자라면 다른 역을 골라 다시 시도합니다.
+     */
+    private void addSomewhere(Long lineId, Long stationId, Random random) {
+        while (true) {
+            List<Long> stationIds = lineDao.findById(lineId).get().getSections().getStationIds();
+            Long anchor = stationIds.get(random.nextInt(stationIds.size()));
+            try {
+                lineService.addSection(lineId, new SectionRequest(anchor, stationId, 1 + random.nextInt(5), 1 + random.nextInt(5)));
+                return;
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+    }
+
+    private void removeSomewhere(Long lineId, Random random) {
+        List<Long> stationIds = lineDao.findById(lineId).get().getSections().getStationIds();
+        try {
+            lineService.removeSection(lineId, stationIds.get(random.nextInt(stationIds.size())));
+        } catch (IllegalArgumentException ignored) {
+            // 구간이 하나만 남았거나 다른 스레드가 먼저 제외한 역입니다.
+        }
+    }
+
+    private ExecutorService startReaders(Long lineId, AtomicBoolean writing, AtomicInteger brokenReads) {
+        ExecutorService readers = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 2; i++) {
+            readers.submit(() -> {
+                while (writing.get()) {
+                    Line line = lineDao.findById(lineId).get();
+                    List<Long> stationIds = line.getSections().getStationIds();
+                    List<Long> responseIds = lineService.findLine(lineId).getStations().stream()
+                            .map(StationResponse::getId)
+                            .collect(Collectors.toList());
+                    if (stationIds.size() != line.getSections().getSections().size() + 1
+                            || stationIds.stream().distinct().count() != stationIds.size()
+                            || responseIds.stream().distinct().count() != responseIds.size()) {
+                        brokenReads.incrementAndGet();
+                    }
+                }
+            });
+        }
+        return readers;
+    }
+
+    private void assertChained(Line line) {
+        List<Long> stationIds = line.getSections().getStationIds();
+        List<Section> sections = line.getSections().getSections();
+        assertThat(stationIds).doesNotHaveDuplicates().hasSize(sections.size() + 1);
+        for (int i = 0; i < sections.size(); i++) {
+            assertThat(sections.get(i).getUpStationId()).isEqualTo(stationIds.get(i));
+            assertThat(sections.get(i).getDownStationId()).isEqualTo(stationIds.get(i + 1));
+        }
+    }
+
+    /**
+     * 노선의 변경 이벤트를 받은 순서대로 다시 적용하면, 지우는 구간은 항상 그 전에 있던 구간이고 결과는 지금 노선의 구간과 같아야 합니다.
+     */
+    private void assertReplayedInOrder(Line line) {
+        Map<Section, Integer> replayed = new HashMap<>();
+        for (SectionsChangedEvent event : events) {
+            if (!event.getLineId().equals(line.getId())) {
+                continue;
+            }
+            for (Section section : event.getChanges().getRemoved()) {
+                assertThat(replayed.getOrDefault(section, 0)).isPositive();
+                replayed.computeIfPresent(section, (key, count) -> count == 1 ? null : count - 1);
+            }
+            for (Section section : event.getChanges().getAdded()) {
+                replayed.merge(section, 1, Integer::sum);
+            }
+        }
+        assertThat(replayed.values()).containsOnly(1);
+        assertThat(replayed.keySet()).containsExactlyInAnyOrderElementsOf(line.getSections().getSections());
+    }
+
+    private void assertGraphFollowsLine(Line line) {
+        List<Long> stationIds = line.getSections().getStationIds();
+        int distance = line.getSections().getSections().stream().mapToInt(Section::getDistance).sum();
+        assertThat(subwayGraph.findShortestPath(stationIds.get(0), stationIds.get(stationIds.size() - 1)).get().getDistance())
+                .isEqualTo(distance);
+    }
+
+    private void runConcurrently(int threads, IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int threadNo = thread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.accept(threadNo);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,147 @@
+package subway.line;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import subway.common.JsonResponseCache;
+import subway.station.JdbcStationStore;
+import subway.station.Station;
+import subway.station.StationDao;
+import subway.station.StationLocks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JDBC 저장소의 노선 구간 변경")
+class LineServiceJdbcTest {
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private FailingLineStore lineStore;
+    private StationDao stationDao;
+    private LineDao lineDao;
+    private LineService lineService;
+    private List<SectionsChangedEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .addScript("schema.sql")
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        lineStore = new FailingLineStore(new JdbcLineStore(jdbcTemplate));
+        stationDao = new StationDao(new JdbcStationStore(jdbcTemplate));
+        lineDao = new LineDao(lineStore);
+        events = new ArrayList<>();
+        lineService = new LineService(lineDao, new LineLocks(), new StationLocks(), stationDao, new JsonResponseCache(new ObjectMapper(), true),
+                event -> events.add((SectionsChangedEvent) event));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @DisplayName("구간을 추가하고 제외한 노선을 다시 읽으면 메모리의 노선과 같은 역 순서가 된다.")
+    @Test
+    void reload() {
+        // given
+        Station 강남역 = stationDao.save(new Station("강남역"));
+        Station 양재역 = stationDao.save(new Station("양재역"));
+        Station 정자역 = stationDao.save(new Station("정자역"));
+        Station 광교역 = stationDao.save(new Station("광교역"));
+        Station 판교역 = stationDao.save(new Station("판교역"));
+        LineResponse line = lineService.saveLine(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 광교역.getId(), 20));
+
+        // when
+        lineService.addSection(line.getId(), new SectionRequest(강남역.getId(), 양재역.getId(), 5));
+        lineService.addSections(line.getId(), Arrays.asList(
+                new SectionRequest(양재역.getId(), 판교역.getId(), 5),
+                new SectionRequest(판교역.getId(), 정자역.getId(), 5)));
+        lineService.removeSection(line.getId(), 판교역.getId());
+
+        // then
+        Line reloaded = new LineDao(new JdbcLineStore(jdbcTemplate)).findById(line.getId()).get();
+        assertThat(reloaded.getSections().getStationIds())
+                .containsExactly(강남역.getId(), 양재역.getId(), 정자역.getId(), 광교역.getId());
+        assertThat(reloaded.getSections().getSections())
+                .isEqualTo(lineDao.findById(line.getId()).get().getSections().getSections());
+    }
+
+    @DisplayName("저장소에 반영하지 못하면 메모리의 노선도 바꾸지 않고 변경 이벤트도 보내지 않는다.")
+    @Test
+    void keepLineWhenStoreFails() {
+        // given
+        Station 강남역 = stationDao.save(new Station("강남역"));
+        Station 양재역 = stationDao.save(new Station("양재역"));
+        Station 광교역 = stationDao.save(new Station("광교역"));
+        LineResponse line = lineService.saveLine(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 광교역.getId(), 20));
+        Line before = lineDao.findById(line.getId()).get();
+        long version = lineDao.getVersion(line.getId());
+        events.clear();
+        lineStore.failing = true;
+
+        // when
+        assertThatThrownBy(() -> lineService.addSection(line.getId(), new SectionRequest(강남역.getId(), 양재역.getId(), 5)))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(lineDao.findById(line.getId()).get()).isSameAs(before);
+        assertThat(before.getSections().getStationIds()).containsExactly(강남역.getId(), 광교역.getId());
+        assertThat(lineDao.getVersion(line.getId())).isEqualTo(version);
+        assertThat(events).isEmpty();
+        Line reloaded = new LineDao(new JdbcLineStore(jdbcTemplate)).findById(line.getId()).get();
+        assertThat(reloaded.getSections().getStationIds()).containsExactly(강남역.getId(), 광교역.getId());
+    }
+
+    /**
+     * 구간 변경을 저장하다 DB 연결이 끊긴 경우를 흉내 냅니다.
+     */
+    private static class FailingLineStore implements LineStore {
+        private final LineStore delegate;
+        private volatile boolean failing;
+
+        FailingLineStore(LineStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<Line> findAll() {
+            return delegate.findAll();
+        }
+
+        @Override
+        public Long insert(Line line) {
+            return delegate.insert(line);
+        }
+
+        @Override
+        public void update(Line line) {
+            delegate.update(line);
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            delegate.deleteById(id);
+        }
+
+        @Override
+        public void saveSectionChanges(Long lineId, SectionChanges changes) {
+            if (failing) {
+                throw new IllegalStateException("구간을 저장할 수 없습니다.");
+            }
+            delegate.saveSectionChanges(lineId, changes);
+        }
+    }
+}
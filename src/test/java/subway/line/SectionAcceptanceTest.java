@@ -11,6 +11,7 @@ import org.springframework.http.MediaType;
 import subway.AcceptanceTest;
 import subway.station.StationResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -61,6 +62,65 @@ public class SectionAcceptanceTest extends AcceptanceTest {
         지하철_구간_생성됨(response, 신분당선, Arrays.asList(정자역, 강남역, 양재역, 광교역));
     }
 
+    @DisplayName("구간이 바뀌면 노선을 다시 내려받는다.")
+    @Test
+    void getLineModifiedAfterSectionAdded() {
+        // given
+        String etag = 지하철_노선_조회_요청(신분당선).header("ETag");
+        ExtractableResponse<Response> notModified = 지하철_노선_조건부_조회_요청(신분당선, etag);
+
+        // when
+        지하철_구간_생성_요청(신분당선, 강남역, 양재역, 3);
+
+        // then
+        assertThat(notModified.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        ExtractableResponse<Response> response = 지하철_노선_조건부_조회_요청(신분당선, etag);
+        지하철_노선에_지하철역_순서_정렬됨(response, Arrays.asList(강남역, 양재역, 광교역));
+    }
+
+    @DisplayName("지하철 구간 여러 개를 한 번에 등록한다.")
+    @Test
+    void addLineSections() {
+        // when
+        ExtractableResponse<Response> response = 지하철_구간_일괄_생성_요청(신분당선, Arrays.asList(
+                new SectionRequest(강남역.getId(), 양재역.getId(), 2),
+                new SectionRequest(정자역.getId(), 강남역.getId(), 5)));
+
+        // then
+        지하철_구간_생성됨(response, 신분당선, Arrays.asList(정자역, 강남역, 양재역, 광교역));
+    }
+
+    @DisplayName("등록할 수 없는 구간이 섞여 있으면 아무 구간도 등록하지 않는다.")
+    @Test
+    void addLineSectionsWithInvalidSection() {
+        // when
+        ExtractableResponse<Response> response = 지하철_구간_일괄_생성_요청(신분당선, Arrays.asList(
+                new SectionRequest(강남역.getId(), 양재역.getId(), 2),
+                new SectionRequest(강남역.getId(), 광교역.getId(), 3)));
+
+        // then
+        지하철_구간_등록_실패됨(response);
+        지하철_노선에_지하철역_순서_정렬됨(지하철_노선_조회_요청(신분당선), Arrays.asList(강남역, 광교역));
+    }
+
+    @DisplayName("NDJSON 본문에 읽을 수 없는 줄이 있으면 아무 구간도 등록하지 않고 400 으로 응답한다.")
+    @Test
+    void importLineSectionsWithMalformedLine() {
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .body(("{\"upStationId\":" + 강남역.getId() + ",\"downStationId\":" + 양재역.getId() + ",\"distance\":2}\n"
+                        + "{\"upStationId\":\"양재역\"}\n").getBytes(StandardCharsets.UTF_8))
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .when().post("/lines/{lineId}/sections/bulk", 신분당선.getId())
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        지하철_노선에_지하철역_순서_정렬됨(지하철_노선_조회_요청(신분당선), Arrays.asList(강남역, 광교역));
+    }
+
     @DisplayName("지하철 노선에 이미 등록되어있는 역을 등록한다.")
     @Test
     void addLineSectionWithSameStation() {
@@ -81,6 +141,37 @@ public class SectionAcceptanceTest extends AcceptanceTest {
         지하철_구간_등록_실패됨(response);
     }
 
+    @DisplayName("노선 끝에 붙이는 구간이라도 거리가 0 이하이거나 소요 시간이 음수이면 등록할 수 없다.")
+    @Test
+    void addLineSectionWithInvalidValues() {
+        // when
+        ExtractableResponse<Response> zeroDistance = 지하철_구간_생성_요청(신분당선, 광교역, 정자역, 0);
+        ExtractableResponse<Response> negativeDistance = 지하철_구간_생성_요청(신분당선, 양재역, 강남역, -3);
+        ExtractableResponse<Response> negativeDuration = 지하철_구간_생성_요청(신분당선,
+                new SectionRequest(광교역.getId(), 정자역.getId(), 3, -1));
+        ExtractableResponse<Response> sameStation = 지하철_구간_생성_요청(신분당선, 광교역, 광교역, 3);
+
+        // then
+        assertThat(zeroDistance.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(negativeDistance.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(negativeDuration.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        assertThat(sameStation.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        지하철_노선에_지하철역_순서_정렬됨(지하철_노선_조회_요청(신분당선), Arrays.asList(강남역, 광교역));
+    }
+
+    @DisplayName("여러 구간 중 하나라도 거리가 0 이하이면 아무 구간도 등록하지 않는다.")
+    @Test
+    void addLineSectionsWithInvalidDistance() {
+        // when
+        ExtractableResponse<Response> response = 지하철_구간_일괄_생성_요청(신분당선, Arrays.asList(
+                new SectionRequest(강남역.getId(), 양재역.getId(), 2),
+                new SectionRequest(광교역.getId(), 정자역.getId(), 0)));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        지하철_노선에_지하철역_순서_정렬됨(지하철_노선_조회_요청(신분당선), Arrays.asList(강남역, 광교역));
+    }
+
     @DisplayName("지하철 노선에 등록된 지하철역을 제외한다.")
     @Test
     void removeLineSection1() {
@@ -109,9 +200,15 @@ public class SectionAcceptanceTest extends AcceptanceTest {
         지하철_구간_생성_요청(lineResponse, upStation, downStation, distance);
     }
 
+    public static void 지하철_구간_등록되어_있음(LineResponse lineResponse, StationResponse upStation, StationResponse downStation, int distance, int duration) {
+        지하철_구간_생성_요청(lineResponse, new SectionRequest(upStation.getId(), downStation.getId(), distance, duration));
+    }
+
     public static ExtractableResponse<Response> 지하철_구간_생성_요청(LineResponse line, StationResponse upStation, StationResponse downStation, int distance) {
-        SectionRequest sectionRequest = new SectionRequest(upStation.getId(), downStation.getId(), distance);
+        return 지하철_구간_생성_요청(line, new SectionRequest(upStation.getId(), downStation.getId(), distance));
+    }
 
+    public static ExtractableResponse<Response> 지하철_구간_생성_요청(LineResponse line, SectionRequest sectionRequest) {
         return RestAssured
                 .given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -121,6 +218,26 @@ public class SectionAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철_구간_일괄_생성_요청(LineResponse line, List<SectionRequest> sectionRequests) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(sectionRequests)
+                .when().post("/lines/{lineId}/sections/bulk", line.getId())
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철_노선_조건부_조회_요청(LineResponse line, String etag) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .header("If-None-Match", etag)
+                .when().get("/lines/{lineId}", line.getId())
+                .then().log().all()
+                .extract();
+    }
+
     public static void 지하철_노선에_지하철역_순서_정렬됨(ExtractableResponse<Response> response, List<StationResponse> expectedStations) {
         LineResponse line = response.as(LineResponse.class);
         List<Long> stationIds = line.getStations().stream()
@@ -0,0 +1,153 @@
+package subway.line;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("노선의 구간 목록")
+class SectionsTest {
+    private static final Long 강남역 = 1L;
+    private static final Long 양재역 = 2L;
+    private static final Long 정자역 = 3L;
+    private static final Long 광교역 = 4L;
+
+    private Sections sections;
+
+    @BeforeEach
+    void setUp() {
+        sections = new Sections(new Section(강남역, 광교역, 10));
+    }
+
+    @DisplayName("상행 종점 앞에 구간을 추가한다.")
+    @Test
+    void addBeforeFirst() {
+        // when
+        SectionChanges changes = sections.add(new Section(정자역, 강남역, 5));
+
+        // then
+        assertThat(sections.getStationIds()).containsExactly(정자역, 강남역, 광교역);
+        assertThat(changes.getRemoved()).isEmpty();
+        assertThat(changes.getAdded()).extracting(Section::getDistance).containsExactly(5);
+    }
+
+    @DisplayName("역 사이에 구간을 추가하면 기존 구간이 나뉜다.")
+    @Test
+    void addBetween() {
+        // when
+        SectionChanges changes = sections.add(new Section(강남역, 양재역, 3));
+
+        // then
+        assertThat(sections.getStationIds()).containsExactly(강남역, 양재역, 광교역);
+        assertThat(changes.getRemoved()).extracting(Section::getDistance).containsExactly(10);
+        assertThat(changes.getAdded()).extracting(Section::getDistance).containsExactly(3, 7);
+    }
+
+    @DisplayName("역 사이에 기존 구간보다 긴 구간은 추가할 수 없다.")
+    @Test
+    void addBetweenTooLong() {
+        // when, then
+        assertThatThrownBy(() -> sections.add(new Section(양재역, 광교역, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(sections.getStationIds()).containsExactly(강남역, 광교역);
+    }
+
+    @DisplayName("역 사이에 구간을 추가하면 소요 시간도 나뉜다.")
+    @Test
+    void addBetweenWithDuration() {
+        // given
+        Sections timed = new Sections(new Section(강남역, 광교역, 10, 12));
+
+        // when
+        SectionChanges changes = timed.add(new Section(강남역, 양재역, 3, 5));
+
+        // then
+        assertThat(changes.getAdded()).extracting(Section::getDuration).containsExactly(5, 7);
+    }
+
+    @DisplayName("역 사이에 기존 구간보다 소요 시간이 긴 구간은 추가할 수 없다.")
+    @Test
+    void addBetweenTooSlow() {
+        // given
+        Sections timed = new Sections(new Section(강남역, 광교역, 10, 12));
+
+        // when, then
+        assertThatThrownBy(() -> timed.add(new Section(강남역, 양재역, 3, 13)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(timed.getStationIds()).containsExactly(강남역, 광교역);
+    }
+
+    @DisplayName("가운데 역을 제외하면 앞뒤 구간이 합쳐진다.")
+    @Test
+    void removeMiddle() {
+        // given
+        sections.add(new Section(강남역, 양재역, 3));
+
+        // when
+        SectionChanges changes = sections.remove(양재역);
+
+        // then
+        assertThat(sections.getStationIds()).containsExactly(강남역, 광교역);
+        assertThat(changes.getRemoved()).hasSize(2);
+        assertThat(changes.getAdded()).extracting(Section::getDistance).containsExactly(10);
+    }
+
+    @DisplayName("종점을 제외하면 다음 역이 종점이 된다.")
+    @Test
+    void removeTerminal() {
+        // given
+        sections.add(new Section(광교역, 정자역, 4));
+        sections.add(new Section(양재역, 강남역, 2));
+
+        // when
+        sections.remove(양재역);
+        sections.remove(정자역);
+
+        // then
+        assertThat(sections.getStationIds()).containsExactly(강남역, 광교역);
+        assertThat(sections.getSections()).extracting(Section::getDistance).containsExactly(10);
+    }
+
+    @DisplayName("정렬된 역 목록은 변경 전까지 캐시된다.")
+    @Test
+    void cacheStationIds() {
+        // given
+        List<Long> stationIds = sections.getStationIds();
+
+        // when
+        sections.add(new Section(강남역, 양재역, 3));
+
+        // then
+        assertThat(sections.getStationIds()).isNotSameAs(stationIds);
+        assertThat(sections.getStationIds()).isSameAs(sections.getStationIds());
+    }
+
+    @DisplayName("순서 없는 구간 목록을 상행 종점부터 이어 붙인다.")
+    @Test
+    void ofUnorderedSections() {
+        // when
+        Sections restored = Sections.of(Arrays.asList(
+                new Section(정자역, 광교역, 3),
+                new Section(강남역, 양재역, 4),
+                new Section(양재역, 정자역, 3)));
+
+        // then
+        assertThat(restored.getStationIds()).containsExactly(강남역, 양재역, 정자역, 광교역);
+        assertThat(restored.getSections()).extracting(Section::getDistance).containsExactly(4, 3, 3);
+    }
+
+    @DisplayName("끊어진 구간 목록으로는 노선을 복원할 수 없다.")
+    @Test
+    void ofDisconnectedSections() {
+        // when / then
+        assertThatThrownBy(() -> Sections.of(Arrays.asList(
+                new Section(강남역, 양재역, 4),
+                new Section(정자역, 광교역, 3))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package subway.log;
+
+import ch.qos.logback.access.AccessConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockFilterConfig;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("본문 복사 요청 표본 추출")
+class SampledTeeFilterTest {
+    @DisplayName("표본으로 고른 요청에만 본문을 복사하고 표본 속성을 남긴다.")
+    @Test
+    void teeOnlySampledRequests() throws Exception {
+        // given
+        SampledTeeFilter filter = new SampledTeeFilter(2);
+        filter.init(new MockFilterConfig());
+        List<Boolean> teed = new ArrayList<>();
+        List<Boolean> sampled = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            MockHttpServletRequest request = 요청_보내기(filter);
+            teed.add(request.getAttribute(AccessConstants.LB_INPUT_BUFFER) != null);
+            sampled.add(Boolean.TRUE.equals(request.getAttribute(SampledTeeFilter.SAMPLED)));
+        }
+
+        // then
+        assertThat(teed).containsExactly(false, true, false, true);
+        assertThat(sampled).containsExactly(false, true, false, true);
+    }
+
+    private MockHttpServletRequest 요청_보내기(SampledTeeFilter filter) throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/stations");
+        request.setContent("{\"name\":\"강남역\"}".getBytes());
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return request;
+    }
+}
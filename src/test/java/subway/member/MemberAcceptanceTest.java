@@ -0,0 +1,150 @@
+package subway.member;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.AcceptanceTest;
+import subway.auth.TokenRequest;
+import subway.auth.TokenResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("회원 관련 기능")
+public class MemberAcceptanceTest extends AcceptanceTest {
+    private static final String EMAIL = "email@email.com";
+    private static final String PASSWORD = "password";
+    private static final int AGE = 20;
+
+    @DisplayName("회원 가입하고 로그인해 내 정보를 조회, 수정, 삭제한다.")
+    @Test
+    void manageMember() {
+        // when
+        ExtractableResponse<Response> createResponse = 회원_생성_요청(EMAIL, PASSWORD, AGE);
+
+        // then
+        assertThat(createResponse.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+
+        // when
+        TokenResponse token = 로그인되어_있음(EMAIL, PASSWORD);
+        ExtractableResponse<Response> findResponse = 내_회원_정보_조회_요청(token);
+
+        // then
+        assertThat(findResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(findResponse.as(MemberResponse.class).getEmail()).isEqualTo(EMAIL);
+        assertThat(findResponse.as(MemberResponse.class).getAge()).isEqualTo(AGE);
+
+        // when
+        ExtractableResponse<Response> updateResponse = 내_회원_정보_수정_요청(token, "new@email.com", "new-password", 30);
+
+        // then
+        assertThat(updateResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(로그인_요청(EMAIL, PASSWORD).statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(내_회원_정보_조회_요청(token).as(MemberResponse.class).getEmail()).isEqualTo("new@email.com");
+
+        // when
+        ExtractableResponse<Response> deleteResponse = 내_회원_탈퇴_요청(token);
+
+        // then
+        assertThat(deleteResponse.statusCode()).isEqualTo(HttpStatus.NO_CONTENT.value());
+        assertThat(내_회원_정보_조회_요청(token).statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("이미 가입된 이메일로는 가입할 수 없다.")
+    @Test
+    void createMemberWithDuplicateEmail() {
+        // given
+        회원_생성_요청(EMAIL, PASSWORD, AGE);
+
+        // when
+        ExtractableResponse<Response> response = 회원_생성_요청(EMAIL, "other", AGE);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("비밀번호가 틀리면 토큰을 발급하지 않는다.")
+    @Test
+    void loginWithWrongPassword() {
+        // given
+        회원_생성_요청(EMAIL, PASSWORD, AGE);
+
+        // when
+        ExtractableResponse<Response> response = 로그인_요청(EMAIL, "wrong");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @DisplayName("토큰이 없거나 올바르지 않으면 내 정보를 조회할 수 없다.")
+    @Test
+    void findMemberWithInvalidToken() {
+        // when
+        ExtractableResponse<Response> response = 내_회원_정보_조회_요청(new TokenResponse("invalid.token.value"));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    public static ExtractableResponse<Response> 회원_생성_요청(String email, String password, Integer age) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new MemberRequest(email, password, age))
+                .when().post("/members")
+                .then().log().all()
+                .extract();
+    }
+
+    public static TokenResponse 회원_가입하고_로그인되어_있음(String email, String password, Integer age) {
+        회원_생성_요청(email, password, age);
+        return 로그인되어_있음(email, password);
+    }
+
+    public static TokenResponse 로그인되어_있음(String email, String password) {
+        return 로그인_요청(email, password).as(TokenResponse.class);
+    }
+
+    public static ExtractableResponse<Response> 로그인_요청(String email, String password) {
+        return RestAssured
+                .given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new TokenRequest(email, password))
+                .when().post("/login/token")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 내_회원_정보_조회_요청(TokenResponse token) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(token.getAccessToken())
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/members/me")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 내_회원_정보_수정_요청(TokenResponse token, String email, String password, Integer age) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(token.getAccessToken())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .body(new MemberRequest(email, password, age))
+                .when().put("/members/me")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 내_회원_탈퇴_요청(TokenResponse token) {
+        return RestAssured
+                .given().log().all()
+                .auth().oauth2(token.getAccessToken())
+                .when().delete("/members/me")
+                .then().log().all()
+                .extract();
+    }
+}
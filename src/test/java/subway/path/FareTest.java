@@ -0,0 +1,22 @@
+package subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 요금")
+class FareTest {
+
+    @DisplayName("거리 구간별 추가 요금과 노선 추가 요금을 더한다.")
+    @ParameterizedTest
+    @CsvSource({"5,0,1250", "10,0,1250", "11,0,1350", "15,0,1350", "16,0,1450", "50,0,2050", "51,0,2150", "58,0,2150", "59,0,2250", "12,900,2250"})
+    void calculate(int distance, int maxExtraFare, int expected) {
+        // when
+        int fare = Fare.calculate(distance, maxExtraFare);
+
+        // then
+        assertThat(fare).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,262 @@
+package subway.path;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import subway.AcceptanceTest;
+import subway.line.LineRequest;
+import subway.line.LineResponse;
+import subway.station.StationResponse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTest.지하철_노선_등록되어_있음;
+import static subway.line.SectionAcceptanceTest.지하철_구간_등록되어_있음;
+import static subway.line.SectionAcceptanceTest.지하철_노선에_지하철역_제외_요청;
+import static subway.station.StationAcceptanceTest.지하철역_등록되어_있음;
+
+@DisplayName("지하철 경로 조회")
+public class PathAcceptanceTest extends AcceptanceTest {
+    private LineResponse 신분당선;
+    private LineResponse 이호선;
+    private LineResponse 삼호선;
+    private StationResponse 강남역;
+    private StationResponse 양재역;
+    private StationResponse 교대역;
+    private StationResponse 남부터미널역;
+
+    /**
+     * 교대역    --- *2호선* ---   강남역
+     * |                        |
+     * *3호선*                   *신분당선*
+     * |                        |
+     * 남부터미널역  --- *3호선* ---   양재
+     */
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+
+        강남역 = 지하철역_등록되어_있음("강남역");
+        양재역 = 지하철역_등록되어_있음("양재역");
+        교대역 = 지하철역_등록되어_있음("교대역");
+        남부터미널역 = 지하철역_등록되어_있음("남부터미널역");
+
+        신분당선 = 지하철_노선_등록되어_있음(new LineRequest("신분당선", "bg-red-600", 강남역.getId(), 양재역.getId(), 10, 20, 900));
+        이호선 = 지하철_노선_등록되어_있음(new LineRequest("이호선", "bg-green-600", 교대역.getId(), 강남역.getId(), 10, 10, 0));
+        삼호선 = 지하철_노선_등록되어_있음(new LineRequest("삼호선", "bg-orange-600", 교대역.getId(), 양재역.getId(), 5, 10, 0));
+
+        지하철_구간_등록되어_있음(삼호선, 교대역, 남부터미널역, 3, 2);
+    }
+
+    @DisplayName("두 역의 최단 거리 경로를 조회한다.")
+    @Test
+    void findPathByDistance() {
+        // when
+        ExtractableResponse<Response> response = 거리_경로_조회_요청(교대역.getId(), 양재역.getId());
+
+        // then
+        적절한_경로_응답됨(response, Arrays.asList(교대역, 남부터미널역, 양재역));
+        총_거리가_함께_응답됨(response, 5);
+        총_소요_시간과_요금이_함께_응답됨(response, 10, 1250);
+    }
+
+    @DisplayName("추가 요금이 있는 노선을 지나면 요금에 더해진다.")
+    @Test
+    void findPathWithExtraFare() {
+        // when
+        ExtractableResponse<Response> response = 거리_경로_조회_요청(남부터미널역.getId(), 강남역.getId());
+
+        // then
+        적절한_경로_응답됨(response, Arrays.asList(남부터미널역, 양재역, 강남역));
+        총_거리가_함께_응답됨(response, 12);
+        총_소요_시간과_요금이_함께_응답됨(response, 28, 2250);
+    }
+
+    @DisplayName("두 역의 최소 시간 경로를 조회한다.")
+    @Test
+    void findPathByDuration() {
+        // when
+        ExtractableResponse<Response> response = 경로_조회_요청(남부터미널역.getId(), 강남역.getId(), "DURATION");
+
+        // then
+        적절한_경로_응답됨(response, Arrays.asList(남부터미널역, 교대역, 강남역));
+        총_거리가_함께_응답됨(response, 13);
+        총_소요_시간과_요금이_함께_응답됨(response, 12, 1350);
+    }
+
+    /**
+     * 모든 노선이 기본 시간표(05:30~23:30, 10분 간격)로 다닙니다.
+     * 08:00 에 남부터미널역에서 3호선을 타면 교대역(08:10)에서 갈아타 08:20 2호선으로 강남역에 08:30 에 닿고,
+     * 양재역(08:10)에서 갈아타면 08:20 신분당선으로 08:40 에 닿습니다.
+     */
+    @DisplayName("출발 시각에 가장 일찍 도착하는 경로를 시간표로 조회한다.")
+    @Test
+    void findPathByArrival() {
+        // when
+        ExtractableResponse<Response> response = 도착_시각_경로_조회_요청(남부터미널역.getId(), 강남역.getId(), "08:00");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        ArrivalResponse arrivalResponse = response.as(ArrivalResponse.class);
+        assertThat(arrivalResponse.getStations()).extracting(StationResponse::getId)
+                .containsExactly(남부터미널역.getId(), 교대역.getId(), 강남역.getId());
+        assertThat(arrivalResponse.getDepartureTime()).isEqualTo("08:08");
+        assertThat(arrivalResponse.getArrivalTime()).isEqualTo("08:30");
+        assertThat(arrivalResponse.getDuration()).isEqualTo(30);
+        assertThat(arrivalResponse.getTransfers()).isEqualTo(1);
+        assertThat(arrivalResponse.getDistance()).isEqualTo(13);
+        assertThat(arrivalResponse.getFare()).isEqualTo(1350);
+    }
+
+    @DisplayName("막차가 끊긴 시각에는 도착 시각 기준 경로를 찾을 수 없다.")
+    @Test
+    void findPathByArrivalAfterLastTrain() {
+        // when
+        ExtractableResponse<Response> response = 도착_시각_경로_조회_요청(교대역.getId(), 강남역.getId(), "23:50");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("여러 출발역과 도착역 사이의 거리와 요금을 한 번에 조회한다.")
+    @Test
+    void findDistanceMatrix() {
+        // when
+        ExtractableResponse<Response> response = 거리_행렬_조회_요청(
+                Arrays.asList(교대역.getId(), 남부터미널역.getId()),
+                Arrays.asList(양재역.getId(), 강남역.getId()));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        DistanceMatrixResponse matrix = response.as(DistanceMatrixResponse.class);
+        assertThat(matrix.getDistances()).isDeepEqualTo(new int[][]{{5, 10}, {2, 12}});
+        assertThat(matrix.getFares()).isDeepEqualTo(new int[][]{{1250, 1250}, {1250, 2250}});
+    }
+
+    @DisplayName("구간이 제외되면 바뀐 경로를 조회한다.")
+    @Test
+    void findPathAfterSectionRemoved() {
+        // given
+        지하철_노선에_지하철역_제외_요청(삼호선, 남부터미널역);
+
+        // when
+        ExtractableResponse<Response> response = 거리_경로_조회_요청(교대역.getId(), 양재역.getId());
+
+        // then
+        적절한_경로_응답됨(response, Arrays.asList(교대역, 양재역));
+        총_거리가_함께_응답됨(response, 5);
+    }
+
+    @DisplayName("같은 경로를 다시 조회하면 캐시에서 응답하고, 구간이 바뀌면 다시 찾는다.")
+    @Test
+    void findPathFromCache() {
+        // given
+        거리_경로_조회_요청(교대역.getId(), 양재역.getId());
+
+        // when
+        ExtractableResponse<Response> cached = 거리_경로_조회_요청(교대역.getId(), 양재역.getId());
+        지하철_노선에_지하철역_제외_요청(삼호선, 남부터미널역);
+        ExtractableResponse<Response> changed = 거리_경로_조회_요청(교대역.getId(), 양재역.getId());
+
+        // then
+        적절한_경로_응답됨(cached, Arrays.asList(교대역, 남부터미널역, 양재역));
+        적절한_경로_응답됨(changed, Arrays.asList(교대역, 양재역));
+        PathCacheResponse stats = 경로_캐시_통계_조회_요청().as(PathCacheResponse.class);
+        assertThat(stats.getHitCount()).isGreaterThanOrEqualTo(1);
+        assertThat(stats.getP99LookupMicros()).isPositive();
+    }
+
+    @DisplayName("연결되지 않은 역의 경로를 조회한다.")
+    @Test
+    void findPathNotConnected() {
+        // given
+        StationResponse 광교역 = 지하철역_등록되어_있음("광교역");
+
+        // when
+        ExtractableResponse<Response> response = 거리_경로_조회_요청(강남역.getId(), 광교역.getId());
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    public static ExtractableResponse<Response> 거리_경로_조회_요청(long source, long target) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths?source={sourceId}&target={targetId}", source, target)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 경로_조회_요청(long source, long target, String type) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths?source={sourceId}&target={targetId}&type={type}", source, target, type)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 도착_시각_경로_조회_요청(long source, long target, String time) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths?source={sourceId}&target={targetId}&type=ARRIVAL&time={time}", source, target, time)
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 거리_행렬_조회_요청(List<Long> sources, List<Long> targets) {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .queryParam("sources", sources.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .queryParam("targets", targets.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                .when().get("/paths/matrix")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 경로_캐시_통계_조회_요청() {
+        return RestAssured
+                .given().log().all()
+                .accept(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("/paths/cache")
+                .then().log().all()
+                .extract();
+    }
+
+    public static void 적절한_경로_응답됨(ExtractableResponse<Response> response, List<StationResponse> expectedPath) {
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        PathResponse pathResponse = response.as(PathResponse.class);
+
+        List<Long> stationIds = pathResponse.getStations().stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+
+        List<Long> expectedPathIds = expectedPath.stream()
+                .map(StationResponse::getId)
+                .collect(Collectors.toList());
+
+        assertThat(stationIds).containsExactlyElementsOf(expectedPathIds);
+    }
+
+    public static void 총_거리가_함께_응답됨(ExtractableResponse<Response> response, int totalDistance) {
+        PathResponse pathResponse = response.as(PathResponse.class);
+        assertThat(pathResponse.getDistance()).isEqualTo(totalDistance);
+    }
+
+    public static void 총_소요_시간과_요금이_함께_응답됨(ExtractableResponse<Response> response, int totalDuration, int fare) {
+        PathResponse pathResponse = response.as(PathResponse.class);
+        assertThat(pathResponse.getDuration()).isEqualTo(totalDuration);
+        assertThat(pathResponse.getFare()).isEqualTo(fare);
+    }
+}
@@ -0,0 +1,36 @@
+package subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import subway.line.Line;
+import subway.line.LineDao;
+import subway.line.MemoryLineStore;
+import subway.line.Section;
+import subway.line.Sections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("경로 그래프 초기화")
+class SubwayGraphInitializerTest {
+    @DisplayName("애플리케이션 준비 이벤트를 기다리지 않고 컨텍스트를 띄우는 동안 그래프를 채운다.")
+    @Test
+    void initializeDuringRefresh() {
+        // given
+        LineDao lineDao = new LineDao(new MemoryLineStore());
+        lineDao.save(new Line("신분당선", "bg-red-600", new Sections(new Section(1L, 2L, 10))));
+
+        // when
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(SubwayGraph.class);
+        context.registerBean(LineDao.class, () -> lineDao);
+        context.registerBean(SubwayGraphInitializer.class);
+        context.refresh();
+
+        // then
+        SubwayGraph subwayGraph = context.getBean(SubwayGraph.class);
+        assertThat(subwayGraph.isEmpty()).isFalse();
+        assertThat(subwayGraph.findShortestPath(1L, 2L)).isPresent();
+        context.close();
+    }
+}
@@ -0,0 +1,226 @@
+package subway.path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.common.LongIntMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철 경로 그래프")
+class SubwayGraphTest {
+    private SubwayGraph subwayGraph;
+
+    @BeforeEach
+    void setUp() {
+        subwayGraph = new SubwayGraph();
+    }
+
+    @DisplayName("여러 노선에 걸친 최단 경로를 찾는다.")
+    @Test
+    void findShortestPath() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 10);
+        subwayGraph.addSection(2L, 1L, 3L, 2);
+        subwayGraph.addSection(3L, 3L, 4L, 3);
+        subwayGraph.addSection(1L, 2L, 4L, 10);
+
+        // when
+        PathResult result = subwayGraph.findShortestPath(2L, 4L).get();
+
+        // then
+        assertThat(result.getDistance()).isEqualTo(10);
+        assertThat(result.getStationIds()).containsExactly(2L, 4L);
+    }
+
+    @DisplayName("구간이 바뀌면 최단 경로도 바뀐다.")
+    @Test
+    void findShortestPathAfterChange() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 10);
+        subwayGraph.addSection(1L, 2L, 3L, 10);
+        subwayGraph.addSection(2L, 1L, 3L, 5);
+
+        // when
+        subwayGraph.removeSection(2L, 1L, 3L, 5);
+
+        // then
+        PathResult result = subwayGraph.findShortestPath(1L, 3L).get();
+        assertThat(result.getDistance()).isEqualTo(20);
+        assertThat(result.getStationIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @DisplayName("연결되지 않은 역 사이의 경로는 없다.")
+    @Test
+    void findShortestPathDisconnected() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 10);
+        subwayGraph.addSection(2L, 3L, 4L, 10);
+
+        // when
+        Optional<PathResult> result = subwayGraph.findShortestPath(1L, 4L);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(subwayGraph.findShortestPath(1L, 99L)).isEmpty();
+    }
+
+    @DisplayName("구간 추가와 삭제를 반복해도 다익스트라와 같은 거리를 돌려준다.")
+    @Test
+    void matchesDijkstraUnderIncrementalChanges() {
+        // given
+        Random random = new Random(7);
+        int stations = 300;
+        List<long[]> sections = new ArrayList<>();
+
+        for (int round = 0; round < 2000; round++) {
+            // when
+            if (sections.isEmpty() || random.nextInt(3) > 0) {
+                long[] section = {random.nextInt(5), 1 + random.nextInt(stations), 1 + random.nextInt(stations), 1 + random.nextInt(20)};
+                subwayGraph.addSection(section[0], section[1], section[2], (int) section[3]);
+                sections.add(section);
+            } else {
+                long[] section = sections.remove(random.nextInt(sections.size()));
+                subwayGraph.removeSection(section[0], section[1], section[2], (int) section[3]);
+            }
+
+            // then
+            if (round % 20 == 0) {
+                long source = 1 + random.nextInt(stations);
+                int[] expected = dijkstra(sections, stations, source);
+                for (long target = 1; target <= stations; target++) {
+                    if (target == source) {
+                        continue;
+                    }
+                    Optional<PathResult> result = subwayGraph.findShortestPath(source, target);
+                    int actual = result.map(PathResult::getDistance).orElse(Integer.MAX_VALUE);
+                    if (result.isPresent() || expected[(int) target] != Integer.MAX_VALUE) {
+                        assertThat(actual).isEqualTo(expected[(int) target]);
+                    }
+                }
+            }
+        }
+    }
+
+    @DisplayName("소요 시간 기준으로는 더 빠른 경로를 찾는다.")
+    @Test
+    void findShortestPathByDuration() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 5, 20);
+        subwayGraph.addSection(2L, 1L, 3L, 4, 3);
+        subwayGraph.addSection(2L, 3L, 2L, 4, 3);
+
+        // when
+        PathResult byDistance = subwayGraph.findShortestPath(1L, 2L, PathType.DISTANCE).get();
+        PathResult byDuration = subwayGraph.findShortestPath(1L, 2L, PathType.DURATION).get();
+
+        // then
+        assertThat(byDistance.getStationIds()).containsExactly(1L, 2L);
+        assertThat(byDistance.getDuration()).isEqualTo(20);
+        assertThat(byDuration.getStationIds()).containsExactly(1L, 3L, 2L);
+        assertThat(byDuration.getDistance()).isEqualTo(8);
+        assertThat(byDuration.getLineIds()).containsExactly(2L);
+    }
+
+    @DisplayName("거리 행렬은 출발역마다 경로를 찾은 결과와 같다.")
+    @Test
+    void distanceMatrix() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 10);
+        subwayGraph.addSection(2L, 1L, 3L, 2);
+        subwayGraph.addSection(3L, 3L, 4L, 3);
+        subwayGraph.addSection(1L, 2L, 4L, 10);
+        subwayGraph.addSection(4L, 5L, 6L, 1);
+        LongIntMap extraFares = new LongIntMap(4);
+        extraFares.put(3L, 500);
+
+        // when
+        DistanceMatrix matrix = subwayGraph.distanceMatrix(new long[]{1L, 2L}, new long[]{4L, 2L, 6L}, extraFares);
+
+        // then
+        assertThat(matrix.getDistances()).isDeepEqualTo(new int[][]{{5, 10, DistanceMatrix.UNREACHABLE}, {10, 0, DistanceMatrix.UNREACHABLE}});
+        assertThat(matrix.getMaxExtraFares()[0][0]).isEqualTo(500);
+        assertThat(matrix.getMaxExtraFares()[1][0]).isEqualTo(0);
+    }
+
+    @DisplayName("다른 노선의 종점을 늘려도 기존 경로는 그대로 유효하다.")
+    @Test
+    void validAfterUnrelatedExtension() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 10);
+        subwayGraph.addSection(2L, 2L, 3L, 5);
+        PathResult result = subwayGraph.findShortestPath(1L, 2L).get();
+
+        // when
+        subwayGraph.addSection(2L, 3L, 4L, 5);
+
+        // then
+        assertThat(subwayGraph.isValid(result)).isTrue();
+    }
+
+    @DisplayName("경로가 지나는 노선이 바뀌면 경로를 다시 구해야 한다.")
+    @Test
+    void invalidAfterLineChanged() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 10);
+        subwayGraph.addSection(1L, 2L, 3L, 10);
+        PathResult result = subwayGraph.findShortestPath(1L, 3L).get();
+
+        // when
+        subwayGraph.removeSection(1L, 2L, 3L, 10);
+
+        // then
+        assertThat(subwayGraph.isValid(result)).isFalse();
+    }
+
+    @DisplayName("기존 역 사이를 잇는 구간이 생기면 다른 노선의 경로도 다시 구해야 한다.")
+    @Test
+    void invalidAfterShortcut() {
+        // given
+        subwayGraph.addSection(1L, 1L, 2L, 10);
+        subwayGraph.addSection(1L, 2L, 3L, 10);
+        subwayGraph.addSection(2L, 3L, 4L, 5);
+        PathResult result = subwayGraph.findShortestPath(1L, 3L).get();
+
+        // when
+        subwayGraph.addSection(2L, 4L, 1L, 5);
+
+        // then
+        assertThat(subwayGraph.isValid(result)).isFalse();
+        assertThat(subwayGraph.findShortestPath(1L, 3L).get().getDistance()).isEqualTo(10);
+    }
+
+    private int[] dijkstra(List<long[]> sections, int stations, long source) {
+        int[] distances = new int[stations + 1];
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[(int) source] = 0;
+        PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+        queue.add(new int[]{(int) source, 0});
+        while (!queue.isEmpty()) {
+            int[] current = queue.poll();
+            if (current[1] > distances[current[0]]) {
+                continue;
+            }
+            for (long[] section : sections) {
+                int next = -1;
+                if (section[1] == current[0]) {
+                    next = (int) section[2];
+                } else if (section[2] == current[0]) {
+                    next = (int) section[1];
+                }
+                if (next != -1 && current[1] + section[3] < distances[next]) {
+                    distances[next] = current[1] + (int) section[3];
+                    queue.add(new int[]{next, distances[next]});
+                }
+            }
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,213 @@
+package subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.line.Line;
+import subway.line.LineSchedule;
+import subway.line.Section;
+import subway.line.Sections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("노선 시간표 경로")
+class TimetableTest {
+    private static final int TRANSFER_MINUTES = 4;
+
+    @DisplayName("다음 열차를 기다려 타고, 가장 일찍 도착하는 역까지 간다.")
+    @Test
+    void findEarliestArrival() {
+        // given
+        Line line = line(1L, new LineSchedule(6 * 60, 23 * 60, 10), 1L, 2L, 5, 3L, 7);
+        Timetable timetable = Timetable.build(Arrays.asList(line), 1L, TRANSFER_MINUTES);
+
+        // when
+        ArrivalResult result = timetable.findEarliestArrival(1L, 3L, 8 * 60 + 3).get();
+
+        // then
+        assertThat(result.getStationIds()).containsExactly(1L, 2L, 3L);
+        assertThat(result.getDeparture()).isEqualTo(8 * 60 + 10);
+        assertThat(result.getArrival()).isEqualTo(8 * 60 + 22);
+        assertThat(result.getLineIds()).containsExactly(1L);
+        assertThat(result.getTransfers()).isZero();
+    }
+
+    @DisplayName("상행 열차는 하행 종점에서 같은 시각에 출발한다.")
+    @Test
+    void findEarliestArrivalUpward() {
+        // given
+        Line line = line(1L, new LineSchedule(6 * 60, 23 * 60, 10), 1L, 2L, 5, 3L, 7);
+        Timetable timetable = Timetable.build(Arrays.asList(line), 1L, TRANSFER_MINUTES);
+
+        // when
+        ArrivalResult result = timetable.findEarliestArrival(2L, 1L, 8 * 60).get();
+
+        // then
+        assertThat(result.getStationIds()).containsExactly(2L, 1L);
+        assertThat(result.getDeparture()).isEqualTo(8 * 60 + 7);
+        assertThat(result.getArrival()).isEqualTo(8 * 60 + 12);
+    }
+
+    @DisplayName("갈아타는 데 걸리는 시간보다 빠듯한 열차는 타지 못한다.")
+    @Test
+    void transferPenalty() {
+        // given
+        Line first = line(1L, new LineSchedule(8 * 60, 8 * 60, 60), 1L, 2L, 10);
+        Line connecting = line(2L, new LineSchedule(8 * 60 + 12, 9 * 60 + 12, 30), 2L, 3L, 5);
+        Timetable timetable = Timetable.build(Arrays.asList(first, connecting), 1L, TRANSFER_MINUTES);
+
+        // when
+        ArrivalResult result = timetable.findEarliestArrival(1L, 3L, 8 * 60).get();
+
+        // then
+        assertThat(result.getStationIds()).containsExactly(1L, 2L, 3L);
+        assertThat(result.getLineIds()).containsExactly(1L, 2L);
+        assertThat(result.getArrival()).isEqualTo(8 * 60 + 47);
+        assertThat(result.getTransfers()).isEqualTo(1);
+    }
+
+    @DisplayName("막차가 떠난 뒤에는 경로가 없고, 자정을 넘긴 막차는 0시대에 탈 수 있다.")
+    @Test
+    void lastTrain() {
+        // given
+        Line daytime = line(1L, new LineSchedule(6 * 60, 23 * 60, 30), 1L, 2L, 5);
+        Line overnight = line(2L, new LineSchedule(6 * 60, 24 * 60 + 30, 30), 3L, 4L, 5);
+        Timetable timetable = Timetable.build(Arrays.asList(daytime, overnight), 1L, TRANSFER_MINUTES);
+
+        // when
+        Optional<ArrivalResult> missed = timetable.findEarliestArrival(1L, 2L, 23 * 60 + 10);
+        ArrivalResult afterMidnight = timetable.findEarliestArrival(3L, 4L, 20).get();
+
+        // then
+        assertThat(missed).isEmpty();
+        assertThat(afterMidnight.getDeparture()).isEqualTo(24 * 60 + 30);
+        assertThat(afterMidnight.getArrival() - afterMidnight.getRequestedDeparture()).isEqualTo(15);
+    }
+
+    @DisplayName("0시대에는 자정을 넘긴 막차와 그날 첫차 중 실제로 더 일찍 도착하는 열차를 탄다.")
+    @Test
+    void earlierOfOvernightAndFirstTrain() {
+        // given
+        Line slowOvernight = line(1L, new LineSchedule(6 * 60, 24 * 60 + 30, 30), 1L, 2L, 60);
+        Line earlyFirstTrain = line(2L, new LineSchedule(10, 23 * 60, 30), 1L, 2L, 5);
+        Timetable timetable = Timetable.build(Arrays.asList(slowOvernight, earlyFirstTrain), 1L, TRANSFER_MINUTES);
+
+        // when
+        ArrivalResult result = timetable.findEarliestArrival(1L, 2L, 5).get();
+
+        // then
+        assertThat(result.getDeparture()).isEqualTo(10);
+        assertThat(result.getArrival()).isEqualTo(15);
+        assertThat(result.getLineIds()).containsExactly(2L);
+    }
+
+    @DisplayName("무작위 노선망에서 연결 스캔의 도착 시각이 모든 연결을 반복해 완화한 결과와 같다.")
+    @Test
+    void matchesFixpointReference() {
+        // given
+        Random random = new Random(23);
+        List<Line> lines = new ArrayList<>();
+        for (long lineId = 1; lineId <= 12; lineId++) {
+            lines.add(randomLine(random, lineId, 40));
+        }
+        Timetable timetable = Timetable.build(lines, 1L, TRANSFER_MINUTES);
+
+        for (int i = 0; i < 200; i++) {
+            long source = 1 + random.nextInt(40);
+            long target = 1 + random.nextInt(40);
+            int departure = 5 * 60 + random.nextInt(18 * 60);
+
+            // when
+            Optional<ArrivalResult> result = timetable.findEarliestArrival(source, target, departure);
+
+            // then
+            int expected = referenceArrival(lines, source, target, departure);
+            assertThat(result.map(ArrivalResult::getArrival).orElse(Integer.MAX_VALUE)).isEqualTo(expected);
+        }
+    }
+
+    private static Line line(long id, LineSchedule schedule, long firstStationId, Object... stationsAndDurations) {
+        List<Section> sections = new ArrayList<>();
+        long up = firstStationId;
+        for (int i = 0; i < stationsAndDurations.length; i += 2) {
+            long down = (Long) stationsAndDurations[i];
+            int duration = (Integer) stationsAndDurations[i + 1];
+            sections.add(new Section(up, down, duration, duration));
+            up = down;
+        }
+        return new Line(id, "노선" + id, "bg-gray-600", 0, schedule, Sections.of(sections));
+    }
+
+    private static Line randomLine(Random random, long id, int stationCount) {
+        List<Long> stations = new ArrayList<>();
+        for (long stationId = 1; stationId <= stationCount; stationId++) {
+            stations.add(stationId);
+        }
+        Collections.shuffle(stations, random);
+        int length = 2 + random.nextInt(8);
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            int duration = random.nextInt(6);
+            sections.add(new Section(stations.get(i), stations.get(i + 1), 1 + duration, duration));
+        }
+        int first = 5 * 60 + random.nextInt(60);
+        LineSchedule schedule = new LineSchedule(first, first + 17 * 60 + random.nextInt(120), 3 + random.nextInt(15));
+        return new Line(id, "노선" + id, "bg-gray-600", 0, schedule, Sections.of(sections));
+    }
+
+    /**
+     * 열차마다 달리는 순서의 연결 목록을 만들고, 더 이상 바뀌지 않을 때까지 모든 열차를 처음부터 다시 따라가며 도착 시각을 줄입니다.
+     */
+    private static int referenceArrival(List<Line> lines, long source, long target, int departure) {
+        List<int[][]> trains = new ArrayList<>();
+        for (Line line : lines) {
+            List<Section> sections = line.getSections().getSections();
+            LineSchedule schedule = line.getSchedule();
+            for (int start = schedule.getFirstDeparture(); start <= schedule.getLastDeparture(); start += schedule.getHeadway()) {
+                int[][] down = new int[sections.size()][];
+                int time = start;
+                for (int i = 0; i < sections.size(); i++) {
+                    Section section = sections.get(i);
+                    down[i] = new int[]{(int) section.getUpStationId(), (int) section.getDownStationId(), time, time + section.getDuration()};
+                    time += section.getDuration();
+                }
+                int[][] up = new int[sections.size()][];
+                time = start;
+                for (int i = sections.size() - 1; i >= 0; i--) {
+                    Section section = sections.get(i);
+                    up[sections.size() - 1 - i] = new int[]{(int) section.getDownStationId(), (int) section.getUpStationId(), time, time + section.getDuration()};
+                    time += section.getDuration();
+                }
+                trains.add(down);
+                trains.add(up);
+            }
+        }
+        int[] arrivals = new int[64];
+        Arrays.fill(arrivals, Integer.MAX_VALUE);
+        arrivals[(int) source] = departure;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int[][] train : trains) {
+                boolean onBoard = false;
+                for (int[] connection : train) {
+                    int from = connection[0];
+                    int ready = arrivals[from] == Integer.MAX_VALUE ? Integer.MAX_VALUE
+                            : from == source ? arrivals[from] : arrivals[from] + TRANSFER_MINUTES;
+                    onBoard |= ready <= connection[2];
+                    if (onBoard && connection[3] < arrivals[connection[1]]) {
+                        arrivals[connection[1]] = connection[3];
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return source == target ? departure : arrivals[(int) target];
+    }
+}
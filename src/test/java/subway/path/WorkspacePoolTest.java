@@ -0,0 +1,72 @@
+package subway.path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("탐색 작업 배열 풀")
+class WorkspacePoolTest {
+
+    @DisplayName("요청마다 새 스레드가 빌려도 앞선 스레드가 돌려준 작업 배열을 다시 쓴다.")
+    @Test
+    void reuseAcrossThreads() throws InterruptedException {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        WorkspacePool<SearchSpace> pool = new WorkspacePool<>(() -> {
+            created.incrementAndGet();
+            return new SearchSpace();
+        }, 2);
+        AtomicReference<SearchSpace> first = new AtomicReference<>();
+        AtomicReference<SearchSpace> second = new AtomicReference<>();
+
+        // when
+        요청_스레드에서_빌려_쓰기(pool, first);
+        요청_스레드에서_빌려_쓰기(pool, second);
+
+        // then
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @DisplayName("동시에 빌린 만큼 새로 만들지만, 돌려받아 쉬게 두는 것은 capacity 개까지다.")
+    @Test
+    void boundedIdle() {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        WorkspacePool<SearchSpace> pool = new WorkspacePool<>(() -> {
+            created.incrementAndGet();
+            return new SearchSpace();
+        }, 2);
+        SearchSpace[] borrowed = new SearchSpace[4];
+        for (int i = 0; i < borrowed.length; i++) {
+            borrowed[i] = pool.borrow();
+        }
+
+        // when
+        for (SearchSpace space : borrowed) {
+            pool.release(space);
+        }
+        for (int i = 0; i < borrowed.length; i++) {
+            pool.borrow();
+        }
+
+        // then
+        assertThat(created.get()).isEqualTo(6);
+    }
+
+    private static void 요청_스레드에서_빌려_쓰기(WorkspacePool<SearchSpace> pool, AtomicReference<SearchSpace> used)
+            throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            SearchSpace space = pool.borrow();
+            space.prepare(1024, 8);
+            used.set(space);
+            pool.release(space);
+        });
+        thread.start();
+        thread.join();
+    }
+}
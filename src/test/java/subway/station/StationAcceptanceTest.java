@@ -8,12 +8,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import subway.AcceptanceTest;
+import subway.line.LineResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static subway.line.LineAcceptanceTest.지하철_노선_등록되어_있음;
+import static subway.line.LineAcceptanceTest.지하철_노선_조회_요청;
+import static subway.line.SectionAcceptanceTest.지하철_노선에_지하철역_순서_정렬됨;
 
 @DisplayName("지하철역 관련 기능")
 public class StationAcceptanceTest extends AcceptanceTest {
@@ -30,6 +35,78 @@ public class StationAcceptanceTest extends AcceptanceTest {
         지하철역_생성됨(response);
     }
 
+    @DisplayName("기존에 존재하는 지하철역 이름으로 지하철역을 생성한다.")
+    @Test
+    void createStationWithDuplicateName() {
+        // given
+        지하철역_등록되어_있음(강남역);
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_생성_요청(강남역);
+
+        // then
+        지하철역_생성_실패됨(response);
+    }
+
+    @DisplayName("지하철역 여러 개를 한 번에 생성한다.")
+    @Test
+    void createStations() {
+        // when
+        ExtractableResponse<Response> response = 지하철역_일괄_생성_요청(Arrays.asList(강남역, 역삼역));
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly(강남역, 역삼역);
+    }
+
+    @DisplayName("NDJSON 으로 지하철역 여러 개를 한 번에 생성한다.")
+    @Test
+    void importStations() {
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .body("{\"name\":\"강남역\"}\n{\"name\":\"역삼역\"}\n".getBytes(StandardCharsets.UTF_8))
+                .contentType("application/x-ndjson")
+                .when().post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.jsonPath().getList("name", String.class)).containsExactly(강남역, 역삼역);
+    }
+
+    @DisplayName("NDJSON 본문에 읽을 수 없는 줄이 있으면 아무 역도 생성하지 않고 400 으로 응답한다.")
+    @Test
+    void importStationsWithMalformedLine() {
+        // when
+        ExtractableResponse<Response> response = RestAssured
+                .given().log().all()
+                .body("{\"name\":\"강남역\"}\n{\"name\":\n".getBytes(StandardCharsets.UTF_8))
+                .contentType("application/x-ndjson")
+                .when().post("/stations/bulk")
+                .then().log().all()
+                .extract();
+
+        // then
+        지하철역_생성_실패됨(response);
+        assertThat(지하철역_목록_조회_요청().jsonPath().getList("name", String.class)).isEmpty();
+    }
+
+    @DisplayName("이미 존재하는 이름이 섞여 있으면 아무 역도 생성하지 않는다.")
+    @Test
+    void createStationsWithDuplicateName() {
+        // given
+        지하철역_등록되어_있음(역삼역);
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_일괄_생성_요청(Arrays.asList(강남역, 역삼역));
+
+        // then
+        지하철역_생성_실패됨(response);
+        assertThat(지하철역_목록_조회_요청().jsonPath().getList("name", String.class)).containsExactly(역삼역);
+    }
+
     @DisplayName("지하철역을 조회한다.")
     @Test
     void getStations() {
@@ -45,6 +122,99 @@ public class StationAcceptanceTest extends AcceptanceTest {
         지하철역_목록_포함됨(response, Arrays.asList(stationResponse1, stationResponse2));
     }
 
+    @DisplayName("지하철역 목록이 바뀌지 않았으면 다시 내려받지 않는다.")
+    @Test
+    void getStationsNotModified() {
+        // given
+        지하철역_등록되어_있음(강남역);
+        String etag = 지하철역_목록_조회_요청().header("ETag");
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_목록_조건부_조회_요청(etag);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @DisplayName("지하철역 목록이 바뀌면 새 목록을 내려받는다.")
+    @Test
+    void getStationsModified() {
+        // given
+        지하철역_등록되어_있음(강남역);
+        String etag = 지하철역_목록_조회_요청().header("ETag");
+        StationResponse stationResponse = 지하철역_등록되어_있음(역삼역);
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_목록_조건부_조회_요청(etag);
+
+        // then
+        지하철역_목록_응답됨(response);
+        지하철역_목록_포함됨(response, Arrays.asList(stationResponse));
+        assertThat(response.header("ETag")).isNotEqualTo(etag);
+    }
+
+    @DisplayName("지하철역 목록을 커서로 나누어 조회한다.")
+    @Test
+    void getStationsByCursor() {
+        // given
+        StationResponse stationResponse1 = 지하철역_등록되어_있음(강남역);
+        StationResponse stationResponse2 = 지하철역_등록되어_있음(역삼역);
+        StationResponse stationResponse3 = 지하철역_등록되어_있음("선릉역");
+
+        // when
+        ExtractableResponse<Response> firstPage = 지하철역_목록_페이지_조회_요청("/stations?limit=2");
+        ExtractableResponse<Response> lastPage = 지하철역_목록_페이지_조회_요청(다음_페이지_경로(firstPage));
+
+        // then
+        지하철역_목록_응답됨(firstPage);
+        assertThat(firstPage.jsonPath().getList("id", Long.class))
+                .containsExactly(stationResponse1.getId(), stationResponse2.getId());
+        지하철역_목록_응답됨(lastPage);
+        assertThat(lastPage.jsonPath().getList("id", Long.class)).containsExactly(stationResponse3.getId());
+        assertThat(lastPage.header("Link")).isNull();
+    }
+
+    @DisplayName("페이지 크기가 범위를 벗어나면 지하철역 목록을 조회할 수 없다.")
+    @Test
+    void getStationsWithInvalidLimit() {
+        // when
+        ExtractableResponse<Response> response = 지하철역_목록_페이지_조회_요청("/stations?limit=0");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @DisplayName("이름의 앞부분이나 초성으로 지하철역을 검색한다.")
+    @Test
+    void searchStations() {
+        // given
+        지하철역_일괄_생성_요청(Arrays.asList(강남역, 역삼역, "강남구청역", "양재역"));
+
+        // when
+        ExtractableResponse<Response> byPrefix = 지하철역_검색_요청("강남");
+        ExtractableResponse<Response> byInitials = 지하철역_검색_요청("ㅇㅅ");
+
+        // then
+        assertThat(byPrefix.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(byPrefix.jsonPath().getList("name", String.class)).containsExactly(강남역, "강남구청역");
+        assertThat(byInitials.jsonPath().getList("name", String.class)).containsExactly(역삼역);
+    }
+
+    @DisplayName("제거한 지하철역은 검색되지 않는다.")
+    @Test
+    void searchDeletedStation() {
+        // given
+        StationResponse stationResponse = 지하철역_등록되어_있음(강남역);
+        지하철역_제거_요청(stationResponse);
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_검색_요청("ㄱㄴ");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("name", String.class)).isEmpty();
+    }
+
     @DisplayName("지하철역을 제거한다.")
     @Test
     void deleteStation() {
@@ -58,6 +228,23 @@ public class StationAcceptanceTest extends AcceptanceTest {
         지하철역_삭제됨(response);
     }
 
+    @DisplayName("노선에 등록된 지하철역은 제거할 수 없다.")
+    @Test
+    void deleteStationOnLine() {
+        // given
+        StationResponse 강남 = 지하철역_등록되어_있음(강남역);
+        StationResponse 역삼 = 지하철역_등록되어_있음(역삼역);
+        LineResponse 이호선 = 지하철_노선_등록되어_있음("2호선", "bg-green-600", 강남, 역삼, 10);
+
+        // when
+        ExtractableResponse<Response> response = 지하철역_제거_요청(역삼);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+        지하철역_목록_포함됨(지하철역_목록_조회_요청(), Arrays.asList(강남, 역삼));
+        지하철_노선에_지하철역_순서_정렬됨(지하철_노선_조회_요청(이호선), Arrays.asList(강남, 역삼));
+    }
+
     public static StationResponse 지하철역_등록되어_있음(String name) {
         return 지하철역_생성_요청(name).as(StationResponse.class);
     }
@@ -74,6 +261,20 @@ public class StationAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철역_일괄_생성_요청(List<String> names) {
+        List<StationRequest> stationRequests = names.stream()
+                .map(StationRequest::new)
+                .collect(Collectors.toList());
+
+        return RestAssured
+                .given().log().all()
+                .body(stationRequests)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("/stations/bulk")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철역_목록_조회_요청() {
         return RestAssured
                 .given().log().all()
@@ -82,6 +283,41 @@ public class StationAcceptanceTest extends AcceptanceTest {
                 .extract();
     }
 
+    public static ExtractableResponse<Response> 지하철역_목록_페이지_조회_요청(String path) {
+        return RestAssured
+                .given().log().all()
+                .when().get(path)
+                .then().log().all()
+                .extract();
+    }
+
+    /**
+     * Link 헤더({@code </stations?after=1&limit=2>; rel="next"})에서 다음 페이지 경로를 꺼냅니다.
+     */
+    public static String 다음_페이지_경로(ExtractableResponse<Response> response) {
+        String link = response.header("Link");
+        assertThat(link).endsWith("rel=\"next\"");
+        return link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+    }
+
+    public static ExtractableResponse<Response> 지하철역_목록_조건부_조회_요청(String etag) {
+        return RestAssured
+                .given().log().all()
+                .header("If-None-Match", etag)
+                .when().get("/stations")
+                .then().log().all()
+                .extract();
+    }
+
+    public static ExtractableResponse<Response> 지하철역_검색_요청(String query) {
+        return RestAssured
+                .given().log().all()
+                .queryParam("q", query)
+                .when().get("/stations/search")
+                .then().log().all()
+                .extract();
+    }
+
     public static ExtractableResponse<Response> 지하철역_제거_요청(StationResponse stationResponse) {
         return RestAssured
                 .given().log().all()
@@ -95,6 +331,10 @@ public class StationAcceptanceTest extends AcceptanceTest {
         assertThat(response.header("Location")).isNotBlank();
     }
 
+    public static void 지하철역_생성_실패됨(ExtractableResponse<Response> response) {
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
     public static void 지하철역_목록_응답됨(ExtractableResponse<Response> response) {
         assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
     }
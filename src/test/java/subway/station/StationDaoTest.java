@@ -0,0 +1,136 @@
+package subway.station;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("지하철역 저장소 동시성")
+class StationDaoTest {
+    private static final int THREADS = 64;
+    private static final int STATIONS_PER_THREAD = 200;
+
+    private StationDao stationDao;
+
+    @BeforeEach
+    void setUp() {
+        stationDao = new StationDao(new MemoryStationStore());
+    }
+
+    @DisplayName("같은 이름의 지하철역은 저장할 수 없다.")
+    @Test
+    void saveDuplicateName() {
+        // given
+        stationDao.save(new Station("강남역"));
+
+        // when, then
+        assertThatThrownBy(() -> stationDao.save(new Station("강남역")))
+                .isInstanceOf(DuplicateStationException.class);
+    }
+
+    @DisplayName("여러 스레드가 동시에 저장해도 유실되거나 중복된 id가 없다.")
+    @Test
+    void concurrentSave() throws Exception {
+        // when
+        List<Long> ids = runConcurrently(thread -> {
+            List<Long> saved = new ArrayList<>();
+            for (int i = 0; i < STATIONS_PER_THREAD; i++) {
+                saved.add(stationDao.save(new Station(thread + "-" + i + "역")).getId());
+            }
+            return saved;
+        });
+
+        // then
+        assertThat(ids).hasSize(THREADS * STATIONS_PER_THREAD).doesNotHaveDuplicates();
+        assertThat(stationDao.findAll())
+                .extracting(Station::getId)
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @DisplayName("여러 스레드가 같은 이름을 동시에 저장하면 하나만 성공한다.")
+    @Test
+    void concurrentSaveSameName() throws Exception {
+        // given
+        AtomicInteger duplicates = new AtomicInteger();
+
+        // when
+        List<Long> ids = runConcurrently(thread -> {
+            List<Long> saved = new ArrayList<>();
+            try {
+                saved.add(stationDao.save(new Station("강남역")).getId());
+            } catch (DuplicateStationException e) {
+                duplicates.incrementAndGet();
+            }
+            return saved;
+        });
+
+        // then
+        assertThat(ids).hasSize(1);
+        assertThat(duplicates.get()).isEqualTo(THREADS - 1);
+        assertThat(stationDao.findAll()).hasSize(1);
+    }
+
+    @DisplayName("저장과 삭제가 동시에 일어나도 삭제되지 않은 역은 모두 남아있다.")
+    @Test
+    void concurrentSaveAndDelete() throws Exception {
+        // when
+        List<Long> keptIds = runConcurrently(thread -> {
+            List<Long> kept = new ArrayList<>();
+            for (int i = 0; i < STATIONS_PER_THREAD; i++) {
+                Station station = stationDao.save(new Station(thread + "-" + i + "역"));
+                if (i % 2 == 0) {
+                    stationDao.deleteById(station.getId());
+                    continue;
+                }
+                kept.add(station.getId());
+            }
+            return kept;
+        });
+
+        // then
+        List<Station> stations = stationDao.findAll();
+        assertThat(stations).extracting(Station::getId).containsExactlyInAnyOrderElementsOf(keptIds);
+        Set<String> names = stations.stream().map(Station::getName).collect(Collectors.toSet());
+        assertThat(names).hasSize(keptIds.size());
+    }
+
+    private List<Long> runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadNo = thread;
+            Callable<List<Long>> callable = () -> {
+                start.await();
+                return task.run(threadNo);
+            };
+            futures.add(executor.submit(callable));
+        }
+        start.countDown();
+
+        List<Long> results = new ArrayList<>();
+        for (Future<List<Long>> future : futures) {
+            results.addAll(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private interface ThreadTask {
+        List<Long> run(int thread);
+    }
+}
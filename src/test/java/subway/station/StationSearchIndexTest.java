@@ -0,0 +1,86 @@
+package subway.station;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("지하철역 이름 검색 색인")
+class StationSearchIndexTest {
+    private StationDao stationDao;
+    private StationSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        stationDao = new StationDao(new MemoryStationStore());
+        stationDao.save(new Station("강남역"));
+        stationDao.save(new Station("강남구청역"));
+        stationDao.save(new Station("강변역"));
+        stationDao.save(new Station("교대역"));
+        stationDao.save(new Station("남부터미널역"));
+        searchIndex = new StationSearchIndex(stationDao);
+    }
+
+    @DisplayName("이름이 검색어로 시작하는 역을 이름이 짧은 순서로 찾는다.")
+    @Test
+    void searchByPrefix() {
+        // when, then
+        assertThat(이름으로(searchIndex.search("강남", 10))).containsExactly("강남역", "강남구청역");
+        assertThat(이름으로(searchIndex.search("강", 10))).containsExactly("강남역", "강변역", "강남구청역");
+    }
+
+    @DisplayName("초성이나 초성이 섞인 검색어로 역을 찾는다.")
+    @Test
+    void searchByInitials() {
+        // when, then
+        assertThat(이름으로(searchIndex.search("ㄱㄴ", 10))).containsExactly("강남역", "강남구청역");
+        assertThat(이름으로(searchIndex.search("강ㅂ", 10))).containsExactly("강변역");
+        assertThat(이름으로(searchIndex.search("ㄱ", 10))).containsExactly("강남역", "강변역", "교대역", "강남구청역");
+    }
+
+    @DisplayName("검색어의 마지막 음절은 받침을 아직 입력하지 않은 것으로 본다.")
+    @Test
+    void searchByOpenSyllable() {
+        // when, then
+        assertThat(이름으로(searchIndex.search("가", 10))).containsExactly("강남역", "강변역", "강남구청역");
+        assertThat(이름으로(searchIndex.search("강나", 10))).containsExactly("강남역", "강남구청역");
+        assertThat(searchIndex.search("가남", 10)).isEmpty();
+    }
+
+    @DisplayName("공백과 대소문자는 가리지 않고, limit 개까지만 돌려준다.")
+    @Test
+    void searchNormalizedWithLimit() {
+        // given
+        searchIndex.add(stationDao.save(new Station("DMC역")));
+
+        // when, then
+        assertThat(이름으로(searchIndex.search(" d m", 10))).containsExactly("DMC역");
+        assertThat(searchIndex.search("ㄱ", 2)).hasSize(2);
+        assertThat(searchIndex.search(" ", 10)).isEmpty();
+    }
+
+    @DisplayName("역을 더하거나 지우면 바로 검색 결과에 반영된다.")
+    @Test
+    void addAndRemove() {
+        // given
+        Station 강동역 = stationDao.save(new Station("강동역"));
+        Station 강남역 = stationDao.findAll().get(0);
+
+        // when
+        searchIndex.onStationCreated(new StationCreatedEvent(강동역));
+        searchIndex.onStationDeleted(new StationDeletedEvent(강남역));
+
+        // then
+        assertThat(이름으로(searchIndex.search("강", 10))).containsExactly("강동역", "강변역", "강남구청역");
+        assertThat(searchIndex.size()).isEqualTo(5);
+    }
+
+    private String[] 이름으로(List<Long> stationIds) {
+        return stationIds.stream()
+                .map(id -> stationDao.findById(id).get().getName())
+                .toArray(String[]::new);
+    }
+}
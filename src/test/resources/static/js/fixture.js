@@ -0,0 +1,41 @@
+// 미리 압축한 번들을 Accept-Encoding 에 맞춰 보내는지 확인하는 인수 테스트용 파일입니다.
+window.fixture0 = function () { return 0; };
+window.fixture1 = function () { return 1; };
+window.fixture2 = function () { return 2; };
+window.fixture3 = function () { return 3; };
+window.fixture4 = function () { return 4; };
+window.fixture5 = function () { return 5; };
+window.fixture6 = function () { return 6; };
+window.fixture7 = function () { return 7; };
+window.fixture8 = function () { return 8; };
+window.fixture9 = function () { return 9; };
+window.fixture10 = function () { return 10; };
+window.fixture11 = function () { return 11; };
+window.fixture12 = function () { return 12; };
+window.fixture13 = function () { return 13; };
+window.fixture14 = function () { return 14; };
+window.fixture15 = function () { return 15; };
+window.fixture16 = function () { return 16; };
+window.fixture17 = function () { return 17; };
+window.fixture18 = function () { return 18; };
+window.fixture19 = function () { return 19; };
+window.fixture20 = function () { return 20; };
+window.fixture21 = function () { return 21; };
+window.fixture22 = function () { return 22; };
+window.fixture23 = function () { return 23; };
+window.fixture24 = function () { return 24; };
+window.fixture25 = function () { return 25; };
+window.fixture26 = function () { return 26; };
+window.fixture27 = function () { return 27; };
+window.fixture28 = function () { return 28; };
+window.fixture29 = function () { return 29; };
+window.fixture30 = function () { return 30; };
+window.fixture31 = function () { return 31; };
+window.fixture32 = function () { return 32; };
+window.fixture33 = function () { return 33; };
+window.fixture34 = function () { return 34; };
+window.fixture35 = function () { return 35; };
+window.fixture36 = function () { return 36; };
+window.fixture37 = function () { return 37; };
+window.fixture38 = function () { return 38; };
+window.fixture39 = function () { return 39; };